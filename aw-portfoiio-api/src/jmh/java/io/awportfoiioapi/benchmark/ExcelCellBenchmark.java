@@ -0,0 +1,99 @@
+package io.awportfoiioapi.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.awportfoiioapi.excel.plan.ExcelColumnPlan;
+import io.awportfoiioapi.excel.plan.ExcelColumnWidthTracker;
+import io.awportfoiioapi.submission.document.SubmissionDocument;
+import io.awportfoiioapi.submission.document.SubmissionDocumentReader;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 단건 제출 엑셀 (ExcelServiceImpl.createSubmissionExcel) 셀 작성 비용
+ * - DB / 캐시 조회를 뺀 나머지 (JSON -> 문서, 헤더/데이터 행 작성, 너비 적용, xlsx 직렬화)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExcelCellBenchmark {
+    
+    // 객실 / 스페셜 / 환불 / 체크박스 항목 수
+    @Param({"1", "10", "50"})
+    private int size;
+    
+    @Param({"20"})
+    private int textCount;
+    
+    private SubmissionDocumentReader reader;
+    private ExcelColumnPlan plan;
+    private String json;
+    
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        reader = new SubmissionDocumentReader(objectMapper);
+        plan = ExcelColumnPlan.from(SubmissionPayloads.columns(textCount));
+        json = SubmissionPayloads.json(objectMapper, size, textCount);
+    }
+    
+    @Benchmark
+    public SubmissionDocument readDocument() {
+        return reader.read(json);
+    }
+    
+    @Benchmark
+    public Workbook buildCells() throws IOException {
+        try (Workbook workbook = new XSSFWorkbook()) {
+            writeSheet(workbook);
+            return workbook;
+        }
+    }
+    
+    @Benchmark
+    public byte[] createSubmissionExcel() throws IOException {
+        try (Workbook workbook = new XSSFWorkbook()) {
+            writeSheet(workbook);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            workbook.write(out);
+            return out.toByteArray();
+        }
+    }
+    
+    private void writeSheet(Workbook workbook) {
+        
+        SubmissionDocument document = reader.read(json);
+        
+        Sheet sheet = workbook.createSheet("제출 데이터");
+        Row headerRow = sheet.createRow(0);
+        Row dataRow = sheet.createRow(1);
+        
+        ExcelColumnWidthTracker widths = new ExcelColumnWidthTracker();
+        widths.write(headerRow, 0, "포트폴리오 제목");
+        widths.write(dataRow, 0, "벤치마크 포트폴리오");
+        
+        plan.writeHeader(headerRow, 1, widths);
+        plan.writeRow(dataRow, document, 1, widths);
+        
+        widths.apply(sheet);
+    }
+}
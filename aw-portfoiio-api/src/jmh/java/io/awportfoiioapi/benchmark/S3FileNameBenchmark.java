@@ -0,0 +1,61 @@
+package io.awportfoiioapi.benchmark;
+
+import io.awportfoiioapi.storage.impl.S3FileStorage;
+import io.awportfoiioapi.utils.S3FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * S3 URL -> key (S3FileUtils.getFileNameFromUrl)
+ * - uri : java.net.URI 파싱 기준 (비교용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class S3FileNameBenchmark {
+    
+    private static final String[] URLS = {
+            "https://bucket.s3.ap-northeast-2.amazonaws.com/portfolio/3f2a9c1e-1b7d-4d0e-9a55-0c6e8f1d2b3a.jpg",
+            "https://bucket.s3.ap-northeast-2.amazonaws.com/submission/12/파일%20이름.pdf",
+            "https://bucket.s3.ap-northeast-2.amazonaws.com/submission/12/a.png?X-Amz-Algorithm=AWS4-HMAC-SHA256&X-Amz-Signature=abcdef",
+            "https://bucket.s3.ap-northeast-2.amazonaws.com/thumbnail/x.webp#preview"
+    };
+    
+    private S3FileUtils s3FileUtils;
+    
+    @Setup
+    public void setUp() {
+        // URL 파싱만 사용하므로 S3 클라이언트 / presign 캐시 없이 생성
+        s3FileUtils = new S3FileUtils(new S3FileStorage(null, null));
+    }
+    
+    @Benchmark
+    public void getFileNameFromUrl(Blackhole bh) {
+        for (String url : URLS) {
+            bh.consume(s3FileUtils.getFileNameFromUrl(url));
+        }
+    }
+    
+    @Benchmark
+    public void uri(Blackhole bh) {
+        for (String url : URLS) {
+            String path = URI.create(url).getRawPath();
+            bh.consume(path.startsWith("/") ? path.substring(1) : path);
+        }
+    }
+}
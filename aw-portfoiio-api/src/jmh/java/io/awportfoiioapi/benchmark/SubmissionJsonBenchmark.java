@@ -0,0 +1,120 @@
+package io.awportfoiioapi.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.awportfoiioapi.submission.document.SubmissionDocumentReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 제출 상세조회 (SubmissionServiceImpl.getSubmissions) JSON 디코드 -> 파일 키 교체 -> 재인코드
+ * - mapRoundTrip : Map&lt;String, Object&gt; 기준 (이전 방식, 비교용)
+ * - treeRoundTrip : SubmissionDocumentReader (ObjectNode) 기준 (현재 방식)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SubmissionJsonBenchmark {
+    
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
+    };
+    
+    @Param({"1", "10", "50"})
+    private int size;
+    
+    // 파일 옵션 수 (옵션당 파일 2개)
+    @Param({"5"})
+    private int fileOptions;
+    
+    private ObjectMapper objectMapper;
+    private SubmissionDocumentReader reader;
+    private String json;
+    
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        reader = new SubmissionDocumentReader(objectMapper);
+        
+        ObjectNode root = reader.readTree(SubmissionPayloads.json(objectMapper, size, 20));
+        for (int i = 0; i < fileOptions; i++) {
+            root.put(fileKey(i), "https://bucket.s3.ap-northeast-2.amazonaws.com/submission/old-" + i + ".jpg");
+        }
+        json = reader.write(root);
+    }
+    
+    @Benchmark
+    public String mapRoundTrip() throws Exception {
+        
+        Map<String, Object> responseMap = objectMapper.readValue(json, MAP_TYPE);
+        
+        for (int i = 0; i < fileOptions; i++) {
+            responseMap.remove(fileKey(i));
+        }
+        for (int i = 0; i < fileOptions; i++) {
+            List<Object> list = new ArrayList<>(2);
+            for (int f = 0; f < 2; f++) {
+                Map<String, Object> file = new HashMap<>();
+                file.put("type", "file");
+                file.put("fileId", (long) i * 2 + f);
+                file.put("url", presignedUrl(i, f));
+                list.add(file);
+            }
+            responseMap.put(fileKey(i), list);
+        }
+        
+        return objectMapper.writeValueAsString(responseMap);
+    }
+    
+    @Benchmark
+    public String treeRoundTrip() {
+        
+        ObjectNode responseNode = reader.readTree(json);
+        
+        for (int i = 0; i < fileOptions; i++) {
+            responseNode.remove(fileKey(i));
+        }
+        for (int i = 0; i < fileOptions; i++) {
+            String optionKey = fileKey(i);
+            for (int f = 0; f < 2; f++) {
+                JsonNode exist = responseNode.get(optionKey);
+                ArrayNode list = exist instanceof ArrayNode existList ? existList : responseNode.putArray(optionKey);
+                list.addObject()
+                        .put("type", "file")
+                        .put("fileId", (long) i * 2 + f)
+                        .put("url", presignedUrl(i, f));
+            }
+        }
+        
+        return reader.write(responseNode);
+    }
+    
+    private static String fileKey(int i) {
+        return String.valueOf(3000 + i);
+    }
+    
+    private static String presignedUrl(int option, int file) {
+        return "https://bucket.s3.ap-northeast-2.amazonaws.com/submission/" + option + "-" + file
+                + ".jpg?X-Amz-Algorithm=AWS4-HMAC-SHA256&X-Amz-Expires=600&X-Amz-Signature=abcdef0123456789";
+    }
+}
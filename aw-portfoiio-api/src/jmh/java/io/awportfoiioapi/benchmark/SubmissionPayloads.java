@@ -0,0 +1,116 @@
+package io.awportfoiioapi.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.awportfoiioapi.excel.dto.response.ExcelColumnResponse;
+import io.awportfoiioapi.options.enums.OptionsType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용 가짜 제출 JSON / 컬럼 메타
+ * - PARLOR / SPECIAL / REFUND / CHECKBOX(단일, 다중 라벨, 다중 인덱스) + 단답형
+ * - size : 객실 / 스페셜 / 환불규칙 / 체크박스 항목 수
+ */
+final class SubmissionPayloads {
+    
+    // 체크박스 옵션 ID 는 1000 부터, 단답형은 2000 부터
+    private static final long CHECKBOX_ID = 1000L;
+    private static final long TEXT_ID = 2000L;
+    private static final int CHECKBOX_COUNT = 3;
+    
+    private SubmissionPayloads() {
+    }
+    
+    static List<ExcelColumnResponse> columns(int textCount) {
+        
+        List<ExcelColumnResponse> columns = new ArrayList<>();
+        long questionId = 1L;
+        int orders = 1;
+        
+        columns.add(new ExcelColumnResponse(questionId++, 1L, orders++, OptionsType.PARLOR.name(), "객실"));
+        columns.add(new ExcelColumnResponse(questionId++, 2L, orders++, OptionsType.SPECIAL.name(), "스페셜"));
+        columns.add(new ExcelColumnResponse(questionId++, 3L, orders++, OptionsType.REFUND.name(), "환불"));
+        
+        for (int i = 0; i < CHECKBOX_COUNT; i++) {
+            columns.add(new ExcelColumnResponse(questionId++, CHECKBOX_ID + i, orders++, OptionsType.CHECKBOX.name(), "체크박스" + i));
+        }
+        for (int i = 0; i < textCount; i++) {
+            columns.add(new ExcelColumnResponse(questionId++, TEXT_ID + i, orders++, OptionsType.TEXT.name(), "단답형" + i));
+        }
+        return columns;
+    }
+    
+    static String json(ObjectMapper objectMapper, int size, int textCount) {
+        
+        ObjectNode root = objectMapper.createObjectNode();
+        
+        ArrayNode rooms = root.putArray("rooms");
+        for (int i = 0; i < size; i++) {
+            ObjectNode room = rooms.addObject()
+                    .put("id", "room-" + i)
+                    .put("name", "스탠다드 객실 " + i)
+                    .put("desc", "바다가 보이는 객실입니다. 최대 인원 초과 시 추가 요금이 있습니다.")
+                    .put("type", "온돌")
+                    .put("amenities", "TV, 냉장고, 에어컨, 드라이기");
+            room.putObject("capacity").put("standard", "2").put("max", "4");
+            price(room.putObject("priceLow"), 80000 + i);
+            price(room.putObject("priceMid"), 120000 + i);
+            price(room.putObject("priceHigh"), 180000 + i);
+        }
+        
+        ArrayNode specials = root.putArray("specials");
+        for (int i = 0; i < size; i++) {
+            specials.addObject()
+                    .put("id", "special-" + i)
+                    .put("name", "바베큐 " + i)
+                    .put("desc", "숯, 그릴 포함 / 1인 추가 시 10,000원");
+        }
+        
+        ArrayNode refunds = root.putArray("refunds");
+        refunds.addObject().put("id", "refund-1").put("percent", "0");
+        for (int i = 1; i < size; i++) {
+            refunds.addObject().put("id", "refund-" + (i + 1)).put("day", String.valueOf(i)).put("percent", String.valueOf(Math.min(100, i * 10)));
+        }
+        
+        // 단일선택
+        ObjectNode single = root.putObject(String.valueOf(CHECKBOX_ID));
+        single.put("selected", "기타");
+        single.putObject("inputs").put("기타", "직접 입력한 값");
+        
+        // 다중선택 (라벨)
+        ObjectNode labels = root.putObject(String.valueOf(CHECKBOX_ID + 1));
+        ArrayNode checkedLabels = labels.putArray("checked");
+        ObjectNode labelInputs = labels.putObject("inputs");
+        for (int i = 0; i < size; i++) {
+            checkedLabels.add("항목" + i);
+            if (i % 2 == 0) {
+                labelInputs.put("항목" + i, "입력" + i);
+            }
+        }
+        
+        // 다중선택 (인덱스)
+        ObjectNode indexes = root.putObject(String.valueOf(CHECKBOX_ID + 2));
+        ArrayNode checkedIndexes = indexes.putArray("checked");
+        ArrayNode indexInputs = indexes.putArray("inputs");
+        for (int i = 0; i < size; i++) {
+            checkedIndexes.add(i);
+            indexInputs.add("값" + i);
+        }
+        
+        for (int i = 0; i < textCount; i++) {
+            root.put(String.valueOf(TEXT_ID + i), "단답형 응답 " + i);
+        }
+        
+        return root.toString();
+    }
+    
+    private static void price(ObjectNode node, int base) {
+        node.put("weekday", String.valueOf(base))
+                .put("fri", String.valueOf(base + 20000))
+                .put("sat", String.valueOf(base + 40000))
+                .put("sun", String.valueOf(base + 10000));
+    }
+}
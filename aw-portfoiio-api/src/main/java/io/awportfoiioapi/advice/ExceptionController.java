@@ -2,9 +2,12 @@ package io.awportfoiioapi.advice;
 
 
 import io.awportfoiioapi.advice.exception.CustomException;
+import io.awportfoiioapi.advice.exception.SubmissionPatchException;
+import io.awportfoiioapi.advice.exception.SubmissionVersionConflictException;
 import io.awportfoiioapi.advice.response.ErrorMessageResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
@@ -47,6 +50,34 @@ public class ExceptionController {
         );
     }
     
+    /**
+     * 제출 JSON 버전 불일치 (변경분 저장 기준 버전이 오래됨 / 동시에 저장됨)
+     */
+    @ResponseStatus(HttpStatus.CONFLICT)
+    @ExceptionHandler({SubmissionVersionConflictException.class, OptimisticLockingFailureException.class})
+    public ErrorMessageResponse handleVersionConflictException(RuntimeException e) {
+        log.info("버전 충돌 ", e);
+        return new ErrorMessageResponse(
+                String.valueOf(HttpStatus.CONFLICT.value()),
+                e instanceof SubmissionVersionConflictException ? e.getMessage() : "다른 곳에서 먼저 저장되었습니다. 최신 내용을 다시 불러와 주세요."
+        );
+    }
+    
+    /**
+     * 제출 JSON 패치 적용 실패
+     */
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(SubmissionPatchException.class)
+    public ErrorMessageResponse handleSubmissionPatchException(SubmissionPatchException e) {
+        log.info("패치 적용 실패 ", e);
+        ErrorMessageResponse errorMessageResponse = new ErrorMessageResponse(
+                String.valueOf(HttpStatus.BAD_REQUEST.value()),
+                e.getMessage()
+        );
+        errorMessageResponse.addValidation(e.getField(), e.getMessage());
+        return errorMessageResponse;
+    }
+    
     /**
      * NullPointerException 등 예기치 않은 예외 처리
      */
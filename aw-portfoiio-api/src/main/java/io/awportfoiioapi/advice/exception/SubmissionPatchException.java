@@ -0,0 +1,18 @@
+package io.awportfoiioapi.advice.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 제출 JSON 패치 적용 실패 (잘못된 경로 / 연산, test 연산 불일치)
+ */
+public class SubmissionPatchException extends CustomException {
+    
+    public SubmissionPatchException(String message) {
+        super(message, "patch");
+    }
+    
+    @Override
+    public HttpStatus getStatus() {
+        return HttpStatus.BAD_REQUEST;
+    }
+}
@@ -0,0 +1,18 @@
+package io.awportfoiioapi.advice.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 제출 JSON 버전 불일치 (다른 곳에서 먼저 저장됨, 최신 응답 다시 조회 후 재시도)
+ */
+public class SubmissionVersionConflictException extends CustomException {
+    
+    public SubmissionVersionConflictException(String message) {
+        super(message, "version");
+    }
+    
+    @Override
+    public HttpStatus getStatus() {
+        return HttpStatus.CONFLICT;
+    }
+}
@@ -15,10 +15,19 @@ public class ApiResponse {
     private boolean success;
     private String message;
     private Long submissionId;
+    // 제출 JSON 버전 (임시저장 응답, 다음 변경분 저장의 기준)
+    private Long version;
     
     public ApiResponse(int code, boolean success, String message) {
         this.code = code;
         this.success = success;
         this.message = message;
     }
+    
+    public ApiResponse(int code, boolean success, String message, Long submissionId) {
+        this.code = code;
+        this.success = success;
+        this.message = message;
+        this.submissionId = submissionId;
+    }
 }
@@ -15,6 +15,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
 
 import javax.print.attribute.standard.QueuedJobCount;
+import java.util.Collection;
 import java.util.List;
 
 import static io.awportfoiioapi.category.entity.QCategory.category;
@@ -66,6 +67,31 @@ public class CategoryRepositoryImpl implements CategoryQueryRepository {
                 .fetch();
     }
     
+    /**
+     * 카테고리별 포트폴리오 수
+     * - 요청한 카테고리 id 만 집계 (포트폴리오가 없는 카테고리는 결과에 없음)
+     */
+    @Override
+    public List<CategoryCountResponse> getCategoryCount(Collection<Long> categoryIds) {
+        
+        if (categoryIds == null || categoryIds.isEmpty()) {
+            return List.of();
+        }
+        
+        return queryFactory
+                .select(
+                        new QCategoryCountResponse(
+                                category.id,
+                                category.count()
+                        )
+                )
+                .from(portfolio)
+                .join(portfolio.category, category)
+                .where(category.id.in(categoryIds))
+                .groupBy(category.id)
+                .fetch();
+    }
+    
     @Override
     public boolean existsByOrder(Integer order) {
         return queryFactory
@@ -6,6 +6,7 @@ import io.awportfoiioapi.category.entity.Category;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CategoryQueryRepository  {
@@ -14,6 +15,8 @@ public interface CategoryQueryRepository  {
     
     List<CategoryCountResponse> getCategoryCount();
     
+    List<CategoryCountResponse> getCategoryCount(Collection<Long> categoryIds);
+    
     boolean existsByOrder(Integer order);
     
     boolean existsByOrder(Integer order, Long excludeCategoryId);
@@ -4,12 +4,13 @@ import io.awportfoiioapi.advice.exception.CategoryAndPortfolioException;
 import io.awportfoiioapi.apiresponse.ApiResponse;
 import io.awportfoiioapi.category.dto.request.CategoryPostRequest;
 import io.awportfoiioapi.category.dto.request.CategoryPutRequest;
-import io.awportfoiioapi.category.dto.response.CategoryCountResponse;
 import io.awportfoiioapi.category.dto.response.CategoryGetAllResponse;
 import io.awportfoiioapi.category.dto.response.CategoryGetResponse;
 import io.awportfoiioapi.category.entity.Category;
 import io.awportfoiioapi.category.repository.CategoryRepository;
 import io.awportfoiioapi.category.service.CategoryService;
+import io.awportfoiioapi.counter.service.CounterService;
+import io.awportfoiioapi.portfolio.cache.PortfolioFormCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -27,17 +28,16 @@ import java.util.stream.Stream;
 public class CategoryServiceImpl implements CategoryService {
     
     private final CategoryRepository categoryRepository;
+    private final CounterService counterService;
+    private final PortfolioFormCache portfolioFormCache;
     
     @Override
     public Page<CategoryGetResponse> getCategoryList(Pageable pageable) {
         Page<CategoryGetResponse> categoryList = categoryRepository.getCategoryList(pageable);
-        List<CategoryCountResponse> counts = categoryRepository.getCategoryCount();
-        Map<Long, Long> countMap =
-                counts.stream()
-                        .collect(Collectors.toMap(
-                                CategoryCountResponse::getId,
-                                CategoryCountResponse::getCnt
-                        ));
+        // 현재 페이지 카테고리만 카운터 테이블에서 조회
+        Map<Long, Long> countMap = counterService.getCategoryCounts(
+                categoryList.getContent().stream().map(CategoryGetResponse::getId).toList()
+        );
         categoryList.forEach(category ->
                 category.getCount()
                         .setPortfolios(countMap.getOrDefault(category.getId(), 0L))
@@ -98,6 +98,9 @@ public class CategoryServiceImpl implements CategoryService {
         }
         category.modify(request);
         
+        // 포트폴리오 양식에 카테고리 정보가 포함되므로 전체 무효화
+        portfolioFormCache.evictAll();
+        
         return new ApiResponse(200, true, "카테고리가 수정되었습니다.");
     }
     
@@ -108,6 +111,7 @@ public class CategoryServiceImpl implements CategoryService {
             throw new CategoryAndPortfolioException("해당 카테고리에 등록된 포트폴리오가 있어 삭제할 수 없습니다.", "portfolio");
         }
         categoryRepository.deleteById(id);
+        counterService.removeCategory(id);
         return new ApiResponse(200, true, "카테고리가 삭제되었습니다.");
     }
 }
@@ -1,6 +1,8 @@
 package io.awportfoiioapi.config;
 
+import io.awportfoiioapi.metrics.S3MetricsInterceptor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
@@ -9,7 +11,9 @@ import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
+// 로컬 저장소(storage.type=local)에서는 S3 클라이언트를 만들지 않음
 @Configuration
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
 public class S3Config {
     
     @Value("${spring.cloud.aws.credentials.access-key}")
@@ -26,6 +30,8 @@ public class S3Config {
         return S3Client.builder()
                 .region(Region.of(region))
                 .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey)))
+                // 요청별 S3 호출 수 / 시간 측정
+                .overrideConfiguration(config -> config.addExecutionInterceptor(new S3MetricsInterceptor()))
                 .build();
     }
     @Bean
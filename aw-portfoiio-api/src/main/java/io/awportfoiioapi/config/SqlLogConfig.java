@@ -0,0 +1,35 @@
+package io.awportfoiioapi.config;
+
+import io.awportfoiioapi.log.SqlStatementMetrics;
+import io.awportfoiioapi.log.enums.SqlLogMode;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * log4jdbc SQL 계측 설정
+ * - sql.log.mode : METRICS(기본) / FORMAT(전체 정렬 로그) / OFF
+ * - slow-threshold 이상 걸린 쿼리, sample-rate 비율로 뽑힌 쿼리만 정렬해서 로그
+ */
+@Configuration
+public class SqlLogConfig {
+    
+    @Value("${sql.log.mode:METRICS}")
+    private SqlLogMode mode;
+    
+    @Value("${sql.log.slow-threshold:200ms}")
+    private Duration slowThreshold;
+    
+    @Value("${sql.log.sample-rate:0.0}")
+    private double sampleRate;
+    
+    @Value("${sql.log.max-shapes:500}")
+    private int maxShapes;
+    
+    @PostConstruct
+    public void init() {
+        SqlStatementMetrics.configure(mode, slowThreshold, sampleRate, maxShapes);
+    }
+}
@@ -0,0 +1,27 @@
+package io.awportfoiioapi.config;
+
+import io.awportfoiioapi.metrics.QueryBudgetInterceptor;
+import io.awportfoiioapi.metrics.RequestMetricsContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+    
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // 컨트롤러별 SQL 실행 한도 (@QueryBudget)
+        registry.addInterceptor(new QueryBudgetInterceptor());
+    }
+    
+    /**
+     * applicationTaskExecutor (MVC 비동기 응답 본문 작성 등) 작업에 요청 메트릭 누적값 전달
+     */
+    @Bean
+    public TaskDecorator requestMetricsTaskDecorator() {
+        return RequestMetricsContext::propagate;
+    }
+}
@@ -0,0 +1,33 @@
+package io.awportfoiioapi.counter.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.*;
+
+/**
+ * 카테고리별 집계 카운터
+ * - 카테고리에 속한 포트폴리오 수를 쓰기 시점에 증감해서 보관
+ */
+@Table(name = "CATEGORY_COUNTER")
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class CategoryCounter {
+    
+    // 카테고리 ID (CATEGORY.CATEGORY_ID 와 동일)
+    @Id
+    @Column(name = "CATEGORY_ID")
+    private Long categoryId;
+    
+    // 포트폴리오 수
+    @Column(name = "PORTFOLIO_COUNT")
+    private Long portfolioCount;
+    
+    public void reset(Long portfolioCount) {
+        this.portfolioCount = portfolioCount;
+    }
+}
@@ -0,0 +1,39 @@
+package io.awportfoiioapi.counter.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.*;
+
+/**
+ * 포트폴리오별 집계 카운터
+ * - 질문(옵션) 수 / 제출완료 수를 쓰기 시점에 증감해서 보관
+ * - 목록 조회 시 집계 쿼리 대신 PK 조회로 대체
+ */
+@Table(name = "PORTFOLIO_COUNTER")
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class PortfolioCounter {
+    
+    // 포트폴리오 ID (PORTFOLIO.PORTFOLIO_ID 와 동일)
+    @Id
+    @Column(name = "PORTFOLIO_ID")
+    private Long portfolioId;
+    
+    // 질문(옵션) 수
+    @Column(name = "QUESTION_COUNT")
+    private Long questionCount;
+    
+    // 제출완료 수
+    @Column(name = "SUBMISSION_COUNT")
+    private Long submissionCount;
+    
+    public void reset(Long questionCount, Long submissionCount) {
+        this.questionCount = questionCount;
+        this.submissionCount = submissionCount;
+    }
+}
@@ -0,0 +1,8 @@
+package io.awportfoiioapi.counter.repository;
+
+import io.awportfoiioapi.counter.entity.CategoryCounter;
+import io.awportfoiioapi.counter.repository.query.CategoryCounterQueryRepository;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface CategoryCounterRepository extends JpaRepository<CategoryCounter, Long>, CategoryCounterQueryRepository {
+}
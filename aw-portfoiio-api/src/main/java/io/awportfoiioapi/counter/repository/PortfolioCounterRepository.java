@@ -0,0 +1,8 @@
+package io.awportfoiioapi.counter.repository;
+
+import io.awportfoiioapi.counter.entity.PortfolioCounter;
+import io.awportfoiioapi.counter.repository.query.PortfolioCounterQueryRepository;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PortfolioCounterRepository extends JpaRepository<PortfolioCounter, Long>, PortfolioCounterQueryRepository {
+}
@@ -0,0 +1,26 @@
+package io.awportfoiioapi.counter.repository.impl;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.awportfoiioapi.counter.repository.query.CategoryCounterQueryRepository;
+import lombok.RequiredArgsConstructor;
+
+import static io.awportfoiioapi.counter.entity.QCategoryCounter.categoryCounter;
+
+@RequiredArgsConstructor
+public class CategoryCounterRepositoryImpl implements CategoryCounterQueryRepository {
+    
+    private final JPAQueryFactory queryFactory;
+    
+    /**
+     * 포트폴리오 수 증감 (DB 에서 원자적으로 col = col + delta)
+     * - 반환값 0 이면 카운터 행이 없는 것
+     */
+    @Override
+    public long addPortfolioCount(Long categoryId, long delta) {
+        return queryFactory
+                .update(categoryCounter)
+                .set(categoryCounter.portfolioCount, categoryCounter.portfolioCount.add(delta))
+                .where(categoryCounter.categoryId.eq(categoryId))
+                .execute();
+    }
+}
@@ -0,0 +1,39 @@
+package io.awportfoiioapi.counter.repository.impl;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.awportfoiioapi.counter.repository.query.PortfolioCounterQueryRepository;
+import lombok.RequiredArgsConstructor;
+
+import static io.awportfoiioapi.counter.entity.QPortfolioCounter.portfolioCounter;
+
+@RequiredArgsConstructor
+public class PortfolioCounterRepositoryImpl implements PortfolioCounterQueryRepository {
+    
+    private final JPAQueryFactory queryFactory;
+    
+    /**
+     * 질문 수 증감 (DB 에서 원자적으로 col = col + delta)
+     * - 반환값 0 이면 카운터 행이 없는 것
+     */
+    @Override
+    public long addQuestionCount(Long portfolioId, long delta) {
+        return queryFactory
+                .update(portfolioCounter)
+                .set(portfolioCounter.questionCount, portfolioCounter.questionCount.add(delta))
+                .where(portfolioCounter.portfolioId.eq(portfolioId))
+                .execute();
+    }
+    
+    /**
+     * 제출완료 수 증감 (DB 에서 원자적으로 col = col + delta)
+     * - 반환값 0 이면 카운터 행이 없는 것
+     */
+    @Override
+    public long addSubmissionCount(Long portfolioId, long delta) {
+        return queryFactory
+                .update(portfolioCounter)
+                .set(portfolioCounter.submissionCount, portfolioCounter.submissionCount.add(delta))
+                .where(portfolioCounter.portfolioId.eq(portfolioId))
+                .execute();
+    }
+}
@@ -0,0 +1,6 @@
+package io.awportfoiioapi.counter.repository.query;
+
+public interface CategoryCounterQueryRepository {
+    
+    long addPortfolioCount(Long categoryId, long delta);
+}
@@ -0,0 +1,8 @@
+package io.awportfoiioapi.counter.repository.query;
+
+public interface PortfolioCounterQueryRepository {
+    
+    long addQuestionCount(Long portfolioId, long delta);
+    
+    long addSubmissionCount(Long portfolioId, long delta);
+}
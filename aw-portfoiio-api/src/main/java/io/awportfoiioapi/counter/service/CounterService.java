@@ -0,0 +1,29 @@
+package io.awportfoiioapi.counter.service;
+
+import io.awportfoiioapi.portfolio.dto.response.PortfolioCountResponse;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface CounterService {
+    
+    void addQuestions(Long portfolioId, long delta);
+    
+    void addSubmissions(Long portfolioId, long delta);
+    
+    void addPortfolios(Long categoryId, long delta);
+    
+    void initPortfolio(Long portfolioId);
+    
+    void removePortfolio(Long portfolioId);
+    
+    void removeCategory(Long categoryId);
+    
+    void recomputePortfolio(Long portfolioId);
+    
+    Map<Long, PortfolioCountResponse> getPortfolioCounts(Collection<Long> portfolioIds);
+    
+    Map<Long, Long> getCategoryCounts(Collection<Long> categoryIds);
+    
+    void repairCounters();
+}
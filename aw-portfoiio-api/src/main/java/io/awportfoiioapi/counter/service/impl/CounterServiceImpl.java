@@ -0,0 +1,308 @@
+package io.awportfoiioapi.counter.service.impl;
+
+import io.awportfoiioapi.category.dto.response.CategoryCountResponse;
+import io.awportfoiioapi.category.entity.Category;
+import io.awportfoiioapi.category.repository.CategoryRepository;
+import io.awportfoiioapi.counter.entity.CategoryCounter;
+import io.awportfoiioapi.counter.entity.PortfolioCounter;
+import io.awportfoiioapi.counter.repository.CategoryCounterRepository;
+import io.awportfoiioapi.counter.repository.PortfolioCounterRepository;
+import io.awportfoiioapi.counter.service.CounterService;
+import io.awportfoiioapi.portfolio.dto.response.PortfolioCountResponse;
+import io.awportfoiioapi.portfolio.dto.response.PortfolioQuestionCountResponse;
+import io.awportfoiioapi.portfolio.dto.response.PortfolioSubmissionCountResponse;
+import io.awportfoiioapi.portfolio.repository.PortfolioRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 집계 카운터 관리
+ * - 쓰기 경로에서 증감 (UPDATE ... SET col = col + delta)
+ * - 쓰기 경로에서 카운터 행이 없으면 원본 테이블 기준으로 다시 계산해서 생성 (자가 복구)
+ * - 조회 경로는 행을 만들지 않음 (동시 첫 조회 시 PK 중복 방지), 없는 행은 원본 기준 집계값만 반환
+ * - 배치로 전체를 다시 계산해서 어긋난 값 보정
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class CounterServiceImpl implements CounterService {
+    
+    private final PortfolioCounterRepository portfolioCounterRepository;
+    private final CategoryCounterRepository categoryCounterRepository;
+    private final PortfolioRepository portfolioRepository;
+    private final CategoryRepository categoryRepository;
+    private final PlatformTransactionManager transactionManager;
+    
+    @Value("${counter.repair-on-startup:true}")
+    private boolean repairOnStartup;
+    
+    @Override
+    public void addQuestions(Long portfolioId, long delta) {
+        if (portfolioId == null || delta == 0) {
+            return;
+        }
+        if (portfolioCounterRepository.addQuestionCount(portfolioId, delta) == 0) {
+            // 카운터 행 없음 -> 원본 기준 재계산 (이번 변경분도 이미 반영되어 있음)
+            recomputePortfolio(portfolioId);
+        }
+    }
+    
+    @Override
+    public void addSubmissions(Long portfolioId, long delta) {
+        if (portfolioId == null || delta == 0) {
+            return;
+        }
+        if (portfolioCounterRepository.addSubmissionCount(portfolioId, delta) == 0) {
+            recomputePortfolio(portfolioId);
+        }
+    }
+    
+    @Override
+    public void addPortfolios(Long categoryId, long delta) {
+        // 카테고리 미지정 포트폴리오는 집계 대상 아님
+        if (categoryId == null || delta == 0) {
+            return;
+        }
+        if (categoryCounterRepository.addPortfolioCount(categoryId, delta) == 0) {
+            recomputeCategory(categoryId);
+        }
+    }
+    
+    @Override
+    public void initPortfolio(Long portfolioId) {
+        portfolioCounterRepository.save(
+                PortfolioCounter.builder()
+                        .portfolioId(portfolioId)
+                        .questionCount(0L)
+                        .submissionCount(0L)
+                        .build()
+        );
+    }
+    
+    @Override
+    public void removePortfolio(Long portfolioId) {
+        portfolioCounterRepository.findById(portfolioId).ifPresent(portfolioCounterRepository::delete);
+    }
+    
+    @Override
+    public void removeCategory(Long categoryId) {
+        categoryCounterRepository.findById(categoryId).ifPresent(categoryCounterRepository::delete);
+    }
+    
+    /**
+     * 단일 포트폴리오 카운터를 원본 테이블 기준으로 다시 계산
+     * - 포트폴리오가 없으면 카운터 행도 정리
+     */
+    @Override
+    public void recomputePortfolio(Long portfolioId) {
+        List<PortfolioCountResponse> counts = portfolioRepository.findByPortfolioCounts(List.of(portfolioId));
+        
+        if (counts.isEmpty()) {
+            removePortfolio(portfolioId);
+            return;
+        }
+        
+        PortfolioCountResponse count = counts.get(0);
+        savePortfolioCounter(portfolioId, count.getQuestions(), count.getSubmissions());
+    }
+    
+    /**
+     * 포트폴리오별 카운터 조회 (PK 조회)
+     * - 카운터 행이 없는 포트폴리오만 원본 기준으로 집계해서 반환 (행 생성은 쓰기 경로 / repairCounters)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, PortfolioCountResponse> getPortfolioCounts(Collection<Long> portfolioIds) {
+        
+        if (portfolioIds == null || portfolioIds.isEmpty()) {
+            return Map.of();
+        }
+        
+        Map<Long, PortfolioCountResponse> result = new HashMap<>();
+        for (PortfolioCounter counter : portfolioCounterRepository.findAllById(portfolioIds)) {
+            result.put(counter.getPortfolioId(),
+                    new PortfolioCountResponse(counter.getPortfolioId(), counter.getQuestionCount(), counter.getSubmissionCount()));
+        }
+        
+        List<Long> missing = portfolioIds.stream()
+                .filter(id -> !result.containsKey(id))
+                .distinct()
+                .toList();
+        
+        if (!missing.isEmpty()) {
+            portfolioRepository.findByPortfolioCounts(missing).forEach(count -> result.put(count.getPortfolioId(), count));
+        }
+        
+        return result;
+    }
+    
+    /**
+     * 카테고리별 포트폴리오 수 조회 (PK 조회)
+     * - 카운터 행이 없는 카테고리만 원본 기준으로 집계해서 반환 (행 생성은 쓰기 경로 / repairCounters)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, Long> getCategoryCounts(Collection<Long> categoryIds) {
+        
+        if (categoryIds == null || categoryIds.isEmpty()) {
+            return Map.of();
+        }
+        
+        Map<Long, Long> result = new HashMap<>();
+        for (CategoryCounter counter : categoryCounterRepository.findAllById(categoryIds)) {
+            result.put(counter.getCategoryId(), counter.getPortfolioCount());
+        }
+        
+        List<Long> missing = categoryIds.stream()
+                .filter(id -> !result.containsKey(id))
+                .distinct()
+                .toList();
+        
+        if (!missing.isEmpty()) {
+            // 포트폴리오가 없는 카테고리는 집계 결과에 없으므로 0
+            Map<Long, Long> counts = categoryRepository.getCategoryCount(missing).stream()
+                    .collect(Collectors.toMap(CategoryCountResponse::getId, CategoryCountResponse::getCnt));
+            missing.forEach(categoryId -> result.put(categoryId, counts.getOrDefault(categoryId, 0L)));
+        }
+        
+        return result;
+    }
+    
+    /**
+     * 카운터 전체 보정
+     * - 매일 새벽 4시 + 애플리케이션 기동 시
+     * - 원본 테이블 전체 집계와 비교해서 다른 값만 갱신 / 없는 행 생성 / 고아 행 삭제
+     */
+    @Override
+    @Scheduled(cron = "0 0 4 * * *")
+    public void repairCounters() {
+        
+        // ===================== 포트폴리오 =====================
+        Map<Long, Long> questionMap = portfolioRepository.findByQuestionCount().stream()
+                .collect(Collectors.toMap(PortfolioQuestionCountResponse::getPortfolioId, PortfolioQuestionCountResponse::getCount));
+        
+        Map<Long, Long> submissionMap = portfolioRepository.findBySubmissionCount().stream()
+                .filter(item -> item.getPortfolioId() != null)
+                .collect(Collectors.toMap(PortfolioSubmissionCountResponse::getPortfolioId, PortfolioSubmissionCountResponse::getCount));
+        
+        Map<Long, PortfolioCounter> portfolioCounters = portfolioCounterRepository.findAll().stream()
+                .collect(Collectors.toMap(PortfolioCounter::getPortfolioId, Function.identity()));
+        
+        int portfolioFixed = 0;
+        List<PortfolioCounter> portfolioCreated = new ArrayList<>();
+        
+        for (Map.Entry<Long, Long> entry : questionMap.entrySet()) {
+            Long portfolioId = entry.getKey();
+            Long questions = entry.getValue();
+            Long submissions = submissionMap.getOrDefault(portfolioId, 0L);
+            
+            PortfolioCounter counter = portfolioCounters.remove(portfolioId);
+            if (counter == null) {
+                portfolioCreated.add(PortfolioCounter.builder()
+                        .portfolioId(portfolioId)
+                        .questionCount(questions)
+                        .submissionCount(submissions)
+                        .build());
+            } else if (!Objects.equals(counter.getQuestionCount(), questions)
+                    || !Objects.equals(counter.getSubmissionCount(), submissions)) {
+                counter.reset(questions, submissions);
+                portfolioFixed++;
+            }
+        }
+        portfolioCounterRepository.saveAll(portfolioCreated);
+        // 남은 행 = 삭제된 포트폴리오
+        portfolioCounterRepository.deleteAll(portfolioCounters.values());
+        
+        // ===================== 카테고리 =====================
+        Map<Long, Long> categoryMap = categoryRepository.getCategoryCount().stream()
+                .collect(Collectors.toMap(CategoryCountResponse::getId, CategoryCountResponse::getCnt));
+        
+        Map<Long, CategoryCounter> categoryCounters = categoryCounterRepository.findAll().stream()
+                .collect(Collectors.toMap(CategoryCounter::getCategoryId, Function.identity()));
+        
+        int categoryFixed = 0;
+        List<CategoryCounter> categoryCreated = new ArrayList<>();
+        
+        for (Category category : categoryRepository.findAll()) {
+            Long count = categoryMap.getOrDefault(category.getId(), 0L);
+            
+            CategoryCounter counter = categoryCounters.remove(category.getId());
+            if (counter == null) {
+                categoryCreated.add(CategoryCounter.builder().categoryId(category.getId()).portfolioCount(count).build());
+            } else if (!Objects.equals(counter.getPortfolioCount(), count)) {
+                counter.reset(count);
+                categoryFixed++;
+            }
+        }
+        categoryCounterRepository.saveAll(categoryCreated);
+        categoryCounterRepository.deleteAll(categoryCounters.values());
+        
+        log.info("[Counter] repaired portfolio(created={}, fixed={}, removed={}) category(created={}, fixed={}, removed={})",
+                portfolioCreated.size(), portfolioFixed, portfolioCounters.size(),
+                categoryCreated.size(), categoryFixed, categoryCounters.size());
+    }
+    
+    /**
+     * 기동 시 한 번 보정 (counter.repair-on-startup)
+     * - 실패해도 기동은 계속 (매일 새벽 보정에서 다시 맞춤)
+     * - 리스너는 트랜잭션 없이 실행 (보정 트랜잭션의 커밋 / 롤백 실패까지 여기서 잡도록)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void repairOnStartup() {
+        if (!repairOnStartup) {
+            return;
+        }
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> repairCounters());
+        } catch (RuntimeException e) {
+            log.warn("[Counter] 기동 시 카운터 보정 실패 (새벽 보정에서 다시 시도)", e);
+        }
+    }
+    
+    private void recomputeCategory(Long categoryId) {
+        if (!categoryRepository.existsById(categoryId)) {
+            removeCategory(categoryId);
+            return;
+        }
+        
+        List<CategoryCountResponse> counts = categoryRepository.getCategoryCount(List.of(categoryId));
+        Long count = counts.isEmpty() ? 0L : counts.get(0).getCnt();
+        
+        CategoryCounter counter = categoryCounterRepository.findById(categoryId).orElse(null);
+        if (counter == null) {
+            categoryCounterRepository.save(CategoryCounter.builder().categoryId(categoryId).portfolioCount(count).build());
+        } else {
+            counter.reset(count);
+        }
+    }
+    
+    private void savePortfolioCounter(Long portfolioId, Long questions, Long submissions) {
+        PortfolioCounter counter = portfolioCounterRepository.findById(portfolioId).orElse(null);
+        if (counter == null) {
+            portfolioCounterRepository.save(
+                    PortfolioCounter.builder()
+                            .portfolioId(portfolioId)
+                            .questionCount(questions)
+                            .submissionCount(submissions)
+                            .build()
+            );
+        } else {
+            counter.reset(questions, submissions);
+        }
+    }
+}
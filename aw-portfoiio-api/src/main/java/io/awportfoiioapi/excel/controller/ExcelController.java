@@ -1,25 +1,21 @@
 package io.awportfoiioapi.excel.controller;
 
 import io.awportfoiioapi.apiresponse.ApiResponse;
+import io.awportfoiioapi.excel.dto.request.ExcelExportJobRequest;
 import io.awportfoiioapi.excel.dto.request.ExcelRequest;
+import io.awportfoiioapi.excel.dto.response.ExcelExportJobResponse;
+import io.awportfoiioapi.excel.service.ExcelExportJobService;
 import io.awportfoiioapi.excel.service.ExcelService;
+import io.awportfoiioapi.metrics.QueryBudget;
+import io.awportfoiioapi.storage.FileDownloads;
+import io.awportfoiioapi.storage.StoredObject;
 import io.awportfoiioapi.utils.S3FileUtils;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.InputStreamResource;
-import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.util.UriUtils;
-import software.amazon.awssdk.core.ResponseInputStream;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.GetObjectRequest;
-import software.amazon.awssdk.services.s3.model.GetObjectResponse;
-
-import java.net.URLDecoder;
-import java.nio.charset.StandardCharsets;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RequiredArgsConstructor
 @RestController
@@ -28,12 +24,12 @@ public class ExcelController {
 
     private final ExcelService excelService;
 
-    private final S3Client s3Client;
+    private final ExcelExportJobService excelExportJobService;
 
-     @Value("${spring.cloud.aws.s3.bucket}")
-     private String bucketName;
+    private final S3FileUtils s3FileUtils;
 
 
+    @QueryBudget(statements = 5, repeats = 2)
     @PostMapping("/excel")
     public ResponseEntity<byte[]> getExcel(@RequestBody ExcelRequest request) {
 
@@ -48,6 +44,35 @@ public class ExcelController {
             .body(excelFile);
     }
 
+    //포트폴리오 제출완료 전체 엑셀 - 응답 스트림에 바로 기록
+    //관리자 전용 - URL_RESOURCES 에 관리자 권한 등록 필요 (README)
+    @GetMapping("/excel/bulk")
+    public ResponseEntity<StreamingResponseBody> getBulkExcel(@RequestParam Long portfolioId) {
+
+        StreamingResponseBody body = out -> excelService.writeSubmissionsExcel(portfolioId, out);
+
+        String fileName = "submissions.xlsx";
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .header(HttpHeaders.CONTENT_TYPE, "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet")
+                .body(body);
+    }
+
+    //엑셀 내보내기 작업 등록 - 생성은 백그라운드, jobId 로 상태 조회
+    //관리자 전용 - URL_RESOURCES 에 관리자 권한 등록 필요 (README)
+    @PostMapping("/excel/jobs")
+    public ExcelExportJobResponse createExportJob(@RequestBody ExcelExportJobRequest request) {
+        return excelExportJobService.createJob(request);
+    }
+
+    //엑셀 내보내기 작업 상태 (진행률 / 완료 시 downloadUrl)
+    //관리자 전용 - URL_RESOURCES 에 관리자 권한 등록 필요 (README)
+    @GetMapping("/excel/jobs/{jobId}")
+    public ExcelExportJobResponse getExportJob(@PathVariable String jobId) {
+        return excelExportJobService.getJob(jobId);
+    }
+
     @PostMapping("/submitOff")
     public ApiResponse submitOff(@RequestBody ExcelRequest request) {
         return excelService.modifySubmitOff(request);
@@ -58,35 +83,15 @@ public class ExcelController {
         return excelService.copyPortfolio(portfolioId);
     }
 
+    //저장소 파일 다운로드 (원본 파일명으로)
     @GetMapping("/download/{folder}/{fileName}")
-             public ResponseEntity<Resource> download(
-                     @PathVariable String fileName,
-                     @PathVariable String folder
-             ) {
-                 String key = folder + "/" + fileName;
-                 ResponseInputStream<GetObjectResponse> object = s3Client.getObject(
-                         GetObjectRequest.builder()
-                                 .bucket(bucketName)
-                                 .key(key)
-                                 .build()
-                 );
-
-                 // 메타데이터에서 원본 파일명 가져오기
-                 String encodedFilenameInMetadata = object.response().metadata().get("original-filename");
-
-                 // 원래 이름 복원 (디코딩)
-                 String decodedFilename = encodedFilenameInMetadata != null
-                         ? URLDecoder.decode(encodedFilenameInMetadata, StandardCharsets.UTF_8)
-                         : fileName;
-
-                 // 다시 Content-Disposition용으로 인코딩 (한 번만)
-                 String encodedFilename = UriUtils.encode(decodedFilename, StandardCharsets.UTF_8);
-                 String contentDisposition = "attachment; filename*=UTF-8''" + encodedFilename;
-
-                 InputStreamResource resource = new InputStreamResource(object);
-                 return ResponseEntity.ok()
-                         .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition)
-                         .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                         .body(resource);
-             }
+    public ResponseEntity<StreamingResponseBody> download(
+            @PathVariable String fileName,
+            @PathVariable String folder,
+            HttpServletRequest request
+    ) {
+        String key = folder + "/" + fileName;
+        StoredObject object = s3FileUtils.open(key);
+        return FileDownloads.attachment(request, object, fileName);
+    }
 }
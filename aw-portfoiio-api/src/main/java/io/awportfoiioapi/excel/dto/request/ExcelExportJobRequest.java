@@ -0,0 +1,13 @@
+package io.awportfoiioapi.excel.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class ExcelExportJobRequest {
+    
+    private Long portfolioId;
+}
@@ -0,0 +1,33 @@
+package io.awportfoiioapi.excel.dto.response;
+
+import io.awportfoiioapi.excel.enums.ExcelExportJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class ExcelExportJobResponse {
+    
+    private String jobId;
+    
+    private Long portfolioId;
+    
+    private ExcelExportJobStatus status;
+    
+    private Long rowsWritten;
+    
+    private Long totalRows;
+    
+    // 완료(DONE) 시에만 presigned URL
+    private String downloadUrl;
+    
+    private String errorMessage;
+    
+    private LocalDateTime createdDate;
+    
+    private LocalDateTime finishedDate;
+}
@@ -0,0 +1,39 @@
+package io.awportfoiioapi.excel.dto.response;
+
+import com.querydsl.core.annotations.QueryProjection;
+import io.awportfoiioapi.submission.storage.StoredSubmissionJson;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@NoArgsConstructor
+@Data
+public class ExcelSubmissionResponse {
+
+    private Long submissionId;
+
+    private String companyName;
+
+    private String submissionJson;
+
+    private LocalDateTime completedDate;
+
+    // 저장된 형태 (압축이면 getSubmissionJson() 에서 해제, 행을 쓸 때 한 건씩)
+    private StoredSubmissionJson storedJson;
+
+    @QueryProjection
+    public ExcelSubmissionResponse(Long submissionId, String companyName, StoredSubmissionJson storedJson, LocalDateTime completedDate) {
+        this.submissionId = submissionId;
+        this.companyName = companyName;
+        this.storedJson = storedJson;
+        this.completedDate = completedDate;
+    }
+
+    public String getSubmissionJson() {
+        if (submissionJson == null && storedJson != null) {
+            submissionJson = storedJson.get();
+        }
+        return submissionJson;
+    }
+}
@@ -0,0 +1,15 @@
+package io.awportfoiioapi.excel.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ExcelExportJobStatus {
+    QUEUED("대기"),
+    RUNNING("생성중"),
+    DONE("완료"),
+    FAILED("실패");
+    
+    private final String value;
+}
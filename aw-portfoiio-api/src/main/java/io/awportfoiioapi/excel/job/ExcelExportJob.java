@@ -0,0 +1,68 @@
+package io.awportfoiioapi.excel.job;
+
+import io.awportfoiioapi.excel.enums.ExcelExportJobStatus;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 엑셀 내보내기 작업 상태
+ * - 작업 스레드가 갱신하고 상태조회 요청 스레드가 읽으므로 필드는 volatile
+ */
+@Getter
+public class ExcelExportJob implements ExcelExportProgress {
+    
+    private final String jobId;
+    
+    private final Long portfolioId;
+    
+    private final LocalDateTime createdDate;
+    
+    private volatile ExcelExportJobStatus status = ExcelExportJobStatus.QUEUED;
+    
+    private volatile long totalRows;
+    
+    private volatile long rowsWritten;
+    
+    private volatile String fileKey;
+    
+    private volatile String errorMessage;
+    
+    private volatile LocalDateTime finishedDate;
+    
+    public ExcelExportJob(String jobId, Long portfolioId) {
+        this.jobId = jobId;
+        this.portfolioId = portfolioId;
+        this.createdDate = LocalDateTime.now();
+    }
+    
+    public void running() {
+        this.status = ExcelExportJobStatus.RUNNING;
+    }
+    
+    public void done(String fileKey) {
+        this.fileKey = fileKey;
+        this.finishedDate = LocalDateTime.now();
+        this.status = ExcelExportJobStatus.DONE;
+    }
+    
+    public void failed(String errorMessage) {
+        this.errorMessage = errorMessage;
+        this.finishedDate = LocalDateTime.now();
+        this.status = ExcelExportJobStatus.FAILED;
+    }
+    
+    public boolean isFinished() {
+        return status == ExcelExportJobStatus.DONE || status == ExcelExportJobStatus.FAILED;
+    }
+    
+    @Override
+    public void onStart(long totalRows) {
+        this.totalRows = totalRows;
+    }
+    
+    @Override
+    public void onRows(long rowsWritten) {
+        this.rowsWritten = rowsWritten;
+    }
+}
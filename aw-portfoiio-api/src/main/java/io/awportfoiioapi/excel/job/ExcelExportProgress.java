@@ -0,0 +1,27 @@
+package io.awportfoiioapi.excel.job;
+
+/**
+ * 엑셀 생성 진행률 콜백
+ */
+public interface ExcelExportProgress {
+    
+    ExcelExportProgress NONE = new ExcelExportProgress() {
+        @Override
+        public void onStart(long totalRows) {
+        }
+        
+        @Override
+        public void onRows(long rowsWritten) {
+        }
+    };
+    
+    /**
+     * 전체 행 수 (조회 시점 기준 제출완료 건수)
+     */
+    void onStart(long totalRows);
+    
+    /**
+     * 지금까지 기록한 행 수
+     */
+    void onRows(long rowsWritten);
+}
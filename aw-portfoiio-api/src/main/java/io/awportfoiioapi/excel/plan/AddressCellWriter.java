@@ -0,0 +1,43 @@
+package io.awportfoiioapi.excel.plan;
+
+import io.awportfoiioapi.submission.document.AddressAnswer;
+import io.awportfoiioapi.submission.document.SubmissionDocument;
+import org.apache.poi.ss.usermodel.Row;
+
+/**
+ * 주소 (ADDR) - 3개 컬럼
+ */
+final class AddressCellWriter implements ExcelCellWriter {
+    
+    private final String optionKey;
+    
+    AddressCellWriter(String optionKey) {
+        this.optionKey = optionKey;
+    }
+    
+    @Override
+    public int width() {
+        return 3;
+    }
+    
+    @Override
+    public void writeHeader(Row headerRow, int colIdx, ExcelColumnWidthTracker widths) {
+        widths.write(headerRow, colIdx + 0, "주소");
+        widths.write(headerRow, colIdx + 1, "상세주소");
+        widths.write(headerRow, colIdx + 2, "우편번호");
+    }
+    
+    @Override
+    public void writeData(Row dataRow, int colIdx, SubmissionDocument document, ExcelColumnWidthTracker widths) {
+        
+        AddressAnswer addr = AddressAnswer.from(document.getAnswer(optionKey));
+        
+        if (addr == null) {
+            return;
+        }
+        
+        widths.write(dataRow, colIdx + 0, addr.getAddress());
+        widths.write(dataRow, colIdx + 1, addr.getDetail());
+        widths.write(dataRow, colIdx + 2, addr.getZonecode());
+    }
+}
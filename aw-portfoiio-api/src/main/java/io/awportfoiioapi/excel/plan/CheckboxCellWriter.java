@@ -0,0 +1,76 @@
+package io.awportfoiioapi.excel.plan;
+
+import io.awportfoiioapi.submission.document.CheckboxAnswer;
+import io.awportfoiioapi.submission.document.SubmissionDocument;
+import org.apache.poi.ss.usermodel.Row;
+
+import java.util.StringJoiner;
+
+/**
+ * 체크박스 (CHECKBOX / CHECKBOX_INPUT) - 1개 컬럼
+ * - 단일선택 : { selected, inputs{label: 입력값} }
+ * - 다중선택 : { checked[label], inputs{label: 입력값} } 또는 { checked[index], inputs[값] }
+ */
+final class CheckboxCellWriter implements ExcelCellWriter {
+    
+    private final String optionKey;
+    
+    private final String header;
+    
+    CheckboxCellWriter(String optionKey, String header) {
+        this.optionKey = optionKey;
+        this.header = header;
+    }
+    
+    @Override
+    public int width() {
+        return 1;
+    }
+    
+    @Override
+    public void writeHeader(Row headerRow, int colIdx, ExcelColumnWidthTracker widths) {
+        widths.write(headerRow, colIdx, header);
+    }
+    
+    @Override
+    public void writeData(Row dataRow, int colIdx, SubmissionDocument document, ExcelColumnWidthTracker widths) {
+        
+        CheckboxAnswer answer = CheckboxAnswer.from(document.getAnswer(optionKey));
+        
+        String result = "";
+        
+        if (answer != null) {
+            
+            if (answer.isSingle()) {
+                
+                String extra = answer.inputOf(answer.getSelected());
+                
+                result = answer.getSelected();
+                if (!extra.isBlank()) {
+                    result += " (" + extra + ")";
+                }
+            }
+            
+            else if (!answer.getCheckedLabels().isEmpty()) {
+                
+                StringJoiner joiner = new StringJoiner(", ");
+                for (String label : answer.getCheckedLabels()) {
+                    String extra = answer.inputOf(label);
+                    joiner.add(extra.isBlank() ? label : label + "(" + extra + ")");
+                }
+                result = joiner.toString();
+            }
+            
+            else if (!answer.getCheckedIndexes().isEmpty() && answer.hasInputList()) {
+                
+                StringJoiner joiner = new StringJoiner(", ");
+                for (Integer index : answer.getCheckedIndexes()) {
+                    joiner.add(answer.inputAt(index));
+                }
+                result = joiner.toString();
+            }
+        }
+        
+        widths.write(dataRow, colIdx, result);
+    }
+}
@@ -0,0 +1,20 @@
+package io.awportfoiioapi.excel.plan;
+
+import io.awportfoiioapi.submission.document.SubmissionDocument;
+import org.apache.poi.ss.usermodel.Row;
+
+/**
+ * 옵션 하나가 엑셀에서 차지하는 컬럼 묶음 작성기
+ * - 포트폴리오 컬럼 플랜 생성 시 한 번 만들어지고 이후 행마다 재사용 (상태 없음)
+ */
+public interface ExcelCellWriter {
+    
+    /**
+     * 차지하는 컬럼 수
+     */
+    int width();
+    
+    void writeHeader(Row headerRow, int colIdx, ExcelColumnWidthTracker widths);
+    
+    void writeData(Row dataRow, int colIdx, SubmissionDocument document, ExcelColumnWidthTracker widths);
+}
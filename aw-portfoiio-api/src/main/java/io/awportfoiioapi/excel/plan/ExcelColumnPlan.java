@@ -0,0 +1,96 @@
+package io.awportfoiioapi.excel.plan;
+
+import io.awportfoiioapi.excel.dto.response.ExcelColumnResponse;
+import io.awportfoiioapi.options.enums.OptionsType;
+import io.awportfoiioapi.submission.document.SubmissionDocument;
+import org.apache.poi.ss.usermodel.Row;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 포트폴리오별 엑셀 컬럼 플랜
+ * - 컬럼 메타(ExcelColumnResponse)를 옵션 타입별 작성기 목록으로 한 번만 변환해 둔다
+ * - 행 작성 시에는 타입 비교 없이 작성기 목록만 순회
+ */
+public final class ExcelColumnPlan {
+    
+    private final List<ExcelCellWriter> writers;
+    
+    private final int columnCount;
+    
+    private ExcelColumnPlan(List<ExcelCellWriter> writers) {
+        this.writers = List.copyOf(writers);
+        this.columnCount = writers.stream().mapToInt(ExcelCellWriter::width).sum();
+    }
+    
+    public static ExcelColumnPlan from(List<ExcelColumnResponse> columns) {
+        
+        List<ExcelCellWriter> writers = new ArrayList<>(columns.size());
+        
+        for (ExcelColumnResponse col : columns) {
+            
+            OptionsType optionsType = typeOf(col.getOptionsType());
+            String optionKey = String.valueOf(col.getOptionsId());
+            
+            // 타입이 없거나 모르는 타입이면 단답형처럼 텍스트 컬럼으로
+            if (optionsType == null) {
+                writers.add(new TextCellWriter(optionKey, col.getColumn()));
+                continue;
+            }
+            
+            switch (optionsType) {
+                case AGREEMENT -> {
+                    // 동의 체크박스는 엑셀 제외
+                }
+                case PARLOR -> writers.add(new ParlorCellWriter());
+                case SPECIAL -> writers.add(new SpecialCellWriter());
+                case REFUND -> writers.add(new RefundCellWriter());
+                case CHECKBOX, CHECKBOX_INPUT -> writers.add(new CheckboxCellWriter(optionKey, col.getColumn()));
+                case ADDR -> writers.add(new AddressCellWriter(optionKey));
+                case MULTI_TEXT -> writers.add(new MultiTextCellWriter(optionKey, col.getColumn()));
+                default -> writers.add(new TextCellWriter(optionKey, col.getColumn()));
+            }
+        }
+        
+        return new ExcelColumnPlan(writers);
+    }
+    
+    private static OptionsType typeOf(String optionsType) {
+        if (optionsType == null) {
+            return null;
+        }
+        try {
+            return OptionsType.valueOf(optionsType);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+    
+    /**
+     * 플랜이 차지하는 전체 컬럼 수
+     */
+    public int getColumnCount() {
+        return columnCount;
+    }
+    
+    public void writeHeader(Row headerRow, int startColIdx, ExcelColumnWidthTracker widths) {
+        int colIdx = startColIdx;
+        for (ExcelCellWriter writer : writers) {
+            writer.writeHeader(headerRow, colIdx, widths);
+            colIdx += writer.width();
+        }
+    }
+    
+    /**
+     * @return 마지막으로 사용한 컬럼 다음 인덱스
+     */
+    public int writeRow(Row dataRow, SubmissionDocument document, int startColIdx, ExcelColumnWidthTracker widths) {
+        int colIdx = startColIdx;
+        for (ExcelCellWriter writer : writers) {
+            writer.writeData(dataRow, colIdx, document, widths);
+            colIdx += writer.width();
+        }
+        return colIdx;
+    }
+}
@@ -0,0 +1,76 @@
+package io.awportfoiioapi.excel.plan;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.awportfoiioapi.question.respotiroy.QuestionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * 포트폴리오별 엑셀 컬럼 플랜 캐시
+ * - 질문(옵션) 생성/수정/삭제 시 evict 로 무효화
+ * - spring.cache 설정(프로파일별 cache-names)과 관계없이 항상 동작하도록 Caffeine 으로 직접 관리
+ * - 최대 건수 / 미사용 만료, 적중/미스 메트릭 (cache.* {cache=excelColumnPlan})
+ */
+@Component
+@RequiredArgsConstructor
+public class ExcelColumnPlanProvider {
+    
+    public static final String CACHE_NAME = "excelColumnPlan";
+    
+    private final QuestionRepository questionRepository;
+    private final MeterRegistry meterRegistry;
+    
+    @Value("${excel-column-plan.maximum-size:1000}")
+    private long maximumSize;
+    
+    @Value("${excel-column-plan.expire-after-access:1h}")
+    private Duration expireAfterAccess;
+    
+    private Cache<Long, ExcelColumnPlan> cache;
+    
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(expireAfterAccess)
+                .recordStats()
+                .build();
+        
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+    
+    public ExcelColumnPlan getPlan(Long portfolioId) {
+        return cache.get(portfolioId, id -> ExcelColumnPlan.from(questionRepository.findByColumn(id)));
+    }
+    
+    /**
+     * 플랜 무효화
+     * - 트랜잭션 중이면 커밋 이후에 한 번 더 지운다 (커밋 전 다른 요청이 이전 컬럼으로 다시 캐시하는 경우 방지)
+     */
+    public void evict(Long portfolioId) {
+        
+        if (portfolioId == null) {
+            return;
+        }
+        
+        cache.invalidate(portfolioId);
+        
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(portfolioId);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package io.awportfoiioapi.excel.plan;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+
+import java.util.Arrays;
+
+/**
+ * 엑셀 컬럼 너비 추적기
+ * - 셀을 쓰는 시점에 컬럼별 최대 표시 너비를 기록해두고 마지막에 한 번만 적용
+ * - 행을 다시 읽지 않으므로 SXSSF(이미 flush 된 행)에서도 동작
+ * - 한글/한자/전각 문자는 2칸, 그 외는 1칸으로 계산
+ */
+public final class ExcelColumnWidthTracker {
+    
+    // 엑셀 최대 컬럼 너비 (255자)
+    private static final int MAX_COLUMN_WIDTH = 255 * 256;
+    
+    private static final int PADDING = 2;
+    
+    private int[] maxWidths = new int[16];
+    
+    private int columnCount;
+    
+    /**
+     * 셀 생성 + 값 기록 + 너비 기록
+     */
+    public void write(Row row, int colIdx, String text) {
+        row.createCell(colIdx).setCellValue(text);
+        record(colIdx, text);
+    }
+    
+    public void record(int colIdx, String text) {
+        
+        if (colIdx >= maxWidths.length) {
+            maxWidths = Arrays.copyOf(maxWidths, Math.max(colIdx + 1, maxWidths.length * 2));
+        }
+        columnCount = Math.max(columnCount, colIdx + 1);
+        
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        
+        int visual = visualWidth(text);
+        if (visual > maxWidths[colIdx]) {
+            maxWidths[colIdx] = visual;
+        }
+    }
+    
+    /**
+     * 기록된 너비를 시트에 적용
+     */
+    public void apply(Sheet sheet) {
+        for (int i = 0; i < columnCount; i++) {
+            sheet.setColumnWidth(i, Math.min(MAX_COLUMN_WIDTH, (maxWidths[i] + PADDING) * 256));
+        }
+    }
+    
+    static int visualWidth(String text) {
+        int visual = 0;
+        for (int i = 0; i < text.length(); i++) {
+            visual += isWide(text.charAt(i)) ? 2 : 1;
+        }
+        return visual;
+    }
+    
+    private static boolean isWide(char ch) {
+        if (ch < 0x1100) {
+            return false;
+        }
+        return ch <= 0x115F                      // 한글 자모
+                || (ch >= 0x2E80 && ch <= 0xA4CF) // CJK 부수 ~ 이(Yi) 문자 (한자, 가나, 호환 자모 포함)
+                || (ch >= 0xAC00 && ch <= 0xD7A3) // 한글 음절
+                || (ch >= 0xF900 && ch <= 0xFAFF) // CJK 호환 한자
+                || (ch >= 0xFE30 && ch <= 0xFE4F) // CJK 호환 형태
+                || (ch >= 0xFF00 && ch <= 0xFF60) // 전각 문자
+                || (ch >= 0xFFE0 && ch <= 0xFFE6);
+    }
+}
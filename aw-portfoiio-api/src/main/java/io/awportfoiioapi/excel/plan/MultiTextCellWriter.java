@@ -0,0 +1,48 @@
+package io.awportfoiioapi.excel.plan;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.awportfoiioapi.submission.document.SubmissionDocument;
+import org.apache.poi.ss.usermodel.Row;
+
+import java.util.StringJoiner;
+
+/**
+ * 멀티 텍스트 (MULTI_TEXT) - 1개 컬럼, 배열은 콤마로 연결
+ */
+final class MultiTextCellWriter implements ExcelCellWriter {
+    
+    private final String optionKey;
+    
+    private final String header;
+    
+    MultiTextCellWriter(String optionKey, String header) {
+        this.optionKey = optionKey;
+        this.header = header;
+    }
+    
+    @Override
+    public int width() {
+        return 1;
+    }
+    
+    @Override
+    public void writeHeader(Row headerRow, int colIdx, ExcelColumnWidthTracker widths) {
+        widths.write(headerRow, colIdx, header);
+    }
+    
+    @Override
+    public void writeData(Row dataRow, int colIdx, SubmissionDocument document, ExcelColumnWidthTracker widths) {
+        
+        JsonNode value = document.getAnswer(optionKey);
+        
+        if (value != null && value.isArray()) {
+            StringJoiner joined = new StringJoiner(", ");
+            for (JsonNode item : value) {
+                joined.add(SubmissionDocument.text(item));
+            }
+            widths.write(dataRow, colIdx, joined.toString());
+        } else {
+            widths.write(dataRow, colIdx, SubmissionDocument.text(value));
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package io.awportfoiioapi.excel.plan;
+
+import io.awportfoiioapi.submission.document.SubmissionDocument;
+import org.apache.poi.ss.usermodel.Row;
+
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * 객실 (PARLOR) - 8개 컬럼
+ */
+final class ParlorCellWriter implements ExcelCellWriter {
+    
+    private static final String[] HEADERS = {"객실명", "객실설명", "객실인원", "객실형태", "객실비품", "비수기", "준성수기", "성수기"};
+    
+    @Override
+    public int width() {
+        return HEADERS.length;
+    }
+    
+    @Override
+    public void writeHeader(Row headerRow, int colIdx, ExcelColumnWidthTracker widths) {
+        for (int i = 0; i < HEADERS.length; i++) {
+            widths.write(headerRow, colIdx + i, HEADERS[i]);
+        }
+    }
+    
+    @Override
+    public void writeData(Row dataRow, int colIdx, SubmissionDocument document, ExcelColumnWidthTracker widths) {
+        
+        List<SubmissionDocument.Room> rooms = document.getRooms();
+        
+        if (rooms == null) {
+            return;
+        }
+        
+        StringJoiner names = new StringJoiner(" / ");
+        StringJoiner descs = new StringJoiner(" / ");
+        StringJoiner capacity = new StringJoiner(", ");
+        StringJoiner types = new StringJoiner(" / ");
+        StringJoiner amenities = new StringJoiner(" / ");
+        StringJoiner low = new StringJoiner(" , ");
+        StringJoiner mid = new StringJoiner(" , ");
+        StringJoiner high = new StringJoiner(" , ");
+        
+        // 객실 목록 한 번만 순회
+        for (SubmissionDocument.Room room : rooms) {
+            names.add(nullToEmpty(room.getName()));
+            descs.add(nullToEmpty(room.getDesc()));
+            capacity.add(formatCapacity(room.getCapacity()));
+            types.add(nullToEmpty(room.getType()));
+            amenities.add(nullToEmpty(room.getAmenities()));
+            low.add(formatPrice(room.getPriceLow()));
+            mid.add(formatPrice(room.getPriceMid()));
+            high.add(formatPrice(room.getPriceHigh()));
+        }
+        
+        widths.write(dataRow, colIdx + 0, names.toString());
+        widths.write(dataRow, colIdx + 1, descs.toString());
+        widths.write(dataRow, colIdx + 2, capacity.toString());
+        widths.write(dataRow, colIdx + 3, types.toString());
+        widths.write(dataRow, colIdx + 4, amenities.toString());
+        widths.write(dataRow, colIdx + 5, low.toString());
+        widths.write(dataRow, colIdx + 6, mid.toString());
+        widths.write(dataRow, colIdx + 7, high.toString());
+    }
+    
+    private static String formatCapacity(SubmissionDocument.Capacity cap) {
+        if (cap == null) {
+            return "";
+        }
+        return nullToEmpty(cap.getStandard()) + "명/" + nullToEmpty(cap.getMax()) + "명";
+    }
+    
+    private static String formatPrice(SubmissionDocument.PriceTier price) {
+        if (price == null) {
+            return "";
+        }
+        return "평일:" + nullToEmpty(price.getWeekday())
+                + " 금:" + nullToEmpty(price.getFri())
+                + " 토:" + nullToEmpty(price.getSat())
+                + " 일:" + nullToEmpty(price.getSun());
+    }
+    
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
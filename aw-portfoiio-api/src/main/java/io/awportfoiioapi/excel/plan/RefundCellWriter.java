@@ -0,0 +1,50 @@
+package io.awportfoiioapi.excel.plan;
+
+import io.awportfoiioapi.submission.document.SubmissionDocument;
+import org.apache.poi.ss.usermodel.Row;
+
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * 환불 (REFUND) - 1개 컬럼
+ */
+final class RefundCellWriter implements ExcelCellWriter {
+    
+    @Override
+    public int width() {
+        return 1;
+    }
+    
+    @Override
+    public void writeHeader(Row headerRow, int colIdx, ExcelColumnWidthTracker widths) {
+        widths.write(headerRow, colIdx, "환불기준 및 퍼센트");
+    }
+    
+    @Override
+    public void writeData(Row dataRow, int colIdx, SubmissionDocument document, ExcelColumnWidthTracker widths) {
+        
+        List<SubmissionDocument.RefundRule> refunds = document.getRefunds();
+        
+        if (refunds == null) {
+            return;
+        }
+        
+        StringJoiner refundTexts = new StringJoiner(", ");
+        
+        for (SubmissionDocument.RefundRule refund : refunds) {
+            
+            String base;
+            
+            if ("refund-1".equals(refund.getId())) {
+                base = "방문당일 총 금액의";
+            } else {
+                base = "방문 " + (refund.getDay() == null ? "" : refund.getDay()) + "일 전 총 금액의";
+            }
+            
+            refundTexts.add(base + " " + (refund.getPercent() == null ? "" : refund.getPercent()) + "% 환불");
+        }
+        
+        widths.write(dataRow, colIdx, refundTexts.toString());
+    }
+}
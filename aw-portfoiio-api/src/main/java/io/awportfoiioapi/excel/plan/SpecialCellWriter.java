@@ -0,0 +1,45 @@
+package io.awportfoiioapi.excel.plan;
+
+import io.awportfoiioapi.submission.document.SubmissionDocument;
+import org.apache.poi.ss.usermodel.Row;
+
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * 스페셜 (SPECIAL) - 2개 컬럼
+ */
+final class SpecialCellWriter implements ExcelCellWriter {
+    
+    @Override
+    public int width() {
+        return 2;
+    }
+    
+    @Override
+    public void writeHeader(Row headerRow, int colIdx, ExcelColumnWidthTracker widths) {
+        widths.write(headerRow, colIdx + 0, "스페셜명");
+        widths.write(headerRow, colIdx + 1, "스페셜설명");
+    }
+    
+    @Override
+    public void writeData(Row dataRow, int colIdx, SubmissionDocument document, ExcelColumnWidthTracker widths) {
+        
+        List<SubmissionDocument.Special> specials = document.getSpecials();
+        
+        if (specials == null) {
+            return;
+        }
+        
+        StringJoiner names = new StringJoiner(" / ");
+        StringJoiner descs = new StringJoiner(" / ");
+        
+        for (SubmissionDocument.Special special : specials) {
+            names.add(special.getName() == null ? "" : special.getName());
+            descs.add(special.getDesc() == null ? "" : special.getDesc());
+        }
+        
+        widths.write(dataRow, colIdx + 0, names.toString());
+        widths.write(dataRow, colIdx + 1, descs.toString());
+    }
+}
@@ -0,0 +1,34 @@
+package io.awportfoiioapi.excel.plan;
+
+import io.awportfoiioapi.submission.document.SubmissionDocument;
+import org.apache.poi.ss.usermodel.Row;
+
+/**
+ * 일반 단답형 / 장문형 - 1개 컬럼
+ */
+final class TextCellWriter implements ExcelCellWriter {
+    
+    private final String optionKey;
+    
+    private final String header;
+    
+    TextCellWriter(String optionKey, String header) {
+        this.optionKey = optionKey;
+        this.header = header;
+    }
+    
+    @Override
+    public int width() {
+        return 1;
+    }
+    
+    @Override
+    public void writeHeader(Row headerRow, int colIdx, ExcelColumnWidthTracker widths) {
+        widths.write(headerRow, colIdx, header);
+    }
+    
+    @Override
+    public void writeData(Row dataRow, int colIdx, SubmissionDocument document, ExcelColumnWidthTracker widths) {
+        widths.write(dataRow, colIdx, SubmissionDocument.text(document.getAnswer(optionKey)));
+    }
+}
@@ -0,0 +1,11 @@
+package io.awportfoiioapi.excel.service;
+
+import io.awportfoiioapi.excel.dto.request.ExcelExportJobRequest;
+import io.awportfoiioapi.excel.dto.response.ExcelExportJobResponse;
+
+public interface ExcelExportJobService {
+    
+    ExcelExportJobResponse createJob(ExcelExportJobRequest request); //엑셀 내보내기 작업 등록
+    
+    ExcelExportJobResponse getJob(String jobId); //작업 상태 조회 (완료 시 다운로드 URL)
+}
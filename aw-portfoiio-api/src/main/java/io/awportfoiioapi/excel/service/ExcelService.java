@@ -2,11 +2,18 @@ package io.awportfoiioapi.excel.service;
 
 import io.awportfoiioapi.apiresponse.ApiResponse;
 import io.awportfoiioapi.excel.dto.request.ExcelRequest;
+import io.awportfoiioapi.excel.job.ExcelExportProgress;
+
+import java.io.OutputStream;
 
 public interface ExcelService {
     
     byte[] createSubmissionExcel(ExcelRequest requests);
     
+    void writeSubmissionsExcel(Long portfolioId, OutputStream out); //포트폴리오 제출완료 전체 엑셀 (스트리밍)
+    
+    void writeSubmissionsExcel(Long portfolioId, OutputStream out, ExcelExportProgress progress); //포트폴리오 제출완료 전체 엑셀 (진행률 콜백)
+    
     ApiResponse modifySubmitOff(ExcelRequest request);
     
     ApiResponse copyPortfolio(Long portfolioId);
@@ -0,0 +1,180 @@
+package io.awportfoiioapi.excel.service.impl;
+
+import io.awportfoiioapi.excel.dto.request.ExcelExportJobRequest;
+import io.awportfoiioapi.excel.dto.response.ExcelExportJobResponse;
+import io.awportfoiioapi.excel.enums.ExcelExportJobStatus;
+import io.awportfoiioapi.excel.job.ExcelExportJob;
+import io.awportfoiioapi.excel.service.ExcelExportJobService;
+import io.awportfoiioapi.excel.service.ExcelService;
+import io.awportfoiioapi.portfolio.repository.PortfolioRepository;
+import io.awportfoiioapi.utils.S3FileUtils;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 엑셀 내보내기 비동기 작업
+ * - 등록 즉시 jobId 반환, 생성은 전용 스레드풀(크기/대기열 제한)에서 트랜잭션 없이 수행
+ * - 결과 파일은 S3 export 폴더에 저장하고 완료 상태 조회 시 presigned URL 제공
+ * - 작업 상태는 메모리 보관, 보관기간(ttl)이 지나면 상태와 S3 파일 모두 정리
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExcelExportJobServiceImpl implements ExcelExportJobService {
+    
+    private static final String EXPORT_FOLDER = "export";
+    
+    private static final String CONTENT_TYPE = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+    
+    private final ExcelService excelService;
+    private final PortfolioRepository portfolioRepository;
+    private final S3FileUtils s3FileUtils;
+    
+    private final Map<String, ExcelExportJob> jobs = new ConcurrentHashMap<>();
+    
+    private ThreadPoolTaskExecutor executor;
+    
+    @Value("${excel.export.pool-size:2}")
+    private int poolSize;
+    
+    @Value("${excel.export.queue-capacity:20}")
+    private int queueCapacity;
+    
+    @Value("${excel.export.ttl:PT1H}")
+    private Duration ttl;
+    
+    @PostConstruct
+    public void init() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("excel-export-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+    
+    @Override
+    public ExcelExportJobResponse createJob(ExcelExportJobRequest request) {
+        
+        Long portfolioId = request.getPortfolioId();
+        
+        if (portfolioId == null || !portfolioRepository.existsById(portfolioId)) {
+            throw new RuntimeException("존재하지 않는 포트폴리오입니다.");
+        }
+        
+        ExcelExportJob job = new ExcelExportJob(UUID.randomUUID().toString(), portfolioId);
+        jobs.put(job.getJobId(), job);
+        
+        try {
+            executor.execute(() -> run(job));
+        } catch (TaskRejectedException e) {
+            jobs.remove(job.getJobId());
+            throw new RuntimeException("엑셀 생성 요청이 많습니다. 잠시후 다시 시도해 주세요", e);
+        }
+        
+        return toResponse(job);
+    }
+    
+    @Override
+    public ExcelExportJobResponse getJob(String jobId) {
+        ExcelExportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new RuntimeException("존재하지 않거나 만료된 작업입니다.");
+        }
+        return toResponse(job);
+    }
+    
+    private void run(ExcelExportJob job) {
+        
+        job.running();
+        
+        Path tempFile = null;
+        try {
+            tempFile = Files.createTempFile("excel-export-", ".xlsx");
+            
+            try (OutputStream out = Files.newOutputStream(tempFile)) {
+                excelService.writeSubmissionsExcel(job.getPortfolioId(), out, job);
+            }
+            
+            String fileName = "submissions-" + job.getPortfolioId() + ".xlsx";
+            job.done(s3FileUtils.storeLocalFile(tempFile, EXPORT_FOLDER, fileName, CONTENT_TYPE));
+            
+        } catch (Exception e) {
+            log.info("엑셀 내보내기 실패 jobId={}", job.getJobId(), e);
+            job.failed("엑셀 생성에 실패했습니다.");
+        } finally {
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (Exception e) {
+                    log.info("엑셀 임시파일 삭제 실패 {}", tempFile, e);
+                }
+            }
+        }
+    }
+    
+    /**
+     * 만료 작업 정리 (10분 주기)
+     * - 상태 : 완료/실패 후 ttl 이 지난 작업 제거
+     * - 파일 : export 폴더에서 ttl 이 지난 객체 삭제 (재기동으로 상태가 사라진 파일 포함)
+     */
+    @Scheduled(cron = "0 0/10 * * * *")
+    public void expireJobs() {
+        
+        LocalDateTime cutoff = LocalDateTime.now().minus(ttl);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedDate().isBefore(cutoff));
+        
+        try {
+            int deleted = s3FileUtils.deleteOlderThan(EXPORT_FOLDER, Instant.now().minus(ttl));
+            if (deleted > 0) {
+                log.info("만료된 엑셀 파일 삭제 {}건", deleted);
+            }
+        } catch (Exception e) {
+            log.info("만료된 엑셀 파일 삭제 실패", e);
+        }
+    }
+    
+    private ExcelExportJobResponse toResponse(ExcelExportJob job) {
+        
+        String downloadUrl = null;
+        if (job.getStatus() == ExcelExportJobStatus.DONE) {
+            downloadUrl = s3FileUtils.createPresignedUrl(job.getFileKey());
+        }
+        
+        return new ExcelExportJobResponse(
+                job.getJobId(),
+                job.getPortfolioId(),
+                job.getStatus(),
+                job.getRowsWritten(),
+                job.getTotalRows(),
+                downloadUrl,
+                job.getErrorMessage(),
+                job.getCreatedDate(),
+                job.getFinishedDate()
+        );
+    }
+}
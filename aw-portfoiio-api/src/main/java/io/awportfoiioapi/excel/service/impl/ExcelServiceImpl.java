@@ -1,13 +1,16 @@
 package io.awportfoiioapi.excel.service.impl;
 
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.awportfoiioapi.apiresponse.ApiResponse;
 import io.awportfoiioapi.category.entity.Category;
 import io.awportfoiioapi.category.repository.CategoryRepository;
+import io.awportfoiioapi.counter.service.CounterService;
 import io.awportfoiioapi.excel.dto.request.ExcelRequest;
-import io.awportfoiioapi.excel.dto.response.ExcelColumnResponse;
+import io.awportfoiioapi.excel.dto.response.ExcelSubmissionResponse;
+import io.awportfoiioapi.excel.job.ExcelExportProgress;
+import io.awportfoiioapi.excel.plan.ExcelColumnPlan;
+import io.awportfoiioapi.excel.plan.ExcelColumnPlanProvider;
+import io.awportfoiioapi.excel.plan.ExcelColumnWidthTracker;
 import io.awportfoiioapi.excel.service.ExcelService;
 import io.awportfoiioapi.options.entity.Options;
 import io.awportfoiioapi.options.respotiroy.OptionsRepository;
@@ -15,21 +18,27 @@ import io.awportfoiioapi.portfolio.entity.Portfolio;
 import io.awportfoiioapi.portfolio.repository.PortfolioRepository;
 import io.awportfoiioapi.question.entity.Question;
 import io.awportfoiioapi.question.respotiroy.QuestionRepository;
+import io.awportfoiioapi.submission.document.SubmissionDocument;
+import io.awportfoiioapi.submission.document.SubmissionDocumentReader;
 import io.awportfoiioapi.submission.entity.Submission;
 import io.awportfoiioapi.submission.repository.SubmissionRepository;
+import io.awportfoiioapi.submission.storage.SubmissionJsonCodec;
 import lombok.RequiredArgsConstructor;
-import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -37,14 +46,30 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ExcelServiceImpl implements ExcelService {
     
+    // 일괄 다운로드 시 메모리에 유지할 행 수 (초과분은 임시파일로 flush)
+    private static final int BULK_ROW_WINDOW = 100;
+    
+    // 일괄 다운로드 시 한 번에 조회할 제출 건수
+    private static final int BULK_PAGE_SIZE = 200;
+    
+    private static final DateTimeFormatter COMPLETED_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    
     private final QuestionRepository questionRepository;
     private final SubmissionRepository submissionRepository;
     private final PortfolioRepository portfolioRepository;
     private final OptionsRepository optionsRepository;
     private final CategoryRepository categoryRepository;
-    private final ObjectMapper mapper;
-    
+    private final SubmissionDocumentReader submissionDocumentReader;
+    private final SubmissionJsonCodec submissionJsonCodec;
+    private final ExcelColumnPlanProvider excelColumnPlanProvider;
+    private final CounterService counterService;
+    
+    /**
+     * 단건 엑셀
+     * - 워크북 생성 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 없이 조회 (조회마다 커넥션 반납)
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public byte[] createSubmissionExcel(ExcelRequest request) {
         
         
@@ -54,16 +79,16 @@ public class ExcelServiceImpl implements ExcelService {
         // 0. 포트폴리오 조회 (제목용)
         Portfolio portfolio = portfolioRepository.findById(portfolioId).orElseThrow(() -> new RuntimeException("존재하지 않는 포트폴리오입니다."));
     
-        // 1. 컬럼 메타 조회
-        List<ExcelColumnResponse> columns = questionRepository.findByColumn(portfolioId);
+        // 1. 컬럼 플랜 조회 (포트폴리오별 캐시)
+        ExcelColumnPlan plan = excelColumnPlanProvider.getPlan(portfolioId);
     
         // 2. 제출 데이터 조회
         Submission submission = submissionRepository.findById(submissionId).orElseThrow(() -> new RuntimeException("존재하지 않는 제출내역입니다."));
     
         try (Workbook workbook = new XSSFWorkbook()) {
     
-            // JSON -> Map
-            Map<String, Object> responseMap = mapper.readValue(submission.getSubmissionJson(), new TypeReference<>() {});
+            // JSON -> 제출 문서
+            SubmissionDocument document = submissionDocumentReader.read(submissionJsonCodec.decode(submission));
     
             Sheet sheet = workbook.createSheet("제출 데이터");
     
@@ -76,336 +101,103 @@ public class ExcelServiceImpl implements ExcelService {
             // =====================================================
             // A열 : 포트폴리오 제목 고정
             // =====================================================
-            headerRow.createCell(0).setCellValue("포트폴리오 제목");
-            dataRow.createCell(0).setCellValue(portfolio.getTitle());
+            ExcelColumnWidthTracker widths = new ExcelColumnWidthTracker();
+            widths.write(headerRow, 0, "포트폴리오 제목");
+            widths.write(dataRow, 0, portfolio.getTitle());
     
             // 나머지 컬럼은 B열부터
-            int colIdx = 1;
+            plan.writeHeader(headerRow, 1, widths);
+            plan.writeRow(dataRow, document, 1, widths);
     
-            for (ExcelColumnResponse col : columns) {
+            // ===================== 컬럼 너비 (작성 시 기록한 값 적용) =====================
+            widths.apply(sheet);
     
-                String optionsType = col.getOptionsType();
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            workbook.write(out);
+            return out.toByteArray();
     
-                if ("AGREEMENT".equals(optionsType)) {
-                    continue;
-                }
+        } catch (Exception e) {
+            throw new RuntimeException("엑셀 생성 실패", e);
+        }
+    }
     
-                // ===================== 객실 =====================
-                if ("PARLOR".equals(optionsType)) {
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void writeSubmissionsExcel(Long portfolioId, OutputStream out) {
+        writeSubmissionsExcel(portfolioId, out, ExcelExportProgress.NONE);
+    }
     
-                    List<Map<String, Object>> rooms =
-                            (List<Map<String, Object>>) responseMap.get("rooms");
+    /**
+     * 제출완료 전체 엑셀
+     * - 트랜잭션 없이 페이지 단위로 조회하므로 커넥션은 조회하는 동안만 사용
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void writeSubmissionsExcel(Long portfolioId, OutputStream out, ExcelExportProgress progress) {
+        
+        // 0. 포트폴리오 조회 (제목용)
+        Portfolio portfolio = portfolioRepository.findById(portfolioId).orElseThrow(() -> new RuntimeException("존재하지 않는 포트폴리오입니다."));
+        
+        // 1. 컬럼 플랜 조회 (포트폴리오별 캐시)
+        ExcelColumnPlan plan = excelColumnPlanProvider.getPlan(portfolioId);
+        
+        // SXSSF : 메모리에는 BULK_ROW_WINDOW 만큼의 행만 유지하고 나머지는 임시파일로 flush (close 시 임시파일 정리)
+        try (SXSSFWorkbook workbook = new SXSSFWorkbook(BULK_ROW_WINDOW)) {
+            workbook.setCompressTempFiles(true);
+            
+            Sheet sheet = workbook.createSheet("제출 데이터");
+            
+            int rowIdx = 0;
+            
+            // =====================================================
+            // A열 : 포트폴리오 제목 / B열 : 업체명 / C열 : 제출일시 고정
+            // =====================================================
+            ExcelColumnWidthTracker widths = new ExcelColumnWidthTracker();
+            
+            Row headerRow = sheet.createRow(rowIdx++);
+            widths.write(headerRow, 0, "포트폴리오 제목");
+            widths.write(headerRow, 1, "업체명");
+            widths.write(headerRow, 2, "제출일시");
+            plan.writeHeader(headerRow, 3, widths);
+            
+            // 2. 제출 데이터 keyset 페이징 조회 -> 행 단위로 바로 기록
+            progress.onStart(submissionRepository.findByExcelSubmissionCount(portfolioId));
+            
+            Long lastSubmissionId = 0L;
+            long rowsWritten = 0;
+            
+            while (true) {
+                
+                List<ExcelSubmissionResponse> page =
+                        submissionRepository.findByExcelSubmissions(portfolioId, lastSubmissionId, BULK_PAGE_SIZE);
+                
+                for (ExcelSubmissionResponse item : page) {
                     
-                    headerRow.createCell(colIdx + 0).setCellValue("객실명");
-                    headerRow.createCell(colIdx + 1).setCellValue("객실설명");
-                    headerRow.createCell(colIdx + 2).setCellValue("객실인원");
-                    headerRow.createCell(colIdx + 3).setCellValue("객실형태");
-                    headerRow.createCell(colIdx + 4).setCellValue("객실비품");
-                    headerRow.createCell(colIdx + 5).setCellValue("비수기");
-                    headerRow.createCell(colIdx + 6).setCellValue("준성수기");
-                    headerRow.createCell(colIdx + 7).setCellValue("성수기");
-    
-                    if (rooms != null) {
-                        
-                        String amenities = rooms.stream()
-                                .map(r -> String.valueOf(r.getOrDefault("amenities", "")))
-                                .collect(Collectors.joining(" / "));
-                        
-                        String capacity = rooms.stream()
-                                .map(r -> {
-                                    Map<String, Object> cap = (Map<String, Object>) r.get("capacity");
-                                    if (cap == null) return "";
-                        
-                                    String standard = String.valueOf(cap.getOrDefault("standard", ""));
-                                    String max = String.valueOf(cap.getOrDefault("max", ""));
-                                    return standard + "명/" + max + "명";
-                                })
-                                .collect(Collectors.joining(", "));
-                        
-                        String names = rooms.stream()
-                                .map(r -> String.valueOf(r.getOrDefault("name", "")))
-                                .collect(Collectors.joining(" / "));
-    
-                        String descs = rooms.stream()
-                                .map(r -> String.valueOf(r.getOrDefault("desc", "")))
-                                .collect(Collectors.joining(" / "));
-    
-                        String types = rooms.stream()
-                                .map(r -> String.valueOf(r.getOrDefault("type", "")))
-                                .collect(Collectors.joining(" / "));
-    
-                        Function<Object, String> priceFormatter = priceObj -> {
-    
-                            if (!(priceObj instanceof Map<?, ?> raw)) {
-                                return "";
-                            }
-    
-                            @SuppressWarnings("unchecked")
-                            Map<String, Object> map = (Map<String, Object>) raw;
-    
-                            String weekday = String.valueOf(map.getOrDefault("weekday", ""));
-                            String fri = String.valueOf(map.getOrDefault("fri", ""));
-                            String sat = String.valueOf(map.getOrDefault("sat", ""));
-                            String sun = String.valueOf(map.getOrDefault("sun", ""));
-    
-                            return String.format(
-                                    "평일:%s 금:%s 토:%s 일:%s",
-                                    weekday, fri, sat, sun
-                            );
-                        };
-    
-                        String low = rooms.stream()
-                                .map(r -> priceFormatter.apply(r.get("priceLow")))
-                                .collect(Collectors.joining(" , "));
-    
-                        String mid = rooms.stream()
-                                .map(r -> priceFormatter.apply(r.get("priceMid")))
-                                .collect(Collectors.joining(" , "));
-    
-                        String high = rooms.stream()
-                                .map(r -> priceFormatter.apply(r.get("priceHigh")))
-                                .collect(Collectors.joining(" , "));
-                        
-                        dataRow.createCell(colIdx + 0).setCellValue(names);
-                        dataRow.createCell(colIdx + 1).setCellValue(descs);
-                        dataRow.createCell(colIdx + 2).setCellValue(capacity);
-                        dataRow.createCell(colIdx + 3).setCellValue(types);
-                        dataRow.createCell(colIdx + 4).setCellValue(amenities);
-                        dataRow.createCell(colIdx + 5).setCellValue(low);
-                        dataRow.createCell(colIdx + 6).setCellValue(mid);
-                        dataRow.createCell(colIdx + 7).setCellValue(high);
-                    }
-    
-                    colIdx += 8;
-                    continue;
-                }
-    
-                // ===================== 스페셜 =====================
-                if ("SPECIAL".equals(optionsType)) {
-    
-                    List<Map<String, Object>> specials =
-                            (List<Map<String, Object>>) responseMap.get("specials");
-    
-                    headerRow.createCell(colIdx + 0).setCellValue("스페셜명");
-                    headerRow.createCell(colIdx + 1).setCellValue("스페셜설명");
-    
-                    if (specials != null) {
-    
-                        String names = specials.stream()
-                                .map(s -> String.valueOf(s.getOrDefault("name", "")))
-                                .collect(Collectors.joining(" / "));
-    
-                        String descs = specials.stream()
-                                .map(s -> String.valueOf(s.getOrDefault("desc", "")))
-                                .collect(Collectors.joining(" / "));
-    
-                        dataRow.createCell(colIdx + 0).setCellValue(names);
-                        dataRow.createCell(colIdx + 1).setCellValue(descs);
-                    }
-    
-                    colIdx += 2;
-                    continue;
-                }
-    
-                // ===================== 환불 =====================
-                if ("REFUND".equals(optionsType)) {
-    
-                    List<Map<String, Object>> refunds =
-                            (List<Map<String, Object>>) responseMap.get("refunds");
-    
-                    headerRow.createCell(colIdx).setCellValue("환불기준 및 퍼센트");
-    
-                    if (refunds != null) {
-    
-                        String refundTexts = refunds.stream()
-                                .map(r -> {
-    
-                                    String id = String.valueOf(r.getOrDefault("id", ""));
-                                    String day = String.valueOf(r.getOrDefault("day", ""));
-                                    String percent = String.valueOf(r.getOrDefault("percent", ""));
-    
-                                    String base;
-    
-                                    if ("refund-1".equals(id)) {
-                                        base = "방문당일 총 금액의";
-                                    } else {
-                                        base = "방문 " + day + "일 전 총 금액의";
-                                    }
-    
-                                    return base + " " + percent + "% 환불";
-                                })
-                                .collect(Collectors.joining(", "));
-    
-                        dataRow.createCell(colIdx).setCellValue(refundTexts);
-                    }
-    
-                    colIdx++;
-                    continue;
-                }
-    
-                // ===================== CHECKBOX =====================
-                if ("CHECKBOX".equals(optionsType) || "CHECKBOX_INPUT".equals(optionsType)) {
-    
-                    Map<String, Object> obj =
-                            (Map<String, Object>) responseMap.get(String.valueOf(col.getOptionsId()));
-    
-                    headerRow.createCell(colIdx).setCellValue(col.getColumn());
-    
-                    String result = "";
-    
-                    if (obj != null) {
-    
-                        if (obj.containsKey("selected")) {
-    
-                            String selected = String.valueOf(obj.get("selected"));
-                            Map<String, Object> inputs =
-                                    (Map<String, Object>) obj.get("inputs");
-    
-                            String extra = "";
-                            if (inputs != null && inputs.containsKey(selected)) {
-                                extra = String.valueOf(inputs.get(selected));
-                            }
-    
-                            result = selected;
-                            if (!extra.isBlank()) {
-                                result += " (" + extra + ")";
-                            }
-                        }
-    
-                        else if (obj.containsKey("checked")
-                                && obj.get("checked") instanceof List<?>) {
-    
-                            List<?> checkedList = (List<?>) obj.get("checked");
-    
-                            if (!checkedList.isEmpty()
-                                    && checkedList.get(0) instanceof String) {
-    
-                                Map<String, Object> inputs = (Map<String, Object>) obj.get("inputs");
-    
-                                result = checkedList.stream()
-                                        .map(s -> {
-                                            String key = String.valueOf(s);
-                                            String extra = "";
-    
-                                            if (inputs != null && inputs.containsKey(key)) {
-                                                extra = String.valueOf(inputs.get(key));
-                                            }
-    
-                                            return extra.isBlank()
-                                                    ? key
-                                                    : key + "(" + extra + ")";
-                                        })
-                                        .collect(Collectors.joining(", "));
-                            }
-    
-                            else if (!checkedList.isEmpty()
-                                    && checkedList.get(0) instanceof Number) {
-    
-                                List<Integer> idxList = checkedList.stream()
-                                        .map(o -> ((Number) o).intValue())
-                                        .toList();
-    
-                                List<String> inputs =
-                                        (List<String>) obj.get("inputs");
-    
-                                if (inputs != null) {
-                                    result = idxList.stream()
-                                            .map(inputs::get)
-                                            .collect(Collectors.joining(", "));
-                                }
-                            }
-                        }
-                    }
-    
-                    dataRow.createCell(colIdx).setCellValue(result);
-                    colIdx++;
-                    continue;
-                }
-    
-                // ===================== 주소 =====================
-                if ("ADDR".equals(optionsType)) {
-    
-                    headerRow.createCell(colIdx + 0).setCellValue("주소");
-                    headerRow.createCell(colIdx + 1).setCellValue("상세주소");
-                    headerRow.createCell(colIdx + 2).setCellValue("우편번호");
-    
-                    Map<String, Object> addr = (Map<String, Object>) responseMap.get(String.valueOf(col.getOptionsId()));
-    
-                    if (addr != null) {
-    
-                        dataRow.createCell(colIdx + 0)
-                                .setCellValue(String.valueOf(addr.getOrDefault("address", "")));
-                        dataRow.createCell(colIdx + 1)
-                                .setCellValue(String.valueOf(addr.getOrDefault("detail", "")));
-                        dataRow.createCell(colIdx + 2)
-                                .setCellValue(String.valueOf(addr.getOrDefault("zonecode", "")));
-                    }
-    
-                    colIdx += 3;
-                    continue;
-                }
-    
-                // ===================== 멀티 텍스트 =====================
-                if ("MULTI_TEXT".equals(optionsType)) {
-    
-                    headerRow.createCell(colIdx).setCellValue(col.getColumn());
-    
-                    Object value = responseMap.get(String.valueOf(col.getOptionsId()));
-    
-                    if (value instanceof List<?>) {
-                        String joined = ((List<?>) value).stream()
-                                .map(String::valueOf)
-                                .collect(Collectors.joining(", "));
-                        dataRow.createCell(colIdx).setCellValue(joined);
-                    } else if (value != null) {
-                        dataRow.createCell(colIdx).setCellValue(value.toString());
-                    } else {
-                        dataRow.createCell(colIdx).setCellValue("");
-                    }
-    
-                    colIdx++;
-                    continue;
+                    SubmissionDocument document = submissionDocumentReader.read(item.getSubmissionJson());
+                    
+                    Row dataRow = sheet.createRow(rowIdx++);
+                    widths.write(dataRow, 0, portfolio.getTitle());
+                    widths.write(dataRow, 1, item.getCompanyName() == null ? "" : item.getCompanyName());
+                    widths.write(dataRow, 2, item.getCompletedDate() == null ? "" : item.getCompletedDate().format(COMPLETED_DATE_FORMAT));
+                    plan.writeRow(dataRow, document, 3, widths);
+                    
+                    lastSubmissionId = item.getSubmissionId();
+                    rowsWritten++;
                 }
-    
-                // ===================== 일반 단답형 =====================
-                headerRow.createCell(colIdx).setCellValue(col.getColumn());
-    
-                Object value = responseMap.get(String.valueOf(col.getOptionsId()));
-                dataRow.createCell(colIdx).setCellValue(value == null ? "" : value.toString());
-                colIdx++;
-            }
-    
-            // ===================== 컬럼 너비 자동 =====================
-            for (int i = 0; i < colIdx; i++) {
-    
-                int maxWidth = 0;
-    
-                for (int r = 0; r <= sheet.getLastRowNum(); r++) {
-    
-                    Row row = sheet.getRow(r);
-                    if (row == null) continue;
-    
-                    Cell cell = row.getCell(i);
-                    if (cell == null) continue;
-    
-                    String text = cell.toString();
-                    if (text == null) continue;
-    
-                    int visual = 0;
-                    for (char ch : text.toCharArray()) {
-                        visual += (ch > 0x007F) ? 2 : 1;
-                    }
-    
-                    maxWidth = Math.max(maxWidth, visual);
+                
+                progress.onRows(rowsWritten);
+                
+                if (page.size() < BULK_PAGE_SIZE) {
+                    break;
                 }
-    
-                sheet.setColumnWidth(i, Math.min(255 * 256, (maxWidth + 2) * 256));
             }
-    
-            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            
+            // 컬럼 너비 (작성 시 기록한 값 적용)
+            widths.apply(sheet);
+            
             workbook.write(out);
-            return out.toByteArray();
-    
+            out.flush();
+            
         } catch (Exception e) {
             throw new RuntimeException("엑셀 생성 실패", e);
         }
@@ -417,8 +209,15 @@ public class ExcelServiceImpl implements ExcelService {
         
         Submission submission = submissionRepository.findById(submissionId).orElseThrow(() -> new RuntimeException("존재하지않는 제출내역입니다."));
         
+        // 제출완료 상태였던 경우에만 제출 수 차감
+        boolean completed = Boolean.FALSE.equals(submission.getIsDraft());
+        
         submission.modifySubmitOff();
         
+        if (completed) {
+            counterService.addSubmissions(submission.getPortfolio().getId(), -1);
+        }
+        
         return new ApiResponse(200, true, "제출완료가 취소 되었습니다.");
     }
     
@@ -448,6 +247,12 @@ public class ExcelServiceImpl implements ExcelService {
         // 4. 질문 목록 조회
         List<Question> questions = questionRepository.findByPortfolioId((original.getId()));
         
+        // 옵션은 질문 전체를 한 번에 조회 후 질문별로 묶음
+        Map<Long, List<Options>> optionsByQuestion = optionsRepository.findByQuestionIds(
+                        questions.stream().map(Question::getId).toList()
+                ).stream()
+                .collect(Collectors.groupingBy(op -> op.getQuestion().getId()));
+        
         for (Question q : questions) {
             
             // 4-1 질문 복사
@@ -459,8 +264,9 @@ public class ExcelServiceImpl implements ExcelService {
             questionRepository.save(copiedQuestion);
             
             // 5. 옵션 복사
-            List<Options> optionList = optionsRepository.findByQuestionId(q.getId());
+            List<Options> optionList = optionsByQuestion.getOrDefault(q.getId(), List.of());
             
+            List<Options> copiedOptions = new ArrayList<>(optionList.size());
             for (Options op : optionList) {
                 
                 Options copiedOption = Options.builder()
@@ -476,10 +282,15 @@ public class ExcelServiceImpl implements ExcelService {
                         .option(op.getOption())
                         .build();
                 
-                optionsRepository.save(copiedOption);
+                copiedOptions.add(copiedOption);
             }
+            optionsRepository.saveAll(copiedOptions);
         }
         
+        // 6. 카운터 (복사본 질문 수 계산 / 카테고리 포트폴리오 수 증가)
+        counterService.recomputePortfolio(copied.getId());
+        counterService.addPortfolios(category.getId(), 1);
+        
         return new ApiResponse(200, true, "포트폴리오가 복사되었습니다.");
     }
 }
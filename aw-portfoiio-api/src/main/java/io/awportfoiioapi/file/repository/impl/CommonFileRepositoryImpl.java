@@ -7,7 +7,10 @@ import io.awportfoiioapi.file.enums.CommonFileType;
 import io.awportfoiioapi.file.repository.query.CommonFileQueryRepository;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static io.awportfoiioapi.file.entity.QCommonFile.*;
@@ -16,8 +19,18 @@ import static io.awportfoiioapi.file.entity.QCommonFile.commonFile;
 @RequiredArgsConstructor
 public class CommonFileRepositoryImpl implements CommonFileQueryRepository {
     
+    private static final int INSERT_BATCH_SIZE = 100;
+    
+    private static final String INSERT_SQL = """
+            INSERT INTO COMMON_FILE (
+                COMMON_FILE_TARGET_ID, COMMON_FILE_OPTIONS_ID, COMMON_FILE_QUESTION_STEP, COMMON_FILE_QUESTION_ORDERS,
+                COMMON_FILE_NAME, COMMON_FILE_UUID_NAME, COMMON_FILE_TYPE, COMMON_FILE_URL, REGIST_DATE, MODIFY_DATE
+            ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    
     private final JPAQueryFactory queryFactory;
     private final EntityManager em;
+    private final JdbcTemplate jdbcTemplate;
     
     @Override
     public CommonFile findByPortfolioFile(Long id, CommonFileType commonFileType) {
@@ -91,6 +104,20 @@ public class CommonFileRepositoryImpl implements CommonFileQueryRepository {
                 .execute();
     }
     
+    @Override
+    public List<Long> findOptionIdsByFileTarget(Long fileTargetId, CommonFileType fileType) {
+        return queryFactory
+                .select(commonFile.optionsId)
+                .distinct()
+                .from(commonFile)
+                .where(
+                        commonFile.fileTargetId.eq(fileTargetId),
+                        commonFile.fileType.eq(fileType),
+                        commonFile.optionsId.isNotNull()
+                )
+                .fetch();
+    }
+    
     @Override
     public CommonFile findByDeleteFile(Long optionsId, Integer questionStep, Integer questionOrder) {
         return queryFactory
@@ -98,4 +125,29 @@ public class CommonFileRepositoryImpl implements CommonFileQueryRepository {
                 .where(commonFile.optionsId.eq(optionsId) , commonFile.questionStep.eq(questionStep) , commonFile.questionOrder.eq(questionOrder))
                 .fetchFirst();
     }
+    
+    @Override
+    public void insertAll(List<CommonFile> files) {
+        
+        if (files.isEmpty()) {
+            return;
+        }
+        
+        // 같은 트랜잭션의 JPA 변경(대상 submission 등)을 먼저 반영
+        em.flush();
+        
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, files, INSERT_BATCH_SIZE, (ps, file) -> {
+            ps.setObject(1, file.getFileTargetId());
+            ps.setObject(2, file.getOptionsId());
+            ps.setObject(3, file.getQuestionStep());
+            ps.setObject(4, file.getQuestionOrder());
+            ps.setString(5, file.getFileName());
+            ps.setString(6, file.getFileUuidName());
+            ps.setString(7, file.getFileType() == null ? null : file.getFileType().name());
+            ps.setString(8, file.getFileUrl());
+            ps.setTimestamp(9, now);
+            ps.setTimestamp(10, now);
+        });
+    }
 }
@@ -22,5 +22,16 @@ public interface CommonFileQueryRepository {
     
     void deleteBySubmissionsFile(List<Long> ids);
     
+    /**
+     * 첨부 파일이 있는 옵션 id (제출 진행률 계산용, 파일 행 전체를 읽지 않음)
+     */
+    List<Long> findOptionIdsByFileTarget(Long fileTargetId, CommonFileType fileType);
+    
     CommonFile findByDeleteFile(Long optionsId, Integer questionStep, Integer questionOrder);
+    
+    /**
+     * JDBC 배치 insert (IDENTITY 라 JPA saveAll 은 건별 insert)
+     * - 영속성 컨텍스트에 올라가지 않고 id 도 채워지지 않음
+     */
+    void insertAll(List<CommonFile> files);
 }
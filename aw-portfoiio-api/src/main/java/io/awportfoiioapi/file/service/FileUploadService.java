@@ -0,0 +1,36 @@
+package io.awportfoiioapi.file.service;
+
+import io.awportfoiioapi.utils.UploadResult;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+import java.util.function.Function;
+
+public interface FileUploadService {
+    
+    /**
+     * 파일 1건 업로드 (트랜잭션 안에서 호출하면 롤백 시 업로드한 파일 삭제)
+     */
+    UploadResult upload(MultipartFile file, String folder);
+    
+    /**
+     * 파일 여러 개 동시 업로드
+     * - 결과는 files 순서 그대로 (빈 파일은 넘기지 않음)
+     * - 하나라도 실패하면 이미 올라간 파일은 삭제 후 예외
+     * - 트랜잭션 안에서 호출하면 롤백 시 업로드한 파일 삭제
+     */
+    List<UploadResult> uploadAll(List<MultipartFile> files, String folder);
+    
+    /**
+     * 파일 업로드 후 DB 작업을 짧은 트랜잭션으로 실행 (S3 업로드 동안 DB 커넥션을 잡지 않음)
+     * - 호출하는 쪽은 트랜잭션 밖이어야 함 (@Transactional(propagation = NOT_SUPPORTED))
+     * - DB 작업이 실패(롤백)하면 올라간 파일은 아웃박스(ORPHAN_CLEANUP)로 정리
+     * @param save 업로드 결과(files 순서 그대로)로 DB 작업
+     */
+    <T> T uploadThenSave(List<MultipartFile> files, String folder, Function<List<UploadResult>, T> save);
+    
+    /**
+     * 파일 1건 (없거나 빈 파일이면 업로드 없이 null 로 DB 작업)
+     */
+    <T> T uploadThenSave(MultipartFile file, String folder, Function<UploadResult, T> save);
+}
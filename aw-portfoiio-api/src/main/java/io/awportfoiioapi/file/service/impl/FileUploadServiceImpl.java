@@ -0,0 +1,200 @@
+package io.awportfoiioapi.file.service.impl;
+
+import io.awportfoiioapi.file.service.FileUploadService;
+import io.awportfoiioapi.metrics.RequestMetricsContext;
+import io.awportfoiioapi.outbox.service.FileOutboxService;
+import io.awportfoiioapi.utils.S3FileUtils;
+import io.awportfoiioapi.utils.UploadResult;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Function;
+
+/**
+ * 파일 병렬 업로드
+ * - 전용 스레드풀(크기/대기열 제한)에서 파일별로 동시에 업로드, 대기열이 차면 요청 스레드가 직접 업로드
+ * - 전체 소요시간 ≒ 가장 오래 걸린 파일 1건 (파일 수 > pool-size 이면 그만큼 나눠서)
+ * - 업로드는 트랜잭션 밖 자원이라 롤백되면 afterCompletion 에서 아웃박스(ORPHAN_CLEANUP)에 정리 예약
+ * - uploadThenSave : 업로드를 먼저 끝내고 DB 작업만 트랜잭션으로 (커넥션은 DB 작업 동안만 사용)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FileUploadServiceImpl implements FileUploadService {
+    
+    private final S3FileUtils s3FileUtils;
+    private final FileOutboxService fileOutboxService;
+    private final PlatformTransactionManager transactionManager;
+    
+    private ThreadPoolTaskExecutor executor;
+    private TransactionTemplate transactionTemplate;
+    
+    @Value("${file.upload.pool-size:8}")
+    private int poolSize;
+    
+    @Value("${file.upload.queue-capacity:64}")
+    private int queueCapacity;
+    
+    @PostConstruct
+    public void init() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("file-upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        // 업로드 S3 호출도 요청 메트릭(http.route.s3.*)에 포함
+        executor.setTaskDecorator(RequestMetricsContext::propagate);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+    
+    @Override
+    public UploadResult upload(MultipartFile file, String folder) {
+        UploadResult result = s3FileUtils.storeFile(file, folder);
+        deleteOnRollback(List.of(result));
+        return result;
+    }
+    
+    @Override
+    public List<UploadResult> uploadAll(List<MultipartFile> files, String folder) {
+        
+        if (files.isEmpty()) {
+            return List.of();
+        }
+        
+        List<UploadResult> results;
+        if (files.size() == 1) {
+            results = List.of(s3FileUtils.storeFile(files.get(0), folder));
+        } else {
+            results = uploadConcurrently(files, folder);
+        }
+        
+        deleteOnRollback(results);
+        return results;
+    }
+    
+    @Override
+    public <T> T uploadThenSave(List<MultipartFile> files, String folder, Function<List<UploadResult>, T> save) {
+        
+        // 트랜잭션 안에서 호출되면 롤백 시 정리는 uploadAll 이 등록한 afterCompletion 에서
+        boolean inTransaction = TransactionSynchronizationManager.isSynchronizationActive();
+        
+        List<UploadResult> results = uploadAll(files, folder);
+        try {
+            return transactionTemplate.execute(status -> save.apply(results));
+        } catch (RuntimeException | Error e) {
+            if (!inTransaction) {
+                cleanup(results);
+            }
+            throw e;
+        }
+    }
+    
+    @Override
+    public <T> T uploadThenSave(MultipartFile file, String folder, Function<UploadResult, T> save) {
+        List<MultipartFile> files = file == null || file.isEmpty() ? List.of() : List.of(file);
+        return uploadThenSave(files, folder, results -> save.apply(results.isEmpty() ? null : results.get(0)));
+    }
+    
+    private List<UploadResult> uploadConcurrently(List<MultipartFile> files, String folder) {
+        
+        List<Future<UploadResult>> futures = new ArrayList<>(files.size());
+        for (MultipartFile file : files) {
+            futures.add(executor.submit(() -> s3FileUtils.storeFile(file, folder)));
+        }
+        
+        // 실패가 있어도 나머지는 끝까지 기다려서 올라간 파일을 정리
+        List<UploadResult> results = new ArrayList<>(files.size());
+        RuntimeException failure = null;
+        for (Future<UploadResult> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (ExecutionException e) {
+                failure = addFailure(failure, e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure = addFailure(failure, e);
+            }
+        }
+        
+        if (failure != null) {
+            cleanup(results);
+            throw failure;
+        }
+        return results;
+    }
+    
+    private void deleteOnRollback(List<UploadResult> results) {
+        
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    cleanup(results);
+                }
+            }
+        });
+    }
+    
+    /**
+     * 올라간 파일 정리 예약 (기록 실패하면 바로 삭제 시도)
+     */
+    private void cleanup(List<UploadResult> results) {
+        
+        if (results.isEmpty()) {
+            return;
+        }
+        
+        List<String> urls = results.stream().map(UploadResult::url).toList();
+        try {
+            fileOutboxService.cleanupOrphans(urls);
+        } catch (RuntimeException e) {
+            log.warn("업로드 정리 예약 실패 - 바로 삭제 {}", urls, e);
+            for (String url : urls) {
+                try {
+                    s3FileUtils.deleteFile(url);
+                } catch (RuntimeException deleteError) {
+                    log.warn("업로드 파일 정리 실패 url={}", url, deleteError);
+                }
+            }
+        }
+    }
+    
+    private static RuntimeException addFailure(RuntimeException failure, Throwable cause) {
+        if (failure == null) {
+            return cause instanceof RuntimeException runtime
+                    ? runtime
+                    : new RuntimeException("파일 업로드에 실패했습니다.", cause);
+        }
+        failure.addSuppressed(cause);
+        return failure;
+    }
+}
@@ -1,5 +1,6 @@
 package io.awportfoiioapi.log;
 
+import io.awportfoiioapi.log.enums.SqlLogMode;
 import net.sf.log4jdbc.log.SpyLogDelegator;
 import net.sf.log4jdbc.sql.Spy;
 import net.sf.log4jdbc.sql.resultsetcollector.ResultSetCollector;
@@ -18,37 +19,51 @@ public class CustomLog4JdbcCustomFormatter implements SpyLogDelegator {
             "\\b(from|where|and|or|group by|order by|having|left join|right join|inner join|outer join|select|insert into|values|update|set)\\b",
             Pattern.CASE_INSENSITIVE
     );
+    private static final Pattern COMMA_PATTERN = Pattern.compile(",\\s*");
+    
+    private static final String RESULT_SET = "ResultSet";
     
     
     @Override
     public boolean isJdbcLoggingEnabled() {
-        return true;
+        return SqlStatementMetrics.mode() != SqlLogMode.OFF;
     }
     
+    /**
+     * 실행 직전 호출
+     * - FORMAT 모드에서만 전체 SQL 정렬 로그 (METRICS 모드는 실행 후 느린/샘플 쿼리만)
+     */
     @Override
     public void sqlOccurred(Spy spy, String methodCall, String rawSql) {
-        // 1. 줄바꿈 정리
-         String cleanedSql = CLEAN_PATTERN.matcher(rawSql).replaceAll("\n");
-        
-        // 2. SQL 키워드 기준으로 줄바꿈
-        cleanedSql = SQL_KEYWORDS.matcher(cleanedSql).replaceAll("\n$1");
-        
-        // 3. 콤마 뒤에도 개행 추가 (SELECT, SET 등)
-        cleanedSql = cleanedSql.replaceAll(",\\s*", ",\n  ");
         
-        // 4. Mapper 정보 (ThreadLocal로부터)
-        String mapperId = JpaQueryContextHolder.get();
-        if (mapperId != null) {
-            cleanedSql = "/* " + mapperId + " */" + cleanedSql;
-            JpaQueryContextHolder.clear();
+        if (SqlStatementMetrics.mode() != SqlLogMode.FORMAT || !sqlLogger.isInfoEnabled()) {
+            return;
         }
-        sqlLogger.info("[SQL] {} :::\n{}", methodCall, cleanedSql);
         
+        sqlLogger.info("[SQL] {} :::\n{}", methodCall, format(rawSql));
     }
     
+    /**
+     * 실행 완료 후 호출 (execTime ms)
+     * - shape 별 메트릭 기록
+     * - 느리거나 샘플링된 쿼리만 정렬해서 로그
+     */
     @Override
     public void sqlTimingOccurred(Spy spy, long execTime, String methodCall, String rawSql) {
-    
+        
+        boolean report = SqlStatementMetrics.executed(rawSql, execTime);
+        
+        if (!report || SqlStatementMetrics.mode() != SqlLogMode.METRICS) {
+            return;
+        }
+        
+        if (SqlStatementMetrics.isSlow(execTime)) {
+            if (sqlLogger.isWarnEnabled()) {
+                sqlLogger.warn("[SLOW SQL {}ms] {} :::\n{}", execTime, methodCall, format(rawSql));
+            }
+        } else if (sqlLogger.isInfoEnabled()) {
+            sqlLogger.info("[SQL {}ms] {} :::\n{}", execTime, methodCall, format(rawSql));
+        }
     }
     
     @Override
@@ -56,9 +71,34 @@ public class CustomLog4JdbcCustomFormatter implements SpyLogDelegator {
         sqlLogger.error("SQL ERROR [{}] :::\n{}", execTime, sql, e);
     }
     
+    /**
+     * 행 수 집계
+     * - ResultSet.next() 가 true 인 횟수 = 조회 행 수
+     * - executeUpdate 반환값 = 변경 행 수
+     */
     @Override
     public void methodReturned(Spy spy, String returnMsg, String methodCall) {
-    
+        
+        if (RESULT_SET.equals(spy.getClassType())) {
+            if ("next()".equals(methodCall)) {
+                if ("true".equals(returnMsg)) {
+                    SqlStatementMetrics.rowRead();
+                } else {
+                    SqlStatementMetrics.resultClosed();
+                }
+            } else if ("close()".equals(methodCall)) {
+                SqlStatementMetrics.resultClosed();
+            }
+            return;
+        }
+        
+        if (methodCall.startsWith("executeUpdate")) {
+            try {
+                SqlStatementMetrics.updated(Integer.parseInt(returnMsg));
+            } catch (NumberFormatException ignored) {
+                // 반환값이 숫자가 아니면 집계하지 않음
+            }
+        }
     }
     
     @Override
@@ -100,4 +140,21 @@ public class CustomLog4JdbcCustomFormatter implements SpyLogDelegator {
     public void resultSetCollected(ResultSetCollector resultSetCollector) {
     
     }
+    
+    /**
+     * SQL 정렬 (로그로 남길 때만 호출)
+     */
+    private String format(String rawSql) {
+        // 1. 줄바꿈 정리
+        String cleanedSql = CLEAN_PATTERN.matcher(rawSql).replaceAll("\n");
+        
+        // 2. SQL 키워드 기준으로 줄바꿈
+        cleanedSql = SQL_KEYWORDS.matcher(cleanedSql).replaceAll("\n$1");
+        
+        // 3. 콤마 뒤에도 개행 추가 (SELECT, SET 등)
+        cleanedSql = COMMA_PATTERN.matcher(cleanedSql).replaceAll(",\n  ");
+        
+        // repository 출처는 RepositoryTagStatementInspector 가 SQL 주석으로 이미 붙여둠
+        return cleanedSql;
+    }
 }
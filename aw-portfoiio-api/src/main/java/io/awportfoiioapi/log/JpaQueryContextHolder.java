@@ -1,17 +1,21 @@
 package io.awportfoiioapi.log;
 
+/**
+ * 현재 스레드에서 실행 중인 repository 메서드 태그
+ * - 비울 때도 remove 대신 null 로 덮어써서 ThreadLocal 엔트리를 재사용
+ */
 public class JpaQueryContextHolder {
-    private static final ThreadLocal<String> contextHolder = new ThreadLocal<>();
+    private static final ThreadLocal<QueryTag> contextHolder = new ThreadLocal<>();
     
-    public static void set(String context) {
+    public static void set(QueryTag context) {
         contextHolder.set(context);
     }
     
-    public static String get() {
+    public static QueryTag get() {
         return contextHolder.get();
     }
     
     public static void clear() {
-        contextHolder.remove();
+        contextHolder.set(null);
     }
 }
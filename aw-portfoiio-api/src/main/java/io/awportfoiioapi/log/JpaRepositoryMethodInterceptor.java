@@ -1,28 +1,89 @@
 package io.awportfoiioapi.log;
 
-import org.aspectj.lang.JoinPoint;
-import org.aspectj.lang.annotation.After;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.annotation.Before;
 import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.data.repository.Repository;
 import org.springframework.stereotype.Component;
 
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * repository 호출 구간에 쿼리 출처 태그 설정
+ * - 대상 : Spring Data repository 메서드만 (서비스/유틸 등은 제외)
+ * - 태그는 repository 프록시 클래스 + 메서드 단위로 캐시
+ * - 설정된 태그는 SQL 주석(RepositoryTagStatementInspector)과 SQL 메트릭(repository 태그)에 사용
+ */
 @Aspect
 @Component
 public class JpaRepositoryMethodInterceptor {
     
-    @Pointcut("execution(* io.awportfoiioapi..*.*(..))")
+    private static final String BASE_PACKAGE = "io.awportfoiioapi.";
+    
+    private final ClassValue<RepositoryTags> tags = new ClassValue<>() {
+        @Override
+        protected RepositoryTags computeValue(Class<?> proxyClass) {
+            return new RepositoryTags(repositoryName(proxyClass));
+        }
+    };
+    
+    @Pointcut("execution(* org.springframework.data.repository.Repository+.*(..))")
     public void jpaRepositoryMethods() {}
     
-    @Before("jpaRepositoryMethods()")
-    public void beforeQuery(JoinPoint joinPoint) {
-        String methodSignature = joinPoint.getSignature().toShortString();
-        JpaQueryContextHolder.set(methodSignature);
+    @Around("jpaRepositoryMethods()")
+    public Object aroundQuery(ProceedingJoinPoint joinPoint) throws Throwable {
+        
+        // repository 안에서 다른 repository 를 부르는 경우 바깥 태그 유지
+        if (JpaQueryContextHolder.get() != null) {
+            return joinPoint.proceed();
+        }
+        
+        JpaQueryContextHolder.set(tagOf(joinPoint));
+        try {
+            return joinPoint.proceed();
+        } finally {
+            JpaQueryContextHolder.clear();
+        }
+    }
+    
+    private QueryTag tagOf(ProceedingJoinPoint joinPoint) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        RepositoryTags repositoryTags = tags.get(joinPoint.getThis().getClass());
+        
+        QueryTag tag = repositoryTags.byMethod.get(method);
+        if (tag == null) {
+            tag = repositoryTags.byMethod.computeIfAbsent(method, repositoryTags::create);
+        }
+        return tag;
+    }
+    
+    /**
+     * 프록시가 구현한 인터페이스 중 프로젝트 repository 이름 (PortfolioRepository 등)
+     */
+    private static String repositoryName(Class<?> proxyClass) {
+        for (Class<?> type : proxyClass.getInterfaces()) {
+            if (Repository.class.isAssignableFrom(type) && type.getName().startsWith(BASE_PACKAGE)) {
+                return type.getSimpleName();
+            }
+        }
+        return proxyClass.getSimpleName();
     }
     
-    @After("jpaRepositoryMethods()")
-    public void afterQuery() {
-        JpaQueryContextHolder.clear();
+    private static final class RepositoryTags {
+        
+        private final String repositoryName;
+        private final Map<Method, QueryTag> byMethod = new ConcurrentHashMap<>();
+        
+        private RepositoryTags(String repositoryName) {
+            this.repositoryName = repositoryName;
+        }
+        
+        private QueryTag create(Method method) {
+            return QueryTag.of(repositoryName + "." + method.getName());
+        }
     }
-}
\ No newline at end of file
+}
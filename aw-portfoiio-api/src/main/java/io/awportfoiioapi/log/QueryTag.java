@@ -0,0 +1,20 @@
+package io.awportfoiioapi.log;
+
+/**
+ * 쿼리 출처 태그 (repository 메서드)
+ * - 메서드마다 한 번만 만들어서 재사용 (호출마다 문자열 생성 없음)
+ *
+ * @param name    repository 메서드 이름 (PortfolioRepository.findById)
+ * @param comment SQL 앞에 붙일 블록 주석 (name 을 감싼 형태, 끝에 공백 포함)
+ */
+public record QueryTag(String name, String comment) {
+    
+    // repository 밖에서 실행된 쿼리
+    public static final QueryTag NONE = new QueryTag("none", "");
+    
+    public static QueryTag of(String name) {
+        // 주석 종료 문자열이 끼어들지 않도록 제거
+        String safe = name.replace("*/", "");
+        return new QueryTag(safe, "/* " + safe + " */ ");
+    }
+}
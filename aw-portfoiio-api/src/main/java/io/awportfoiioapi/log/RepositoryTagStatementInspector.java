@@ -0,0 +1,20 @@
+package io.awportfoiioapi.log;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 만든 SQL 앞에 repository 메서드 주석 추가
+ * - 예) PortfolioRepository.findById 를 블록 주석으로 감싸서 SQL 맨 앞에 붙임
+ * - DB 슬로우 쿼리 로그 / processlist 에서도 출처 확인 가능
+ */
+public class RepositoryTagStatementInspector implements StatementInspector {
+    
+    @Override
+    public String inspect(String sql) {
+        QueryTag tag = JpaQueryContextHolder.get();
+        if (tag == null) {
+            return sql;
+        }
+        return tag.comment() + sql;
+    }
+}
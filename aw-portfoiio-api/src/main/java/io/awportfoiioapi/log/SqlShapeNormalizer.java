@@ -0,0 +1,141 @@
+package io.awportfoiioapi.log;
+
+/**
+ * SQL 형태(shape) 정규화
+ * - log4jdbc 가 넘겨주는 SQL 은 파라미터 값이 채워진 상태라 값만 다른 쿼리를 하나로 묶기 위해 사용
+ * - 문자열/숫자 리터럴 -> ?, IN (?, ?, ?) -> IN (?), 공백 축약, 주석 제거
+ * - 정규식 없이 한 번 훑어서 처리
+ */
+public final class SqlShapeNormalizer {
+    
+    // shape 최대 길이 (메트릭 태그로 쓰이므로 제한)
+    static final int MAX_LENGTH = 300;
+    
+    private SqlShapeNormalizer() {
+    }
+    
+    public static String normalize(String sql) {
+        
+        if (sql == null) {
+            return "";
+        }
+        
+        int length = sql.length();
+        StringBuilder out = new StringBuilder(Math.min(length, MAX_LENGTH) + 8);
+        boolean space = false;
+        int i = 0;
+        
+        while (i < length && out.length() < MAX_LENGTH) {
+            char c = sql.charAt(i);
+            
+            // 블록 주석
+            if (c == '/' && i + 1 < length && sql.charAt(i + 1) == '*') {
+                int end = sql.indexOf("*/", i + 2);
+                i = end < 0 ? length : end + 2;
+                space = true;
+                continue;
+            }
+            
+            // 공백 축약
+            if (Character.isWhitespace(c)) {
+                space = true;
+                i++;
+                continue;
+            }
+            
+            // 문자열 리터럴
+            if (c == '\'') {
+                i = skipString(sql, i + 1);
+                placeholder(out, space);
+                space = false;
+                continue;
+            }
+            
+            // 숫자 리터럴 (t1_0 같은 식별자 일부는 제외)
+            if (Character.isDigit(c) && (space || !isIdentifierEnd(out))) {
+                while (i < length && (Character.isDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+                    i++;
+                }
+                placeholder(out, space);
+                space = false;
+                continue;
+            }
+            
+            if (space && !out.isEmpty()) {
+                out.append(' ');
+            }
+            space = false;
+            out.append(c);
+            i++;
+        }
+        
+        return out.toString();
+    }
+    
+    /**
+     * 문장 종류 (select / insert / update / delete / other)
+     */
+    public static String typeOf(String shape) {
+        if (startsWith(shape, "select") || startsWith(shape, "with")) {
+            return "select";
+        }
+        if (startsWith(shape, "insert")) {
+            return "insert";
+        }
+        if (startsWith(shape, "update")) {
+            return "update";
+        }
+        if (startsWith(shape, "delete")) {
+            return "delete";
+        }
+        return "other";
+    }
+    
+    private static boolean startsWith(String shape, String keyword) {
+        return shape.regionMatches(true, 0, keyword, 0, keyword.length());
+    }
+    
+    private static int skipString(String sql, int i) {
+        int length = sql.length();
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (c == '\\') {
+                i += 2;
+                continue;
+            }
+            if (c == '\'') {
+                // '' 는 escape
+                if (i + 1 < length && sql.charAt(i + 1) == '\'') {
+                    i += 2;
+                    continue;
+                }
+                return i + 1;
+            }
+            i++;
+        }
+        return length;
+    }
+    
+    private static void placeholder(StringBuilder out, boolean space) {
+        int last = out.length() - 1;
+        
+        // 바로 앞이 "?," 이면 목록으로 보고 하나로 합침
+        if (last >= 1 && out.charAt(last) == ',' && out.charAt(last - 1) == '?') {
+            out.setLength(last);
+            return;
+        }
+        
+        if (space && !out.isEmpty()) {
+            out.append(' ');
+        }
+        out.append('?');
+    }
+    
+    private static boolean isIdentifierEnd(StringBuilder out) {
+        if (out.isEmpty()) {
+            return false;
+        }
+        char c = out.charAt(out.length() - 1);
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+}
@@ -0,0 +1,176 @@
+package io.awportfoiioapi.log;
+
+import io.awportfoiioapi.metrics.QueryBudgetScope;
+import io.awportfoiioapi.metrics.RequestMetricsContext;
+import io.awportfoiioapi.log.enums.SqlLogMode;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SQL 형태(shape)별 메트릭
+ * - sql.statement        : 실행시간 히스토그램 + 호출 수 {repository, shape, type}
+ * - sql.statement.rows   : 조회/변경 행 수 {repository, shape, type}
+ * - repository 태그는 JpaRepositoryMethodInterceptor 가 설정한 현재 스레드의 QueryTag
+ * - log4jdbc 가 스프링 밖에서 생성하므로 전역 레지스트리(Metrics.globalRegistry) 사용, 설정은 SqlLogConfig 에서 주입
+ */
+public final class SqlStatementMetrics {
+    
+    // shape 개수 제한 초과 시 묶을 이름
+    static final String OTHER_SHAPE = "other";
+    
+    private static volatile SqlLogMode mode = SqlLogMode.METRICS;
+    private static volatile long slowThresholdMillis = 200;
+    private static volatile double sampleRate = 0.0;
+    private static volatile int maxShapes = 500;
+    
+    // repository 태그 -> shape -> 메트릭
+    private static final Map<QueryTag, Map<String, ShapeMeters>> SHAPES = new ConcurrentHashMap<>();
+    private static final AtomicInteger SHAPE_COUNT = new AtomicInteger();
+    
+    // 현재 스레드에서 읽고 있는 결과의 행 수 (ResultSet.next 기준)
+    private static final ThreadLocal<PendingRows> PENDING = ThreadLocal.withInitial(PendingRows::new);
+    
+    private SqlStatementMetrics() {
+    }
+    
+    public static void configure(SqlLogMode mode, Duration slowThreshold, double sampleRate, int maxShapes) {
+        SqlStatementMetrics.mode = mode;
+        SqlStatementMetrics.slowThresholdMillis = slowThreshold.toMillis();
+        SqlStatementMetrics.sampleRate = sampleRate;
+        SqlStatementMetrics.maxShapes = maxShapes;
+    }
+    
+    public static SqlLogMode mode() {
+        return mode;
+    }
+    
+    /**
+     * 실행 완료 기록
+     * @return 느리거나 샘플링 대상이면 true (이때만 SQL 정렬 로그)
+     */
+    public static boolean executed(String rawSql, long execTimeMillis) {
+        
+        QueryTag tag = JpaQueryContextHolder.get();
+        String shape = SqlShapeNormalizer.normalize(rawSql);
+        ShapeMeters meters = meters(tag == null ? QueryTag.NONE : tag, shape);
+        meters.timer().record(execTimeMillis, TimeUnit.MILLISECONDS);
+        
+        // 요청 단위 누적 (엔드포인트별 SQL 수 / JDBC 시간)
+        RequestMetricsContext.sqlExecuted(execTimeMillis);
+        QueryBudgetScope.statement(shape);
+        
+        // 이전 결과를 다 읽지 않고 다음 쿼리가 실행된 경우 지금까지 읽은 행 수로 마감
+        PendingRows pending = PENDING.get();
+        pending.flush(false);
+        pending.meters = meters;
+        
+        return execTimeMillis >= slowThresholdMillis
+                || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+    
+    public static boolean isSlow(long execTimeMillis) {
+        return execTimeMillis >= slowThresholdMillis;
+    }
+    
+    /**
+     * ResultSet.next() == true
+     */
+    public static void rowRead() {
+        PendingRows pending = PENDING.get();
+        if (pending.meters != null) {
+            pending.rows++;
+            pending.reading = true;
+        }
+    }
+    
+    /**
+     * ResultSet.next() == false 또는 close()
+     */
+    public static void resultClosed() {
+        PENDING.get().flush(true);
+    }
+    
+    /**
+     * executeUpdate 반환값 (변경 행 수)
+     */
+    public static void updated(int rows) {
+        PendingRows pending = PENDING.get();
+        if (pending.meters != null) {
+            pending.meters.rows().record(rows);
+            pending.clear();
+        }
+    }
+    
+    private static ShapeMeters meters(QueryTag tag, String shape) {
+        Map<String, ShapeMeters> byShape = SHAPES.get(tag);
+        if (byShape == null) {
+            byShape = SHAPES.computeIfAbsent(tag, key -> new ConcurrentHashMap<>());
+        }
+        
+        ShapeMeters meters = byShape.get(shape);
+        if (meters != null) {
+            return meters;
+        }
+        
+        // 형태 수 제한 (동적 SQL 로 태그가 무한히 늘어나는 것 방지)
+        String key = SHAPE_COUNT.get() >= maxShapes ? OTHER_SHAPE : shape;
+        return byShape.computeIfAbsent(key, newShape -> register(tag, newShape));
+    }
+    
+    private static ShapeMeters register(QueryTag tag, String shape) {
+        SHAPE_COUNT.incrementAndGet();
+        String type = OTHER_SHAPE.equals(shape) ? "other" : SqlShapeNormalizer.typeOf(shape);
+        
+        Timer timer = Timer.builder("sql.statement")
+                .description("SQL 형태별 실행시간")
+                .tag("repository", tag.name())
+                .tag("shape", shape)
+                .tag("type", type)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(Metrics.globalRegistry);
+        
+        DistributionSummary rows = DistributionSummary.builder("sql.statement.rows")
+                .description("SQL 형태별 조회/변경 행 수")
+                .tag("repository", tag.name())
+                .tag("shape", shape)
+                .tag("type", type)
+                .register(Metrics.globalRegistry);
+        
+        return new ShapeMeters(timer, rows);
+    }
+    
+    private record ShapeMeters(Timer timer, DistributionSummary rows) {
+    }
+    
+    private static final class PendingRows {
+        private ShapeMeters meters;
+        private long rows;
+        private boolean reading;
+        
+        /**
+         * @param closed 결과를 끝까지 읽었거나 닫힌 경우 (0건도 기록)
+         */
+        private void flush(boolean closed) {
+            if (meters != null && (closed || reading)) {
+                meters.rows().record(rows);
+            }
+            clear();
+        }
+        
+        private void clear() {
+            meters = null;
+            rows = 0;
+            reading = false;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package io.awportfoiioapi.log.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum SqlLogMode {
+    METRICS("메트릭 + 느린/샘플 쿼리만 로그"),
+    FORMAT("메트릭 + 전체 쿼리 정렬 로그"),
+    OFF("사용안함");
+    
+    private final String value;
+}
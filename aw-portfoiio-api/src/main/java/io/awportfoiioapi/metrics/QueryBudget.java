@@ -0,0 +1,21 @@
+package io.awportfoiioapi.metrics;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 메서드별 SQL 실행 한도
+ * - 지정하지 않은 값(-1)은 query-budget.* 기본값 사용
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+    
+    // 요청당 최대 SQL 수
+    int statements() default -1;
+    
+    // 같은 형태(shape) SQL 최대 반복 수
+    int repeats() default -1;
+}
@@ -0,0 +1,33 @@
+package io.awportfoiioapi.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 컨트롤러 메서드의 @QueryBudget 을 현재 요청 구간에 적용
+ */
+public class QueryBudgetInterceptor implements HandlerInterceptor {
+    
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        
+        QueryBudgetScope scope = QueryBudgetScope.current();
+        if (scope == null || !(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String route = request.getMethod() + " " + (pattern == null ? request.getRequestURI() : pattern);
+        
+        QueryBudget budget = handlerMethod.getMethodAnnotation(QueryBudget.class);
+        if (budget == null) {
+            scope.limit(route, -1, -1);
+        } else {
+            scope.limit(route, budget.statements(), budget.repeats());
+        }
+        return true;
+    }
+}
@@ -0,0 +1,132 @@
+package io.awportfoiioapi.metrics;
+
+import io.awportfoiioapi.metrics.enums.QueryBudgetAction;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * SQL 실행 한도 구간 (요청 단위 / 테스트 단위)
+ * - 구간 안에서 실행된 SQL 수와 형태(shape)별 반복 수를 센다 (log4jdbc 계층에서 호출)
+ * - 한도 초과 / 같은 형태 반복(N+1 의심) 시 LOG 면 경고 로그, FAIL 이면 그 SQL 실행 직후 예외
+ * - 중첩 가능 (닫으면 바깥 구간 복원)
+ */
+@Slf4j
+public final class QueryBudgetScope implements AutoCloseable {
+    
+    private static final ThreadLocal<QueryBudgetScope> CURRENT = new ThreadLocal<>();
+    
+    private final QueryBudgetScope previous;
+    
+    private String name;
+    private int statementLimit;
+    private int repeatLimit;
+    private final QueryBudgetAction action;
+    
+    private int statements;
+    private final Map<String, Integer> shapes = new HashMap<>();
+    private boolean budgetReported;
+    
+    private QueryBudgetScope(String name, int statementLimit, int repeatLimit, QueryBudgetAction action) {
+        this.previous = CURRENT.get();
+        this.name = name;
+        this.statementLimit = statementLimit;
+        this.repeatLimit = repeatLimit;
+        this.action = action;
+    }
+    
+    public static QueryBudgetScope open(String name, int statementLimit, int repeatLimit, QueryBudgetAction action) {
+        QueryBudgetScope scope = new QueryBudgetScope(name, statementLimit, repeatLimit, action);
+        CURRENT.set(scope);
+        return scope;
+    }
+    
+    /**
+     * 한도 제한 없이 개수만 세는 구간 (테스트에서 쿼리 수 검증용)
+     */
+    public static QueryBudgetScope counting(String name) {
+        return open(name, Integer.MAX_VALUE, Integer.MAX_VALUE, QueryBudgetAction.LOG);
+    }
+    
+    public static QueryBudgetScope current() {
+        return CURRENT.get();
+    }
+    
+    /**
+     * SQL 1건 실행 완료
+     */
+    public static void statement(String shape) {
+        QueryBudgetScope scope = CURRENT.get();
+        if (scope != null) {
+            scope.record(shape);
+        }
+    }
+    
+    /**
+     * 엔드포인트별 한도 적용 (@QueryBudget)
+     */
+    void limit(String name, int statementLimit, int repeatLimit) {
+        this.name = name;
+        if (statementLimit >= 0) {
+            this.statementLimit = statementLimit;
+        }
+        if (repeatLimit >= 0) {
+            this.repeatLimit = repeatLimit;
+        }
+    }
+    
+    public int getStatements() {
+        return statements;
+    }
+    
+    /**
+     * 형태별 실행 수
+     */
+    public Map<String, Integer> getShapes() {
+        return Collections.unmodifiableMap(shapes);
+    }
+    
+    /**
+     * 가장 많이 반복된 형태의 실행 수
+     */
+    public int getMaxRepeats() {
+        int max = 0;
+        for (int count : shapes.values()) {
+            max = Math.max(max, count);
+        }
+        return max;
+    }
+    
+    @Override
+    public void close() {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+    
+    private void record(String shape) {
+        statements++;
+        int repeats = shapes.merge(shape, 1, Integer::sum);
+        
+        if (statements > statementLimit && !budgetReported) {
+            budgetReported = true;
+            violation("[QUERY BUDGET] " + name + " : SQL " + statements + "건 실행 (한도 " + statementLimit + "건)");
+        }
+        
+        // 형태별로 한도에 처음 닿았을 때 한 번만
+        if (repeats == repeatLimit + 1) {
+            violation("[N+1] " + name + " : 같은 SQL " + repeats + "회 반복 (한도 " + repeatLimit + "회) :: " + shape);
+        }
+    }
+    
+    private void violation(String message) {
+        if (action == QueryBudgetAction.FAIL) {
+            throw new IllegalStateException(message);
+        }
+        log.warn(message);
+    }
+}
@@ -0,0 +1,121 @@
+package io.awportfoiioapi.metrics;
+
+/**
+ * 요청 단위 누적값 (SQL / S3 / presign)
+ * - RequestMetricsFilter 가 요청 시작 시 만들고 끝나면 메트릭으로 기록
+ * - 요청 스레드에서 누적, 작업 스레드는 propagate 로 감싼 작업만 포함 (파일 병렬 업로드 등)
+ */
+public final class RequestMetricsContext {
+    
+    private static final ThreadLocal<RequestMetricsContext> CURRENT = new ThreadLocal<>();
+    
+    private int sqlCount;
+    private long sqlMillis;
+    
+    private int s3Count;
+    private long s3Nanos;
+    
+    private int presignRequested;
+    private int presignMissed;
+    
+    static RequestMetricsContext start() {
+        RequestMetricsContext context = new RequestMetricsContext();
+        CURRENT.set(context);
+        return context;
+    }
+    
+    static void end() {
+        CURRENT.remove();
+    }
+    
+    /**
+     * 현재 요청의 누적값을 작업 스레드에서도 이어서 쓰도록 감싸기 (TaskDecorator 용)
+     * - 요청 밖에서 호출하면 그대로 반환
+     */
+    public static Runnable propagate(Runnable task) {
+        RequestMetricsContext context = CURRENT.get();
+        if (context == null) {
+            return task;
+        }
+        return () -> {
+            RequestMetricsContext previous = CURRENT.get();
+            CURRENT.set(context);
+            try {
+                task.run();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+    
+    /**
+     * SQL 1건 실행 완료 (log4jdbc 실행시간 ms)
+     */
+    public static void sqlExecuted(long execTimeMillis) {
+        RequestMetricsContext context = CURRENT.get();
+        if (context != null) {
+            synchronized (context) {
+                context.sqlCount++;
+                context.sqlMillis += execTimeMillis;
+            }
+        }
+    }
+    
+    /**
+     * S3 API 1건 호출 완료
+     */
+    public static void s3Called(long nanos) {
+        RequestMetricsContext context = CURRENT.get();
+        if (context != null) {
+            synchronized (context) {
+                context.s3Count++;
+                context.s3Nanos += nanos;
+            }
+        }
+    }
+    
+    /**
+     * presigned URL 조회 건수 / 그중 새로 서명한(캐시 미스) 건수
+     */
+    public static void presign(int requested, int missed) {
+        RequestMetricsContext context = CURRENT.get();
+        if (context != null) {
+            synchronized (context) {
+                context.presignRequested += requested;
+                context.presignMissed += missed;
+            }
+        }
+    }
+    
+    public static void presignMissed(int missed) {
+        presign(0, missed);
+    }
+    
+    int getSqlCount() {
+        return sqlCount;
+    }
+    
+    long getSqlMillis() {
+        return sqlMillis;
+    }
+    
+    int getS3Count() {
+        return s3Count;
+    }
+    
+    long getS3Nanos() {
+        return s3Nanos;
+    }
+    
+    int getPresignHits() {
+        return Math.max(0, presignRequested - presignMissed);
+    }
+    
+    int getPresignMissed() {
+        return presignMissed;
+    }
+}
@@ -0,0 +1,163 @@
+package io.awportfoiioapi.metrics;
+
+import io.awportfoiioapi.metrics.enums.QueryBudgetAction;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔드포인트(route)별 DB / S3 시간 분해 메트릭
+ * - http.route.sql.statements : 요청당 SQL 실행 수 (N+1 확인용)
+ * - http.route.sql.time       : 요청당 누적 JDBC 시간
+ * - http.route.s3.calls       : 요청당 S3 호출 수
+ * - http.route.s3.time        : 요청당 누적 S3 시간
+ * - http.route.presign        : presigned URL 캐시 적중/미스 {result=hit|miss}
+ * - 전체 응답시간은 스프링 기본 http.server.requests (히스토그램은 설정에서 활성화)
+ * - slow-threshold 이상 걸린 요청은 분해값을 한 줄 로그로 남김
+ * - 요청 단위 SQL 실행 한도 구간(QueryBudgetScope) 시작 (엔드포인트별 한도는 @QueryBudget)
+ * - 비동기 응답(StreamingResponseBody 등)은 본문 작성까지 끝난 시점(AsyncListener.onComplete)에 기록
+ *   (본문 작성 스레드의 SQL / S3 는 applicationTaskExecutor 의 TaskDecorator 로 같은 누적값에 합산)
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+public class RequestMetricsFilter extends OncePerRequestFilter {
+    
+    // 매핑되지 않은 요청(404 등)은 하나로 묶어서 태그 수 제한
+    private static final String UNKNOWN_ROUTE = "UNKNOWN";
+    
+    private final MeterRegistry meterRegistry;
+    
+    @Value("${metrics.request.slow-threshold:1s}")
+    private Duration slowThreshold;
+    
+    @Value("${query-budget.statements:50}")
+    private int statementLimit;
+    
+    @Value("${query-budget.repeats:10}")
+    private int repeatLimit;
+    
+    @Value("${query-budget.action:LOG}")
+    private QueryBudgetAction budgetAction;
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        
+        RequestMetricsContext context = RequestMetricsContext.start();
+        long start = System.nanoTime();
+        
+        QueryBudgetScope scope = QueryBudgetScope.open(
+                request.getMethod() + " " + request.getRequestURI(), statementLimit, repeatLimit, budgetAction);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            scope.close();
+            RequestMetricsContext.end();
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new RecordOnComplete(request, context, start));
+            } else {
+                record(request, context, System.nanoTime() - start);
+            }
+        }
+    }
+    
+    /**
+     * 비동기 요청 완료 시 기록 (타임아웃 / 오류도 마지막에 onComplete 가 호출됨)
+     */
+    private class RecordOnComplete implements AsyncListener {
+        
+        private final HttpServletRequest request;
+        private final RequestMetricsContext context;
+        private final long start;
+        
+        private RecordOnComplete(HttpServletRequest request, RequestMetricsContext context, long start) {
+            this.request = request;
+            this.context = context;
+            this.start = start;
+        }
+        
+        @Override
+        public void onComplete(AsyncEvent event) {
+            record(request, context, System.nanoTime() - start);
+        }
+        
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+        
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+        
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+    
+    private void record(HttpServletRequest request, RequestMetricsContext context, long elapsedNanos) {
+        
+        String method = request.getMethod();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? UNKNOWN_ROUTE : pattern.toString();
+        
+        DistributionSummary.builder("http.route.sql.statements")
+                .description("요청당 SQL 실행 수")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(context.getSqlCount());
+        
+        Timer.builder("http.route.sql.time")
+                .description("요청당 누적 JDBC 시간")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(context.getSqlMillis(), TimeUnit.MILLISECONDS);
+        
+        DistributionSummary.builder("http.route.s3.calls")
+                .description("요청당 S3 호출 수")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(context.getS3Count());
+        
+        Timer.builder("http.route.s3.time")
+                .description("요청당 누적 S3 시간")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(context.getS3Nanos(), TimeUnit.NANOSECONDS);
+        
+        if (context.getPresignHits() > 0) {
+            meterRegistry.counter("http.route.presign", "method", method, "uri", uri, "result", "hit")
+                    .increment(context.getPresignHits());
+        }
+        if (context.getPresignMissed() > 0) {
+            meterRegistry.counter("http.route.presign", "method", method, "uri", uri, "result", "miss")
+                    .increment(context.getPresignMissed());
+        }
+        
+        if (elapsedNanos >= slowThreshold.toNanos()) {
+            log.warn("[SLOW REQUEST] {} {} {}ms (sql={} / {}ms, s3={} / {}ms, presign hit={} miss={})",
+                    method, uri, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                    context.getSqlCount(), context.getSqlMillis(),
+                    context.getS3Count(), TimeUnit.NANOSECONDS.toMillis(context.getS3Nanos()),
+                    context.getPresignHits(), context.getPresignMissed());
+        }
+    }
+}
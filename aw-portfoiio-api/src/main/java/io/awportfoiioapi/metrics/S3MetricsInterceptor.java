@@ -0,0 +1,37 @@
+package io.awportfoiioapi.metrics;
+
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+
+/**
+ * S3 API 호출 시간 측정 (S3Client 에 등록)
+ * - 동기 클라이언트라 호출한 요청 스레드에서 실행되므로 RequestMetricsContext 에 바로 누적
+ */
+public class S3MetricsInterceptor implements ExecutionInterceptor {
+    
+    private static final ExecutionAttribute<Long> START_NANOS = new ExecutionAttribute<>("RequestMetricsStartNanos");
+    
+    @Override
+    public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+        executionAttributes.putAttribute(START_NANOS, System.nanoTime());
+    }
+    
+    @Override
+    public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+        record(executionAttributes);
+    }
+    
+    @Override
+    public void onExecutionFailure(Context.FailedExecution context, ExecutionAttributes executionAttributes) {
+        record(executionAttributes);
+    }
+    
+    private void record(ExecutionAttributes executionAttributes) {
+        Long start = executionAttributes.getAttribute(START_NANOS);
+        if (start != null) {
+            RequestMetricsContext.s3Called(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package io.awportfoiioapi.metrics.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum QueryBudgetAction {
+    LOG("경고 로그"),
+    FAIL("예외 발생");
+    
+    private final String value;
+}
@@ -5,6 +5,7 @@ import io.awportfoiioapi.options.entity.Options;
 import io.awportfoiioapi.options.respotiroy.query.OptionsQueryRepository;
 import lombok.RequiredArgsConstructor;
 
+import java.util.Collection;
 import java.util.List;
 
 import static io.awportfoiioapi.options.entity.QOptions.*;
@@ -30,4 +31,19 @@ public class OptionsRepositoryImpl implements OptionsQueryRepository {
                 .where(options.question.id.eq(id))
                 .fetch();
     }
+    
+    /**
+     * 여러 질문의 옵션을 한 번에 조회 (질문별 반복 조회 방지)
+     */
+    @Override
+    public List<Options> findByQuestionIds(Collection<Long> questionIds) {
+        if (questionIds == null || questionIds.isEmpty()) {
+            return List.of();
+        }
+        return queryFactory
+                .selectFrom(options)
+                .where(options.question.id.in(questionIds))
+                .orderBy(options.question.id.asc(), options.id.asc())
+                .fetch();
+    }
 }
@@ -0,0 +1,88 @@
+package io.awportfoiioapi.outbox.entity;
+
+import io.awportfoiioapi.mapperd.DateSuperClass;
+import io.awportfoiioapi.outbox.enums.FileOutboxOperation;
+import io.awportfoiioapi.outbox.enums.FileOutboxStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+import static jakarta.persistence.GenerationType.IDENTITY;
+
+/**
+ * 파일 작업 아웃박스
+ * - 업무 트랜잭션 안에서는 행만 기록하고, 실제 저장소(S3) 작업은 커밋 후 FileOutboxService 가 일괄 처리
+ * - 처리에 성공한 행은 삭제, 실패하면 재시도 시각을 늦춰서 다시 시도
+ */
+@Table(name = "FILE_OUTBOX")
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class FileOutbox extends DateSuperClass {
+    
+    private static final int MAX_ERROR_LENGTH = 1000;
+    
+    // 파일 아웃박스 ID
+    @Id
+    @Column(name = "FILE_OUTBOX_ID")
+    @GeneratedValue(strategy = IDENTITY)
+    private Long id;
+    
+    // 작업 종류
+    @Column(name = "FILE_OUTBOX_OPERATION")
+    @Enumerated(EnumType.STRING)
+    private FileOutboxOperation operation;
+    
+    // 저장소 key ({folder}/{파일명})
+    @Column(name = "FILE_OUTBOX_FILE_KEY")
+    private String fileKey;
+    
+    // 상태
+    @Column(name = "FILE_OUTBOX_STATUS")
+    @Enumerated(EnumType.STRING)
+    private FileOutboxStatus status;
+    
+    // 시도 횟수
+    @Column(name = "FILE_OUTBOX_ATTEMPTS")
+    private Integer attempts;
+    
+    // 다음 처리 가능 시각
+    @Column(name = "FILE_OUTBOX_NEXT_ATTEMPT_DATE")
+    private LocalDateTime nextAttemptDate;
+    
+    // 마지막 실패 사유
+    @Column(name = "FILE_OUTBOX_LAST_ERROR")
+    private String lastError;
+    
+    public static FileOutbox pending(FileOutboxOperation operation, String fileKey) {
+        return FileOutbox.builder()
+                .operation(operation)
+                .fileKey(fileKey)
+                .status(FileOutboxStatus.PENDING)
+                .attempts(0)
+                .nextAttemptDate(LocalDateTime.now())
+                .build();
+    }
+    
+    public void retryLater(String error, LocalDateTime nextAttemptDate) {
+        this.attempts = attempts + 1;
+        this.lastError = truncate(error);
+        this.nextAttemptDate = nextAttemptDate;
+    }
+    
+    public void fail(String error) {
+        this.attempts = attempts + 1;
+        this.lastError = truncate(error);
+        this.status = FileOutboxStatus.FAILED;
+    }
+    
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,13 @@
+package io.awportfoiioapi.outbox.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum FileOutboxOperation {
+    DELETE("파일 삭제"),
+    ORPHAN_CLEANUP("롤백된 업로드 정리");
+    
+    private final String value;
+}
@@ -0,0 +1,13 @@
+package io.awportfoiioapi.outbox.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum FileOutboxStatus {
+    PENDING("처리 대기"),
+    FAILED("재시도 초과");
+    
+    private final String value;
+}
@@ -0,0 +1,8 @@
+package io.awportfoiioapi.outbox.repository;
+
+import io.awportfoiioapi.outbox.entity.FileOutbox;
+import io.awportfoiioapi.outbox.repository.query.FileOutboxQueryRepository;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface FileOutboxRepository extends JpaRepository<FileOutbox, Long>, FileOutboxQueryRepository {
+}
@@ -0,0 +1,45 @@
+package io.awportfoiioapi.outbox.repository.impl;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.awportfoiioapi.outbox.entity.FileOutbox;
+import io.awportfoiioapi.outbox.enums.FileOutboxStatus;
+import io.awportfoiioapi.outbox.repository.query.FileOutboxQueryRepository;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static io.awportfoiioapi.outbox.entity.QFileOutbox.fileOutbox;
+
+@RequiredArgsConstructor
+public class FileOutboxRepositoryImpl implements FileOutboxQueryRepository {
+    
+    private final JPAQueryFactory queryFactory;
+    
+    /**
+     * 처리할 차례가 된 대기 행 (오래된 순)
+     */
+    @Override
+    public List<FileOutbox> findDue(LocalDateTime now, int limit) {
+        return queryFactory
+                .selectFrom(fileOutbox)
+                .where(
+                        fileOutbox.status.eq(FileOutboxStatus.PENDING),
+                        fileOutbox.nextAttemptDate.loe(now)
+                )
+                .orderBy(fileOutbox.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+    
+    @Override
+    public long deleteByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return queryFactory
+                .delete(fileOutbox)
+                .where(fileOutbox.id.in(ids))
+                .execute();
+    }
+}
@@ -0,0 +1,13 @@
+package io.awportfoiioapi.outbox.repository.query;
+
+import io.awportfoiioapi.outbox.entity.FileOutbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface FileOutboxQueryRepository {
+    
+    List<FileOutbox> findDue(LocalDateTime now, int limit);
+    
+    long deleteByIds(List<Long> ids);
+}
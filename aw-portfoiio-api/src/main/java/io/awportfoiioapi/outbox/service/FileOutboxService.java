@@ -0,0 +1,24 @@
+package io.awportfoiioapi.outbox.service;
+
+import java.util.Collection;
+
+public interface FileOutboxService {
+    
+    /**
+     * 파일 삭제 예약 (현재 트랜잭션에 기록, 커밋 후 삭제)
+     * - 롤백되면 예약도 같이 취소되어 파일은 그대로 남음
+     */
+    void deleteLater(String fileUrl);
+    
+    void deleteLater(Collection<String> fileUrls);
+    
+    /**
+     * 롤백된 트랜잭션에서 올라간 파일 정리 예약 (별도 트랜잭션으로 기록)
+     */
+    void cleanupOrphans(Collection<String> fileUrls);
+    
+    /**
+     * 처리할 차례가 된 행을 일괄 처리 (주기 실행 + 커밋 직후 실행)
+     */
+    void processDue();
+}
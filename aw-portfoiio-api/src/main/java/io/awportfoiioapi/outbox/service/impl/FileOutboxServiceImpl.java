@@ -0,0 +1,193 @@
+package io.awportfoiioapi.outbox.service.impl;
+
+import io.awportfoiioapi.outbox.entity.FileOutbox;
+import io.awportfoiioapi.outbox.enums.FileOutboxOperation;
+import io.awportfoiioapi.outbox.repository.FileOutboxRepository;
+import io.awportfoiioapi.outbox.service.FileOutboxService;
+import io.awportfoiioapi.utils.S3FileUtils;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 파일 작업 아웃박스 처리
+ * - 기록 : 호출한 업무 트랜잭션 안에서 FILE_OUTBOX 행만 insert (S3 호출 없음)
+ * - 처리 : 커밋 직후 + 주기(poll-interval)로 전용 스레드 1개에서 batch-size 건씩
+ *   1) 짧은 트랜잭션으로 대상 조회 2) 트랜잭션 밖에서 S3 일괄 삭제 3) 짧은 트랜잭션으로 결과 반영
+ * - 실패한 행은 retry-delay * 2^(시도-1) 후 재시도, max-attempts 를 넘으면 FAILED 로 남김
+ * - 여러 서버가 같은 행을 동시에 처리해도 삭제는 멱등이라 결과는 같음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FileOutboxServiceImpl implements FileOutboxService {
+    
+    private final FileOutboxRepository fileOutboxRepository;
+    private final S3FileUtils s3FileUtils;
+    private final PlatformTransactionManager transactionManager;
+    
+    @Value("${file.outbox.batch-size:100}")
+    private int batchSize;
+    
+    @Value("${file.outbox.max-attempts:8}")
+    private int maxAttempts;
+    
+    @Value("${file.outbox.retry-delay:1m}")
+    private Duration retryDelay;
+    
+    private TransactionTemplate transactionTemplate;
+    private ThreadPoolTaskExecutor executor;
+    
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        
+        // 스레드 1개 + 대기 1건 : 이미 처리 예약이 있으면 추가 요청은 버림 (예약된 처리에서 같이 처리됨)
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("file-outbox-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+    
+    @Override
+    @Transactional
+    public void deleteLater(String fileUrl) {
+        deleteLater(Collections.singletonList(fileUrl));
+    }
+    
+    @Override
+    @Transactional
+    public void deleteLater(Collection<String> fileUrls) {
+        enqueue(FileOutboxOperation.DELETE, fileUrls);
+    }
+    
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void cleanupOrphans(Collection<String> fileUrls) {
+        enqueue(FileOutboxOperation.ORPHAN_CLEANUP, fileUrls);
+    }
+    
+    @Override
+    @Scheduled(fixedDelayString = "${file.outbox.poll-interval:30s}")
+    public void processDue() {
+        executor.execute(this::drain);
+    }
+    
+    private void enqueue(FileOutboxOperation operation, Collection<String> fileUrls) {
+        
+        List<FileOutbox> rows = new ArrayList<>();
+        for (String fileUrl : fileUrls) {
+            if (fileUrl != null && !fileUrl.isBlank()) {
+                rows.add(FileOutbox.pending(operation, s3FileUtils.getFileNameFromUrl(fileUrl)));
+            }
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+        
+        fileOutboxRepository.saveAll(rows);
+        
+        // 커밋되면 바로 처리 (롤백되면 행도 없으므로 아무것도 안 함)
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                processDue();
+            }
+        });
+    }
+    
+    private void drain() {
+        try {
+            while (processBatch() >= batchSize) {
+                // 한 번에 다 못 가져왔으면 이어서 처리
+            }
+        } catch (RuntimeException e) {
+            log.warn("파일 아웃박스 처리 실패 (다음 주기에 재시도)", e);
+        }
+    }
+    
+    /**
+     * @return 이번에 가져온 행 수
+     */
+    private int processBatch() {
+        
+        List<FileOutbox> due = transactionTemplate.execute(status ->
+                fileOutboxRepository.findDue(LocalDateTime.now(), batchSize));
+        if (due == null || due.isEmpty()) {
+            return 0;
+        }
+        
+        Set<String> keys = new LinkedHashSet<>();
+        for (FileOutbox row : due) {
+            keys.add(row.getFileKey());
+        }
+        
+        // DB 커넥션 없이 저장소 호출
+        Map<String, String> failed = s3FileUtils.deleteAllByKey(keys);
+        
+        transactionTemplate.executeWithoutResult(status -> complete(due, failed));
+        
+        if (failed.isEmpty()) {
+            log.debug("파일 아웃박스 {}건 처리", due.size());
+        } else {
+            log.warn("파일 아웃박스 {}건 중 {}건 실패", due.size(), failed.size());
+        }
+        return due.size();
+    }
+    
+    private void complete(List<FileOutbox> due, Map<String, String> failed) {
+        
+        List<Long> doneIds = new ArrayList<>();
+        Map<Long, String> failedIds = new HashMap<>();
+        for (FileOutbox row : due) {
+            String error = failed.get(row.getFileKey());
+            if (error == null) {
+                doneIds.add(row.getId());
+            } else {
+                failedIds.put(row.getId(), error);
+            }
+        }
+        
+        fileOutboxRepository.deleteByIds(doneIds);
+        
+        for (FileOutbox row : fileOutboxRepository.findAllById(failedIds.keySet())) {
+            String error = failedIds.get(row.getId());
+            if (row.getAttempts() + 1 >= maxAttempts) {
+                row.fail(error);
+                log.warn("파일 아웃박스 재시도 초과 id={}, key={}, error={}", row.getId(), row.getFileKey(), error);
+            } else {
+                row.retryLater(error, LocalDateTime.now().plus(backoff(row.getAttempts() + 1)));
+            }
+        }
+    }
+    
+    private Duration backoff(int attempt) {
+        return retryDelay.multipliedBy(1L << Math.min(attempt - 1, 16));
+    }
+}
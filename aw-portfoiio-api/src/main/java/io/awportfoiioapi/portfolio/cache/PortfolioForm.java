@@ -0,0 +1,19 @@
+package io.awportfoiioapi.portfolio.cache;
+
+import io.awportfoiioapi.portfolio.dto.response.PortfoliosGetDetailResponse;
+import io.awportfoiioapi.portfolio.dto.response.PortfoliosOneGetResponse;
+import io.awportfoiioapi.question.dto.response.QuestionGetResponse;
+
+import java.util.List;
+
+/**
+ * 응답자 화면용 양식 정의 (포트폴리오 + 질문/옵션)
+ * - 캐시에 저장되는 원본, 밖으로 내보낼 때는 항상 복사본 사용
+ * - 썸네일은 S3 원본 URL 그대로 (presigned 는 조회 시점에 변환)
+ */
+record PortfolioForm(
+        PortfoliosOneGetResponse portfolio,
+        List<PortfoliosGetDetailResponse> options,
+        List<QuestionGetResponse> questions
+) {
+}
@@ -0,0 +1,161 @@
+package io.awportfoiioapi.portfolio.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.awportfoiioapi.portfolio.dto.response.PortfoliosGetDetailResponse;
+import io.awportfoiioapi.portfolio.dto.response.PortfoliosOneGetResponse;
+import io.awportfoiioapi.portfolio.entity.Portfolio;
+import io.awportfoiioapi.portfolio.repository.PortfolioRepository;
+import io.awportfoiioapi.question.dto.response.QuestionGetResponse;
+import io.awportfoiioapi.question.respotiroy.QuestionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 포트폴리오별 양식 정의 캐시 (응답자 화면 조회용)
+ * - key = 포트폴리오 id + 버전 -> 무효화 시 버전을 올려서 이전 값은 더 이상 조회되지 않음
+ *   (무효화 전에 읽기 시작한 요청이 이전 값을 다시 넣어도 이전 버전 key 로 들어감)
+ * - 최대 건수 / 미사용 만료, 적중/미스 메트릭 (cache.* {cache=portfolioForm})
+ * - 값은 복사해서 내보냄 (썸네일 presigned 변환은 호출하는 쪽에서)
+ */
+@Component
+@RequiredArgsConstructor
+public class PortfolioFormCache {
+    
+    private static final String CACHE_NAME = "portfolioForm";
+    
+    private final PortfolioRepository portfolioRepository;
+    private final QuestionRepository questionRepository;
+    private final MeterRegistry meterRegistry;
+    
+    @Value("${portfolio-form.maximum-size:500}")
+    private long maximumSize;
+    
+    @Value("${portfolio-form.expire-after-access:1h}")
+    private Duration expireAfterAccess;
+    
+    // 포트폴리오별 버전
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+    
+    // 전체 무효화용 세대 (카테고리 수정 등)
+    private final AtomicLong generation = new AtomicLong();
+    
+    private Cache<FormKey, PortfolioForm> cache;
+    
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(expireAfterAccess)
+                .recordStats()
+                .build();
+        
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+    
+    /**
+     * 포트폴리오 단건 (없으면 null)
+     */
+    public PortfoliosOneGetResponse getPortfolio(Long portfolioId) {
+        PortfoliosOneGetResponse portfolio = get(portfolioId).portfolio();
+        return portfolio == null ? null : portfolio.copy();
+    }
+    
+    /**
+     * 포트폴리오 질문 옵션 목록 (step, order 순)
+     */
+    public List<PortfoliosGetDetailResponse> getOptions(Long portfolioId) {
+        return get(portfolioId).options().stream()
+                .map(PortfoliosGetDetailResponse::copy)
+                .toList();
+    }
+    
+    /**
+     * 포트폴리오 질문 목록
+     */
+    public List<QuestionGetResponse> getQuestions(Long portfolioId) {
+        return get(portfolioId).questions().stream()
+                .map(QuestionGetResponse::copy)
+                .toList();
+    }
+    
+    /**
+     * 포트폴리오 양식 무효화
+     * - 트랜잭션 중이면 커밋 이후에 한 번 더 버전을 올린다 (커밋 전 다른 요청이 이전 값으로 다시 캐시하는 경우 방지)
+     */
+    public void evict(Long portfolioId) {
+        if (portfolioId == null) {
+            return;
+        }
+        
+        bump(portfolioId);
+        
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump(portfolioId);
+                }
+            });
+        }
+    }
+    
+    /**
+     * 전체 무효화 (여러 포트폴리오에 걸친 변경 - 카테고리 수정 등)
+     */
+    public void evictAll() {
+        
+        generation.incrementAndGet();
+        cache.invalidateAll();
+        
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    generation.incrementAndGet();
+                    cache.invalidateAll();
+                }
+            });
+        }
+    }
+    
+    private PortfolioForm get(Long portfolioId) {
+        FormKey key = new FormKey(portfolioId, generation.get(), versions.getOrDefault(portfolioId, 0L));
+        return cache.get(key, this::load);
+    }
+    
+    private PortfolioForm load(FormKey key) {
+        Long portfolioId = key.portfolioId();
+        
+        Portfolio portfolio = portfolioRepository.getPortfolio(portfolioId);
+        
+        return new PortfolioForm(
+                portfolio == null ? null : new PortfoliosOneGetResponse(portfolio),
+                List.copyOf(portfolioRepository.getPortfolioDetailOptions(portfolioId)),
+                List.copyOf(questionRepository.findByQuestions(portfolioId))
+        );
+    }
+    
+    private void bump(Long portfolioId) {
+        Long before = versions.getOrDefault(portfolioId, 0L);
+        versions.merge(portfolioId, 1L, Long::sum);
+        
+        // 이전 버전 항목은 바로 제거 (만료까지 자리 차지하지 않도록)
+        cache.invalidate(new FormKey(portfolioId, generation.get(), before));
+    }
+    
+    private record FormKey(Long portfolioId, long generation, long version) {
+    }
+}
@@ -2,6 +2,7 @@ package io.awportfoiioapi.portfolio.controller;
 
 import io.awportfoiioapi.apiresponse.ApiResponse;
 import io.awportfoiioapi.member.page.PageResponse;
+import io.awportfoiioapi.metrics.QueryBudget;
 import io.awportfoiioapi.portfolio.dto.request.PortfolioPostRequest;
 import io.awportfoiioapi.portfolio.dto.request.PortfolioPutRequest;
 import io.awportfoiioapi.portfolio.dto.response.PortfolioGetDetailResponse;
@@ -25,22 +26,26 @@ public class PortfolioController {
     
     private final PortfolioService portfolioService;
     
+    @QueryBudget(statements = 5, repeats = 2)
     @GetMapping("/portfolio")
     public PageResponse<PortfolioResponse> getPortfolioList(@PageableDefault(size = 10) Pageable pageable, @RequestParam(required = false) String name) {
         Page<PortfolioResponse> portfolioList = portfolioService.getPortfolioList(pageable,name);
         return PageResponse.from(portfolioList);
     }
+    @QueryBudget(statements = 4, repeats = 2)
     @GetMapping("/portfolios/all")
     public List<PortfolioResponse> getPortfolioLists() {
         return portfolioService.getPortfolioList();
     }
     
+    @QueryBudget(statements = 3, repeats = 2)
     @GetMapping("/portfolio/{id}")
     public PortfolioGetDetailResponse getPortfolioDetail(@PathVariable Long id) {
         return portfolioService.getPortfolioDetail(id);
     }
     
     
+    @QueryBudget(statements = 4, repeats = 2)
     @GetMapping("/portfolios")
     public List<PortfolioResponse> getPortfolios(@RequestParam(required = false) Boolean active,
                                                  @RequestParam(required = false) Long categoryId
@@ -48,11 +53,13 @@ public class PortfolioController {
         return portfolioService.getPortfolioList(active, categoryId);
     }
     
+    @QueryBudget(statements = 5, repeats = 2)
     @GetMapping("/portfolios/{id}")
     public List<PortfoliosGetDetailResponse> getPortfoliosDetail(@PathVariable Long id) {
         return portfolioService.getPortfolioDetailOptions(id);
     }
     
+    @QueryBudget(statements = 3, repeats = 2)
     @GetMapping("/portfolios/{id}/one")
     public PortfoliosOneGetResponse getOnePortfolio(@PathVariable Long id) {
         return portfolioService.getPortfolioOneDetail(id);
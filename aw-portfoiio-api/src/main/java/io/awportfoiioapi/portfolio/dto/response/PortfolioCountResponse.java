@@ -0,0 +1,20 @@
+package io.awportfoiioapi.portfolio.dto.response;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class PortfolioCountResponse {
+    
+    private Long portfolioId;
+    private Long questions;
+    private Long submissions;
+    @QueryProjection
+    public PortfolioCountResponse(Long portfolioId, Long questions, Long submissions) {
+        this.portfolioId = portfolioId;
+        this.questions = questions;
+        this.submissions = submissions;
+    }
+}
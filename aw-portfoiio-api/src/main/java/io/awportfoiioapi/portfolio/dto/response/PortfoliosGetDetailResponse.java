@@ -38,4 +38,11 @@ public class PortfoliosGetDetailResponse {
         this.thumbnail = thumbnail;
         this.title = title;
     }
+    
+    /**
+     * 캐시된 값을 그대로 내보내지 않도록 복사 (썸네일 presigned 치환 등)
+     */
+    public PortfoliosGetDetailResponse copy() {
+        return new PortfoliosGetDetailResponse(id, portfolioId, description, isRequired, maxLength, minLength, options, order, questionType, requireMinLength, step, thumbnail, title);
+    }
 }
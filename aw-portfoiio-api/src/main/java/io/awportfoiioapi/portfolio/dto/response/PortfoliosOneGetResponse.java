@@ -59,6 +59,22 @@ public class PortfoliosOneGetResponse {
         
     }
     
+    /**
+     * 캐시된 값을 그대로 내보내지 않도록 복사 (썸네일 presigned 치환, 카운트 세팅 등)
+     * - 카운트는 복사하지 않음
+     */
+    public PortfoliosOneGetResponse copy() {
+        Category categoryCopy = category == null ? null : new Category(
+                category.getId(),
+                category.getName(),
+                category.getSlug(),
+                category.getOrder(),
+                category.getCreatedAt(),
+                category.getUpdatedAt()
+        );
+        return new PortfoliosOneGetResponse(id, categoryId, title, description, slug, thumbnail, domain, isActive, order, createdAt, updatedAt, categoryCopy, null);
+    }
+    
     
     @Data
     @NoArgsConstructor
@@ -1,6 +1,7 @@
 package io.awportfoiioapi.portfolio.repository.impl;
 
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import io.awportfoiioapi.portfolio.dto.response.*;
@@ -12,6 +13,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.util.StringUtils;
 
+import java.util.Collection;
 import java.util.List;
 
 import static io.awportfoiioapi.category.entity.QCategory.category;
@@ -176,6 +178,37 @@ public class PortfolioRepositoryImpl implements PortfolioQueryRepository {
                 .fetch();
     }
     
+    /**
+     * 포트폴리오별 질문(옵션) 수 / 제출완료 수
+     * - 요청한 포트폴리오 id 만 상관 서브쿼리로 집계 (전체 group by 없음)
+     */
+    @Override
+    public List<PortfolioCountResponse> findByPortfolioCounts(Collection<Long> portfolioIds) {
+        
+        if (portfolioIds == null || portfolioIds.isEmpty()) {
+            return List.of();
+        }
+        
+        return queryFactory
+                .select(new QPortfolioCountResponse(
+                        portfolio.id,
+                        JPAExpressions
+                                .select(options.count())
+                                .from(options)
+                                .where(options.question.portfolio.id.eq(portfolio.id)),
+                        JPAExpressions
+                                .select(submission.count())
+                                .from(submission)
+                                .where(
+                                        submission.portfolio.id.eq(portfolio.id),
+                                        submission.isDraft.eq(false)
+                                )
+                ))
+                .from(portfolio)
+                .where(portfolio.id.in(portfolioIds))
+                .fetch();
+    }
+    
     @Override
     public PortfolioGetDetailResponse findByPortfolioDetail(Long id) {
         return queryFactory
@@ -5,6 +5,7 @@ import io.awportfoiioapi.portfolio.entity.Portfolio;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface PortfolioQueryRepository {
@@ -20,6 +21,7 @@ public interface PortfolioQueryRepository {
     List<PortfoliosGetDetailResponse>  getPortfolioDetailOptions(Long id);
     List<PortfolioQuestionCountResponse> findByQuestionCount();
     List<PortfolioSubmissionCountResponse> findBySubmissionCount();
+    List<PortfolioCountResponse> findByPortfolioCounts(Collection<Long> portfolioIds);
     
     PortfolioGetDetailResponse findByPortfolioDetail(Long id);
     Portfolio getPortfolio(Long id);
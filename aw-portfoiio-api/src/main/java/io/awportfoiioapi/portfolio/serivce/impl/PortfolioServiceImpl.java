@@ -4,9 +4,14 @@ import io.awportfoiioapi.advice.exception.CategoryAndPortfolioException;
 import io.awportfoiioapi.apiresponse.ApiResponse;
 import io.awportfoiioapi.category.entity.Category;
 import io.awportfoiioapi.category.repository.CategoryRepository;
+import io.awportfoiioapi.counter.service.CounterService;
+import io.awportfoiioapi.excel.plan.ExcelColumnPlanProvider;
 import io.awportfoiioapi.file.entity.CommonFile;
 import io.awportfoiioapi.file.enums.CommonFileType;
 import io.awportfoiioapi.file.repository.CommonFileRepository;
+import io.awportfoiioapi.file.service.FileUploadService;
+import io.awportfoiioapi.outbox.service.FileOutboxService;
+import io.awportfoiioapi.portfolio.cache.PortfolioFormCache;
 import io.awportfoiioapi.portfolio.dto.request.PortfolioPostRequest;
 import io.awportfoiioapi.portfolio.dto.request.PortfolioPutRequest;
 import io.awportfoiioapi.portfolio.dto.response.*;
@@ -19,6 +24,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
@@ -37,51 +43,18 @@ public class PortfolioServiceImpl implements PortfolioService {
     private final CategoryRepository categoryRepository;
     private final CommonFileRepository commonFileRepository;
     private final S3FileUtils s3FileUtils;
+    private final FileUploadService fileUploadService;
+    private final FileOutboxService fileOutboxService;
+    private final ExcelColumnPlanProvider excelColumnPlanProvider;
+    private final CounterService counterService;
+    private final PortfolioFormCache portfolioFormCache;
     
     @Override
     public Page<PortfolioResponse> getPortfolioList(Pageable pageable,String name) {
         
         Page<PortfolioResponse> portfolioList = portfolioRepository.getPortfolioList(pageable, name);
         
-        List<PortfolioQuestionCountResponse> byQuestionCount = portfolioRepository.findByQuestionCount();
-        List<PortfolioSubmissionCountResponse> bySubmissionCount = portfolioRepository.findBySubmissionCount();
-        
-        Map<Long, Long> questionCountMap = byQuestionCount.stream()
-                .collect(Collectors.toMap(
-                        PortfolioQuestionCountResponse::getPortfolioId,
-                        PortfolioQuestionCountResponse::getCount
-                ));
-        
-        Map<Long, Long> submissionCountMap = bySubmissionCount.stream()
-                .collect(Collectors.toMap(
-                        PortfolioSubmissionCountResponse::getPortfolioId,
-                        PortfolioSubmissionCountResponse::getCount
-                ));
-        
-        for (PortfolioResponse portfolio : portfolioList) {
-            
-            // ---------- 1) 썸네일 presigned 변환 ----------
-            String thumbnailUrl = portfolio.getThumbnail();
-            
-            if (thumbnailUrl != null && !thumbnailUrl.isBlank()) {
-                // 기존 URL → key 뽑기
-                String key = s3FileUtils.getFileNameFromUrl(thumbnailUrl);
-                
-                // presigned 생성
-                String presigned = s3FileUtils.createPresignedUrl(key);
-                
-                // DTO에 다시 넣기
-                portfolio.setThumbnail(presigned);
-            }
-            
-            // ---------- 2) 질문 수 ----------
-            Long qCount = questionCountMap.getOrDefault(portfolio.getId(), 0L);
-            portfolio.getCount().setQuestions(qCount);
-            
-            // ---------- 3) 제출 수 ----------
-            Long sCount = submissionCountMap.getOrDefault(portfolio.getId(), 0L);
-            portfolio.getCount().setSubmissions(sCount);
-        }
+        decoratePortfolios(portfolioList.getContent());
         
         return portfolioList;
     }
@@ -89,45 +62,8 @@ public class PortfolioServiceImpl implements PortfolioService {
     @Override
     public List<PortfolioResponse> getPortfolioList() {
         List<PortfolioResponse> portfolioList = portfolioRepository.getPortfolioList();
-        List<PortfolioQuestionCountResponse> byQuestionCount = portfolioRepository.findByQuestionCount();
-        List<PortfolioSubmissionCountResponse> bySubmissionCount = portfolioRepository.findBySubmissionCount();
         
-        Map<Long, Long> questionCountMap = byQuestionCount.stream()
-                .collect(Collectors.toMap(
-                        PortfolioQuestionCountResponse::getPortfolioId,
-                        PortfolioQuestionCountResponse::getCount
-                ));
-        
-        Map<Long, Long> submissionCountMap = bySubmissionCount.stream()
-                .collect(Collectors.toMap(
-                        PortfolioSubmissionCountResponse::getPortfolioId,
-                        PortfolioSubmissionCountResponse::getCount
-                ));
-        
-        for (PortfolioResponse portfolio : portfolioList) {
-            
-            // ---------- 1) 썸네일 presigned 변환 ----------
-            String thumbnailUrl = portfolio.getThumbnail();
-            
-            if (thumbnailUrl != null && !thumbnailUrl.isBlank()) {
-                // 기존 URL → key 뽑기
-                String key = s3FileUtils.getFileNameFromUrl(thumbnailUrl);
-                
-                // presigned 생성
-                String presigned = s3FileUtils.createPresignedUrl(key);
-                
-                // DTO에 다시 넣기
-                portfolio.setThumbnail(presigned);
-            }
-            
-            // ---------- 2) 질문 수 ----------
-            Long qCount = questionCountMap.getOrDefault(portfolio.getId(), 0L);
-            portfolio.getCount().setQuestions(qCount);
-            
-            // ---------- 3) 제출 수 ----------
-            Long sCount = submissionCountMap.getOrDefault(portfolio.getId(), 0L);
-            portfolio.getCount().setSubmissions(sCount);
-        }
+        decoratePortfolios(portfolioList);
         
         return portfolioList;
     }
@@ -140,84 +76,37 @@ public class PortfolioServiceImpl implements PortfolioService {
     @Override
     public List<PortfolioResponse> getPortfolioList(Boolean active, Long categoryId) {
         List<PortfolioResponse> portfolioList = portfolioRepository.getPortfolioList(active, categoryId);
-        List<PortfolioQuestionCountResponse> byQuestionCount = portfolioRepository.findByQuestionCount();
-        List<PortfolioSubmissionCountResponse> bySubmissionCount = portfolioRepository.findBySubmissionCount();
         
-        Map<Long, Long> questionCountMap = byQuestionCount.stream()
-                .collect(Collectors.toMap(
-                        PortfolioQuestionCountResponse::getPortfolioId,
-                        PortfolioQuestionCountResponse::getCount
-                ));
-        
-        Map<Long, Long> submissionCountMap = bySubmissionCount.stream()
-                .collect(Collectors.toMap(
-                        PortfolioSubmissionCountResponse::getPortfolioId,
-                        PortfolioSubmissionCountResponse::getCount
-                ));
-        
-        for (PortfolioResponse portfolio : portfolioList) {
-            
-            // ---------- 1) 썸네일 presigned 변환 ----------
-            String thumbnailUrl = portfolio.getThumbnail();
-            
-            if (thumbnailUrl != null && !thumbnailUrl.isBlank()) {
-                // 기존 URL → key 뽑기
-                String key = s3FileUtils.getFileNameFromUrl(thumbnailUrl);
-                
-                // presigned 생성
-                String presigned = s3FileUtils.createPresignedUrl(key);
-                
-                // DTO에 다시 넣기
-                portfolio.setThumbnail(presigned);
-            }
-            
-            // ---------- 2) 질문 수 ----------
-            Long qCount = questionCountMap.getOrDefault(portfolio.getId(), 0L);
-            portfolio.getCount().setQuestions(qCount);
-            
-            // ---------- 3) 제출 수 ----------
-            Long sCount = submissionCountMap.getOrDefault(portfolio.getId(), 0L);
-            portfolio.getCount().setSubmissions(sCount);
-        }
+        decoratePortfolios(portfolioList);
         
         return portfolioList;
     }
     
     @Override
     public List<PortfoliosGetDetailResponse> getPortfolioDetailOptions(Long id) {
-        List<PortfoliosGetDetailResponse> portfolioDetailOptions = portfolioRepository.getPortfolioDetailOptions(id);
+        // 양식 캐시 (복사본)
+        List<PortfoliosGetDetailResponse> portfolioDetailOptions = portfolioFormCache.getOptions(id);
+        
+        // 썸네일 presigned 일괄 변환
+        Map<String, String> presignedMap = s3FileUtils.createPresignedUrlsFromUrls(
+                portfolioDetailOptions.stream().map(PortfoliosGetDetailResponse::getThumbnail).toList()
+        );
         portfolioDetailOptions
                 .stream()
-                .filter(item -> item.getThumbnail() != null && StringUtils.hasText(item.getThumbnail()))
-                .forEach(item -> {
-                    String key = s3FileUtils.getFileNameFromUrl(item.getThumbnail());
-                    String presigned = s3FileUtils.createPresignedUrl(key);
-                    item.setThumbnail(presigned);
-                });
+                .filter(item -> StringUtils.hasText(item.getThumbnail()))
+                .forEach(item -> item.setThumbnail(presignedMap.get(item.getThumbnail())));
         return portfolioDetailOptions;
     }
     
     @Override
     public PortfoliosOneGetResponse getPortfolioOneDetail(Long portfolioId) {
-        Portfolio portfolio = portfolioRepository.getPortfolio(portfolioId);
-        
-        PortfoliosOneGetResponse portfoliosOneGetResponse = new PortfoliosOneGetResponse(portfolio);
-        List<PortfolioQuestionCountResponse> byQuestionCount = portfolioRepository.findByQuestionCount();
-        List<PortfolioSubmissionCountResponse> bySubmissionCount = portfolioRepository.findBySubmissionCount();
-        Map<Long, Long> questionCountMap =
-                byQuestionCount.stream()
-                        .collect(Collectors.toMap(
-                                PortfolioQuestionCountResponse::getPortfolioId,
-                                PortfolioQuestionCountResponse::getCount
-                        ));
-        
-        Map<Long, Long> submissionCountMap =
-                bySubmissionCount.stream()
-                             .collect(Collectors.toMap(
-                                     PortfolioSubmissionCountResponse::getPortfolioId,
-                                  PortfolioSubmissionCountResponse::getCount
-                             ));
-       
+        // 양식 캐시 (복사본)
+        PortfoliosOneGetResponse portfoliosOneGetResponse = portfolioFormCache.getPortfolio(portfolioId);
+        if (portfoliosOneGetResponse == null) {
+            throw new RuntimeException("존재하지 않는 포트폴리오 입니다.");
+        }
+        // 단일 portfolio 카운터 조회
+        PortfolioCountResponse count = counterService.getPortfolioCounts(List.of(portfolioId)).get(portfolioId);
     
         // 3. 단일 portfolio에 질문 수 세팅
         String thumbnail = portfoliosOneGetResponse.getThumbnail();
@@ -226,8 +115,8 @@ public class PortfolioServiceImpl implements PortfolioService {
             String presignedUrl = s3FileUtils.createPresignedUrl(fileNameFromUrl);
             portfoliosOneGetResponse.setThumbnail(presignedUrl);
         }
-        Long questionCount = questionCountMap.getOrDefault(portfolioId, 0L);
-        Long submissionCount = submissionCountMap.getOrDefault(portfolioId, 0L);
+        Long questionCount = count == null ? 0L : count.getQuestions();
+        Long submissionCount = count == null ? 0L : count.getSubmissions();
     
         portfoliosOneGetResponse.getCount().setQuestions(questionCount);
         portfoliosOneGetResponse.getCount().setSubmissions(submissionCount);
@@ -235,15 +124,23 @@ public class PortfolioServiceImpl implements PortfolioService {
         return portfoliosOneGetResponse;
     }
     
+    /**
+     * 포트폴리오 생성
+     * - 썸네일은 트랜잭션 밖에서 먼저 업로드하고 DB 작업만 짧은 트랜잭션으로 (실패하면 올라간 파일 정리)
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ApiResponse createPortfolio(PortfolioPostRequest request) {
+        return fileUploadService.uploadThenSave(request.getThumbnail(), "portfolio",
+                uploadResult -> savePortfolio(request, uploadResult));
+    }
+    
+    private ApiResponse savePortfolio(PortfolioPostRequest request, UploadResult uploadResult) {
         Integer order = request.getOrder();
         boolean result = portfolioRepository.existsByPortfolioOrder(order);
         if (result) {
             throw new CategoryAndPortfolioException("이미 존재 하는 포트폴리오 순서입니다.", "order");
         }
-        // 파일
-        MultipartFile thumbnail = request.getThumbnail();
         Long requestCategoryId = request.getCategoryId();
         
         // category는 null 허용
@@ -252,14 +149,8 @@ public class PortfolioServiceImpl implements PortfolioService {
             category = categoryRepository.findById(requestCategoryId).orElse(null);
         }
 
-        // 썸네일 업로드 (있으면)
-        UploadResult uploadResult = null;
-        String thumbnailUrl = null;
-        
-        if (thumbnail != null && !thumbnail.isEmpty()) {
-            uploadResult = s3FileUtils.storeFile(thumbnail, "portfolio");
-            thumbnailUrl = uploadResult.url();
-        }
+        // 썸네일 (업로드된 경우)
+        String thumbnailUrl = uploadResult == null ? null : uploadResult.url();
 
         // Portfolio는 항상 생성
         Portfolio portfolio = Portfolio.builder()
@@ -288,11 +179,26 @@ public class PortfolioServiceImpl implements PortfolioService {
             commonFileRepository.save(commonFile);
         }
         
+        // 카운터 (신규 포트폴리오 행 생성 / 카테고리 포트폴리오 수 증가)
+        counterService.initPortfolio(savedPortfolio.getId());
+        counterService.addPortfolios(category == null ? null : category.getId(), 1);
+        
         return new ApiResponse(200,true,"포트폴리오가 생성되었습니다.");
     }
     
+    /**
+     * 포트폴리오 수정
+     * - 새 썸네일은 트랜잭션 밖에서 먼저 업로드하고 DB 작업만 짧은 트랜잭션으로 (실패하면 올라간 파일 정리)
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ApiResponse modifyPortfolio(PortfolioPutRequest request) {
+        MultipartFile newThumbnail = request.getThumbnail() == null ? null : request.getThumbnail().getFile();
+        return fileUploadService.uploadThenSave(newThumbnail, "portfolio",
+                uploadResult -> updatePortfolio(request, uploadResult));
+    }
+    
+    private ApiResponse updatePortfolio(PortfolioPutRequest request, UploadResult uploadResult) {
         
         Long id = request.getId();
         // 포트폴리오 조회
@@ -313,6 +219,9 @@ public class PortfolioServiceImpl implements PortfolioService {
                 );
             }
         }
+        // 변경 전 카테고리 (카운터 이동용)
+        Long beforeCategoryId = portfolio.getCategory() == null ? null : portfolio.getCategory().getId();
+        
         //일반 필드 업데이트
         portfolio.update(request);
         
@@ -326,6 +235,13 @@ public class PortfolioServiceImpl implements PortfolioService {
             portfolio.updateCategory(null);
         }
         
+        // 카테고리가 바뀐 경우 카테고리 포트폴리오 수 이동
+        Long afterCategoryId = portfolio.getCategory() == null ? null : portfolio.getCategory().getId();
+        if (!Objects.equals(beforeCategoryId, afterCategoryId)) {
+            counterService.addPortfolios(beforeCategoryId, -1);
+            counterService.addPortfolios(afterCategoryId, 1);
+        }
+        
         // 썸네일 수정 여부
         PortfolioPutRequest.ThumbnailRequest thumbnail = request.getThumbnail();
         
@@ -336,11 +252,14 @@ public class PortfolioServiceImpl implements PortfolioService {
                 deleteThumbnail(portfolio);
             }
             // 5-2 썸네일 교체
-            if (thumbnail.getFile() != null && !thumbnail.getFile().isEmpty()) {
-                replaceThumbnail(portfolio, thumbnail.getFile());
+            if (uploadResult != null) {
+                replaceThumbnail(portfolio, uploadResult);
             }
         }
         
+        // 양식 캐시 무효화
+        portfolioFormCache.evict(portfolio.getId());
+        
         return new ApiResponse(200, true, "포트폴리오가 수정되었습니다.");
     }
     
@@ -359,16 +278,62 @@ public class PortfolioServiceImpl implements PortfolioService {
         
         // 파일 있으면 삭제
         if (file != null) {
-            s3FileUtils.deleteFile(file.getFileUrl());
+            fileOutboxService.deleteLater(file.getFileUrl());
             commonFileRepository.delete(file);
         }
         
+        Long categoryId = portfolio.getCategory() == null ? null : portfolio.getCategory().getId();
+        
         // 포트폴리오 삭제
         portfolioRepository.delete(portfolio);
         
+        // 카운터 (포트폴리오 행 삭제 / 카테고리 포트폴리오 수 감소)
+        counterService.removePortfolio(id);
+        counterService.addPortfolios(categoryId, -1);
+        
+        // 엑셀 컬럼 플랜 / 양식 캐시 무효화
+        excelColumnPlanProvider.evict(id);
+        portfolioFormCache.evict(id);
+        
         return new ApiResponse(200, true, "포트폴리오가 삭제되었습니다.");
     }
     
+    /**
+     * 목록 응답 공통 후처리
+     * - 썸네일 presigned 일괄 변환
+     * - 질문 수 / 제출 수 세팅
+     */
+    private void decoratePortfolios(List<PortfolioResponse> portfolioList) {
+        
+        // 현재 목록에 포함된 포트폴리오만 카운터 테이블에서 조회
+        Map<Long, PortfolioCountResponse> countMap = counterService.getPortfolioCounts(
+                portfolioList.stream().map(PortfolioResponse::getId).toList()
+        );
+        
+        // 썸네일 URL 전체를 한 번에 presigned 변환 (캐시에 없는 것만 서명)
+        Map<String, String> presignedMap = s3FileUtils.createPresignedUrlsFromUrls(
+                portfolioList.stream().map(PortfolioResponse::getThumbnail).toList()
+        );
+        
+        for (PortfolioResponse portfolio : portfolioList) {
+            
+            // ---------- 1) 썸네일 presigned 변환 ----------
+            String thumbnailUrl = portfolio.getThumbnail();
+            
+            if (thumbnailUrl != null && !thumbnailUrl.isBlank()) {
+                portfolio.setThumbnail(presignedMap.get(thumbnailUrl));
+            }
+            
+            PortfolioCountResponse count = countMap.get(portfolio.getId());
+            
+            // ---------- 2) 질문 수 ----------
+            portfolio.getCount().setQuestions(count == null ? 0L : count.getQuestions());
+            
+            // ---------- 3) 제출 수 ----------
+            portfolio.getCount().setSubmissions(count == null ? 0L : count.getSubmissions());
+        }
+    }
+    
     private void deleteThumbnail(Portfolio portfolio) {
         CommonFile oldFile = commonFileRepository
                 .findByPortfolioFile(
@@ -377,21 +342,18 @@ public class PortfolioServiceImpl implements PortfolioService {
                 );
         
         if (oldFile != null) {
-            s3FileUtils.deleteFile(oldFile.getFileUrl());
+            fileOutboxService.deleteLater(oldFile.getFileUrl());
             commonFileRepository.delete(oldFile);
         }
         
         portfolio.updateThumbnail(null);
     }
     
-    private void replaceThumbnail(Portfolio portfolio, MultipartFile thumbnail) {
+    private void replaceThumbnail(Portfolio portfolio, UploadResult uploadResult) {
         // 기존 파일 정리
         deleteThumbnail(portfolio);
         
-        // 새 파일 업로드
-        UploadResult uploadResult = s3FileUtils.storeFile(thumbnail, "portfolio");
-        
-        // 엔티티 업데이트
+        // 엔티티 업데이트 (새 파일은 트랜잭션 전에 업로드됨)
         portfolio.updateThumbnail(uploadResult.url());
         
         // CommonFile 저장
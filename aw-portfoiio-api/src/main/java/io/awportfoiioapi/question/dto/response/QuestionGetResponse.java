@@ -41,6 +41,13 @@ public class QuestionGetResponse {
         this.options = options;
     }
     
+    /**
+     * 캐시된 값을 그대로 내보내지 않도록 복사 (썸네일 presigned 치환 등)
+     */
+    public QuestionGetResponse copy() {
+        return new QuestionGetResponse(id, questionId, step, order, title, description, questionType, thumbnail, maxLength, minLength, requireMinLength, isRequired, options);
+    }
+    
      @Data
      @NoArgsConstructor
      public static class Notifications {
@@ -2,12 +2,17 @@ package io.awportfoiioapi.question.service.impl;
 
 import io.awportfoiioapi.advice.exception.CategoryAndPortfolioException;
 import io.awportfoiioapi.apiresponse.ApiResponse;
+import io.awportfoiioapi.counter.service.CounterService;
+import io.awportfoiioapi.excel.plan.ExcelColumnPlanProvider;
 import io.awportfoiioapi.file.entity.CommonFile;
 import io.awportfoiioapi.file.enums.CommonFileType;
 import io.awportfoiioapi.file.repository.CommonFileRepository;
+import io.awportfoiioapi.file.service.FileUploadService;
 import io.awportfoiioapi.options.entity.Options;
 import io.awportfoiioapi.options.enums.OptionsType;
 import io.awportfoiioapi.options.respotiroy.OptionsRepository;
+import io.awportfoiioapi.outbox.service.FileOutboxService;
+import io.awportfoiioapi.portfolio.cache.PortfolioFormCache;
 import io.awportfoiioapi.portfolio.entity.Portfolio;
 import io.awportfoiioapi.portfolio.repository.PortfolioRepository;
 import io.awportfoiioapi.question.dto.request.QuestionPostRequest;
@@ -20,10 +25,12 @@ import io.awportfoiioapi.utils.S3FileUtils;
 import io.awportfoiioapi.utils.UploadResult;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
+import java.util.Map;
 
 @Service
 @Transactional
@@ -35,30 +42,46 @@ public class QuestionServiceImpl implements QuestionService {
     private final PortfolioRepository portfolioRepository;
     private final CommonFileRepository commonFileRepository;
     private final S3FileUtils s3FileUtils;
+    private final FileUploadService fileUploadService;
+    private final FileOutboxService fileOutboxService;
+    private final ExcelColumnPlanProvider excelColumnPlanProvider;
+    private final CounterService counterService;
+    private final PortfolioFormCache portfolioFormCache;
     
     @Override
     public List<QuestionGetResponse> getQuestion(Long portfolioId) {
         
-        List<QuestionGetResponse> questions = questionRepository.findByQuestions(portfolioId);
+        // 양식 캐시 (복사본)
+        List<QuestionGetResponse> questions = portfolioFormCache.getQuestions(portfolioId);
+        
+        // 썸네일 presigned 일괄 변환
+        Map<String, String> presignedMap = s3FileUtils.createPresignedUrlsFromUrls(
+                questions.stream().map(QuestionGetResponse::getThumbnail).toList()
+        );
         
         for (QuestionGetResponse question : questions) {
             String thumbnail = question.getThumbnail();
-            // 기존 URL → key 뽑기
-            if (thumbnail == null) {
+            if (thumbnail == null || thumbnail.isBlank()) {
                 continue;
             }
-            String key = s3FileUtils.getFileNameFromUrl(thumbnail);
-            
-            // presigned 생성
-            String presigned = s3FileUtils.createPresignedUrl(key);
-            question.setThumbnail(presigned);
+            question.setThumbnail(presignedMap.get(thumbnail));
         }
         return questions;
     }
     
     
+    /**
+     * 질문 생성
+     * - 썸네일은 트랜잭션 밖에서 먼저 업로드하고 DB 작업만 짧은 트랜잭션으로 (실패하면 올라간 파일 정리)
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ApiResponse createQuestion(QuestionPostRequest request) {
+        return fileUploadService.uploadThenSave(request.getThumbnail(), "options",
+                uploadResult -> saveQuestion(request, uploadResult));
+    }
+    
+    private ApiResponse saveQuestion(QuestionPostRequest request, UploadResult uploadResult) {
         Long portfolioId = request.getPortfolioId();
         Integer step = request.getStep();
         Integer order = request.getOrder();
@@ -87,15 +110,8 @@ public class QuestionServiceImpl implements QuestionService {
         // 3. OptionsType
         OptionsType optionsType = OptionsType.valueOf(request.getType());
         
-        // 4. 썸네일 업로드 (있을 경우)
-        String thumbnailUrl = null;
-        MultipartFile thumbnail = request.getThumbnail();
-        UploadResult uploadResult = null;
-        
-        if (thumbnail != null && !thumbnail.isEmpty()) {
-            uploadResult = s3FileUtils.storeFile(thumbnail, "options");
-            thumbnailUrl = uploadResult.url();
-        }
+        // 4. 썸네일 (업로드된 경우)
+        String thumbnailUrl = uploadResult == null ? null : uploadResult.url();
         
         // 5. Options 생성
         Options options = Options.builder()
@@ -115,9 +131,9 @@ public class QuestionServiceImpl implements QuestionService {
         Options savedOptions = optionsRepository.save(options);
         
         // 6. CommonFile 저장 (썸네일이 있을 때만)
-        if (thumbnail != null && !thumbnail.isEmpty()) {
+        if (uploadResult != null) {
             CommonFile commonFile = CommonFile.builder()
-                    .fileName(thumbnail.getOriginalFilename())
+                    .fileName(uploadResult.originalFilename())
                     .fileUrl(thumbnailUrl)
                     .fileTargetId(savedOptions.getId())
                     .fileType(CommonFileType.OPTIONS)
@@ -127,11 +143,29 @@ public class QuestionServiceImpl implements QuestionService {
             commonFileRepository.save(commonFile);
         }
         
+        // 7. 엑셀 컬럼 플랜 / 양식 캐시 무효화
+        excelColumnPlanProvider.evict(portfolioId);
+        portfolioFormCache.evict(portfolioId);
+        
+        // 8. 질문 수 카운터 증가
+        counterService.addQuestions(portfolioId, 1);
+        
         return new ApiResponse(200, true, "질문이 생성되었습니다.");
     }
     
+    /**
+     * 질문 수정
+     * - 새 썸네일은 트랜잭션 밖에서 먼저 업로드하고 DB 작업만 짧은 트랜잭션으로 (실패하면 올라간 파일 정리)
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ApiResponse modifyQuestion(QuestionPutRequest request) {
+        MultipartFile newThumbnail = request.getThumbnail() == null ? null : request.getThumbnail().getFile();
+        return fileUploadService.uploadThenSave(newThumbnail, "options",
+                uploadResult -> updateQuestion(request, uploadResult));
+    }
+    
+    private ApiResponse updateQuestion(QuestionPutRequest request, UploadResult upload) {
         Long optionsId = request.getOptionsId();
         
         Options options = optionsRepository.findById(optionsId)
@@ -186,9 +220,9 @@ public class QuestionServiceImpl implements QuestionService {
             // 삭제 요청
             if (Boolean.TRUE.equals(thumbnailReq.getRemove())) {
         
-                // 1. S3 파일 삭제 (URL 있을 때만)
+                // 1. S3 파일 삭제 예약 (URL 있을 때만, 커밋 후 삭제)
                 if (options.getThumbnail() != null) {
-                    s3FileUtils.deleteFile(options.getThumbnail());
+                    fileOutboxService.deleteLater(options.getThumbnail());
                 }
         
                 // 2. CommonFile 메타데이터 삭제 (무조건 시도)
@@ -200,13 +234,12 @@ public class QuestionServiceImpl implements QuestionService {
                 options.changeThumbnail(null);
             }
         
-            // 교체 요청
-            MultipartFile newFile = thumbnailReq.getFile();
-            if (newFile != null && !newFile.isEmpty()) {
+            // 교체 요청 (새 파일은 트랜잭션 전에 업로드됨)
+            if (upload != null) {
         
-                // 1. 기존 S3 파일 삭제
+                // 1. 기존 S3 파일 삭제 예약 (커밋 후 삭제)
                 if (options.getThumbnail() != null) {
-                    s3FileUtils.deleteFile(options.getThumbnail());
+                    fileOutboxService.deleteLater(options.getThumbnail());
                 }
         
                 // 2. 기존 CommonFile 삭제 (항상)
@@ -214,13 +247,10 @@ public class QuestionServiceImpl implements QuestionService {
                         options.getId(), CommonFileType.OPTIONS
                 );
         
-                // 3. 새 파일 업로드
-                UploadResult upload = s3FileUtils.storeFile(newFile, "options");
-        
-                // 4. 옵션 업데이트
+                // 3. 옵션 업데이트
                 options.changeThumbnail(upload.url());
         
-                // 5. CommonFile 저장
+                // 4. CommonFile 저장
                 commonFileRepository.save(
                         CommonFile.builder()
                                 .fileTargetId(options.getId())
@@ -233,6 +263,10 @@ public class QuestionServiceImpl implements QuestionService {
             }
         }
         
+        // 엑셀 컬럼 플랜 / 양식 캐시 무효화
+        excelColumnPlanProvider.evict(portfolioId);
+        portfolioFormCache.evict(portfolioId);
+        
         return new ApiResponse(200, true, "질문이 수정되었습니다.");
     }
     
@@ -246,10 +280,11 @@ public class QuestionServiceImpl implements QuestionService {
     
         Question question = options.getQuestion();
         Long questionId = question.getId();
+        Long portfolioId = question.getPortfolio().getId();
     
-        // 3. 썸네일 파일 삭제 (S3)
+        // 3. 썸네일 파일 삭제 예약 (S3, 커밋 후 삭제)
         if (options.getThumbnail() != null) {
-            s3FileUtils.deleteFile(options.getThumbnail());
+            fileOutboxService.deleteLater(options.getThumbnail());
         }
     
         // 4. CommonFile 삭제 (옵션 썸네일)
@@ -266,6 +301,13 @@ public class QuestionServiceImpl implements QuestionService {
             questionRepository.delete(question);
         }
     
+        // 8. 엑셀 컬럼 플랜 / 양식 캐시 무효화
+        excelColumnPlanProvider.evict(portfolioId);
+        portfolioFormCache.evict(portfolioId);
+    
+        // 9. 질문 수 카운터 감소
+        counterService.addQuestions(portfolioId, -1);
+    
         return new ApiResponse(200, true, "질문이 삭제되었습니다.");
     }
 }
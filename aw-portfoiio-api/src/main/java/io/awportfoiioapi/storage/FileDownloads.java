@@ -0,0 +1,121 @@
+package io.awportfoiioapi.storage;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 저장소 파일 응답
+ * - 로컬 파일 + Tomcat sendfile 지원 시 : 본문 없이 sendfile 속성만 지정 (커널에서 소켓으로 바로 전송)
+ * - 그 외 : StoredObject.writeTo 로 응답 스트림에 복사 (로컬은 메모리 매핑 구간 단위)
+ * - 업로드한 사람이 정한 Content-Type 을 그대로 믿지 않음 : 바로 보기는 래스터 이미지만, 항상 nosniff
+ */
+public final class FileDownloads {
+    
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    
+    // 작은 파일은 sendfile 준비 비용이 더 큼 (Tomcat 기본 sendfileSize 48KB)
+    private static final long SENDFILE_MIN_SIZE = 48 * 1024;
+    
+    private static final String CONTENT_TYPE_OPTIONS = "X-Content-Type-Options";
+    
+    // API 도메인에서 바로 보여줘도 스크립트가 실행되지 않는 형식 (svg / html 등은 다운로드)
+    private static final List<MediaType> INLINE_TYPES = List.of(
+            MediaType.IMAGE_PNG,
+            MediaType.IMAGE_JPEG,
+            MediaType.IMAGE_GIF,
+            MediaType.valueOf("image/webp"),
+            MediaType.valueOf("image/bmp")
+    );
+    
+    private FileDownloads() {
+    }
+    
+    /**
+     * 다운로드 (Content-Disposition: attachment, application/octet-stream)
+     */
+    public static ResponseEntity<StreamingResponseBody> attachment(HttpServletRequest request, StoredObject object, String fallbackFilename) {
+        return respond(request, object, ContentDisposition.attachment(), MediaType.APPLICATION_OCTET_STREAM, fallbackFilename);
+    }
+    
+    /**
+     * 바로 보기 (Content-Disposition: inline, 저장된 Content-Type)
+     * - 래스터 이미지가 아니면 다운로드로 응답 (업로드한 html / svg 가 API 도메인에서 실행되지 않도록)
+     */
+    public static ResponseEntity<StreamingResponseBody> inline(HttpServletRequest request, StoredObject object, String fallbackFilename) {
+        MediaType mediaType = inlineType(object.metadata().contentType());
+        if (mediaType == null) {
+            return attachment(request, object, fallbackFilename);
+        }
+        return respond(request, object, ContentDisposition.inline(), mediaType, fallbackFilename);
+    }
+    
+    /**
+     * @return 바로 보기 가능한 형식이면 그 형식, 아니면 null
+     */
+    private static MediaType inlineType(String contentType) {
+        if (contentType == null) {
+            return null;
+        }
+        try {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            return INLINE_TYPES.stream().anyMatch(type -> type.equalsTypeAndSubtype(mediaType)) ? mediaType : null;
+        } catch (InvalidMediaTypeException e) {
+            return null;
+        }
+    }
+    
+    private static ResponseEntity<StreamingResponseBody> respond(HttpServletRequest request, StoredObject object,
+                                                                 ContentDisposition.Builder disposition, MediaType mediaType,
+                                                                 String fallbackFilename) {
+        
+        String filename = object.metadata().originalFilename() != null ? object.metadata().originalFilename() : fallbackFilename;
+        
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.filename(filename, StandardCharsets.UTF_8).build().toString())
+                .header(CONTENT_TYPE_OPTIONS, "nosniff")
+                .contentType(mediaType);
+        
+        long size = object.size();
+        if (size >= 0) {
+            builder.contentLength(size);
+        }
+        
+        Path localPath = object.localPath();
+        if (localPath != null && size >= SENDFILE_MIN_SIZE && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            close(object);
+            request.setAttribute(SENDFILE_FILENAME, localPath.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, size);
+            return builder.body(null);
+        }
+        
+        StreamingResponseBody body = out -> {
+            try (object) {
+                object.writeTo(out);
+            }
+        };
+        return builder.body(body);
+    }
+    
+    private static void close(StoredObject object) {
+        try {
+            object.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package io.awportfoiioapi.storage;
+
+/**
+ * 저장 파일 메타데이터
+ */
+public record FileMetadata(String contentType, String originalFilename) {
+}
@@ -0,0 +1,80 @@
+package io.awportfoiioapi.storage;
+
+import org.springframework.core.io.InputStreamSource;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 파일 저장소 SPI
+ * - storage.type 으로 구현 선택 (s3 : S3FileStorage, local : LocalFileStorage)
+ * - key 는 "{folder}/{파일명}" 형태, DB 에는 url(key) 값을 저장
+ */
+public interface FileStorage {
+    
+    /**
+     * 스트림 저장 (업로드 파일 등, 전체를 메모리에 올리지 않음)
+     * - 재시도 시 source.getInputStream() 을 다시 열 수 있음
+     * @param size 전체 크기 (byte)
+     * @return 저장된 파일 URL (DB 저장용)
+     */
+    String store(String key, InputStreamSource source, long size, FileMetadata metadata);
+    
+    /**
+     * 로컬 파일 저장 (파일에서 바로 스트리밍)
+     * @return 저장된 파일 URL (DB 저장용)
+     */
+    String store(String key, Path file, FileMetadata metadata);
+    
+    void delete(String key);
+    
+    /**
+     * 여러 건 삭제 (없는 key 는 성공으로 처리)
+     * @return 실패한 key -> 사유 (모두 성공하면 빈 Map)
+     */
+    default Map<String, String> deleteAll(Collection<String> keys) {
+        Map<String, String> failed = new LinkedHashMap<>();
+        for (String key : keys) {
+            try {
+                delete(key);
+            } catch (RuntimeException e) {
+                failed.put(key, String.valueOf(e.getMessage()));
+            }
+        }
+        return failed;
+    }
+    
+    /**
+     * prefix 아래 파일 목록
+     */
+    List<StorageEntry> list(String prefix);
+    
+    /**
+     * key -> 저장 URL
+     */
+    String url(String key);
+    
+    /**
+     * 저장 URL -> key
+     */
+    String keyOf(String url);
+    
+    /**
+     * 만료시간이 있는 조회 URL
+     */
+    String presign(String key);
+    
+    /**
+     * @return key -> 조회 URL
+     */
+    Map<String, String> presignAll(Collection<String> keys);
+    
+    /**
+     * 파일 열기 (사용 후 close)
+     * @throws StorageFileNotFoundException 파일 없음
+     */
+    StoredObject open(String key);
+}
@@ -0,0 +1,9 @@
+package io.awportfoiioapi.storage;
+
+import java.time.Instant;
+
+/**
+ * 저장소 목록 항목
+ */
+public record StorageEntry(String key, long size, Instant lastModified) {
+}
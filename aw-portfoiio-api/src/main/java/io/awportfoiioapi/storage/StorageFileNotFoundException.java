@@ -0,0 +1,12 @@
+package io.awportfoiioapi.storage;
+
+public class StorageFileNotFoundException extends RuntimeException {
+    
+    public StorageFileNotFoundException(String key) {
+        super("존재하지 않는 파일입니다. : " + key);
+    }
+    
+    public StorageFileNotFoundException(String key, Throwable cause) {
+        super("존재하지 않는 파일입니다. : " + key, cause);
+    }
+}
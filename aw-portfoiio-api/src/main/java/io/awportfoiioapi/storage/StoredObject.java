@@ -0,0 +1,26 @@
+package io.awportfoiioapi.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+
+/**
+ * 저장소에서 연 파일
+ */
+public interface StoredObject extends Closeable {
+    
+    FileMetadata metadata();
+    
+    /**
+     * @return 파일 크기, 모르면 -1
+     */
+    long size();
+    
+    /**
+     * @return 로컬 디스크 파일 경로 (로컬 저장소만, 그 외 null)
+     */
+    Path localPath();
+    
+    void writeTo(OutputStream out) throws IOException;
+}
@@ -0,0 +1,48 @@
+package io.awportfoiioapi.storage.controller;
+
+import io.awportfoiioapi.storage.FileDownloads;
+import io.awportfoiioapi.storage.StorageFileNotFoundException;
+import io.awportfoiioapi.storage.StoredObject;
+import io.awportfoiioapi.storage.impl.LocalFileStorage;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * 로컬 저장소 presign URL 조회 (storage.type=local 일 때만)
+ */
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalStorageController {
+    
+    private final LocalFileStorage localFileStorage;
+    
+    @GetMapping("/storage/{folder}/{fileName}")
+    public ResponseEntity<StreamingResponseBody> get(@PathVariable String folder,
+                                                     @PathVariable String fileName,
+                                                     @RequestParam(required = false) Long expires,
+                                                     @RequestParam(required = false) String signature,
+                                                     HttpServletRequest request) {
+        
+        String key = folder + "/" + fileName;
+        
+        if (!localFileStorage.verify(key, expires, signature)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        
+        try {
+            StoredObject object = localFileStorage.open(key);
+            return FileDownloads.inline(request, object, fileName);
+        } catch (StorageFileNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+}
@@ -0,0 +1,363 @@
+package io.awportfoiioapi.storage.impl;
+
+import io.awportfoiioapi.storage.FileMetadata;
+import io.awportfoiioapi.storage.FileStorage;
+import io.awportfoiioapi.storage.StorageEntry;
+import io.awportfoiioapi.storage.StorageFileNotFoundException;
+import io.awportfoiioapi.storage.StoredObject;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 디스크 저장소 (단일 서버 / 테스트용)
+ * - 파일 : {root}/{key}, 메타데이터 : {root}/.meta/{key}.properties
+ * - 저장 URL : {base-url}/storage/{key}
+ * - presign : 저장 URL + 만료시각 / HMAC 서명 (LocalStorageController 에서 검증)
+ * - 읽기 : 메모리 매핑 구간 단위로 응답 스트림에 복사 (Tomcat sendfile 가능하면 FileDownloads 에서 sendfile)
+ */
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+@Slf4j
+public class LocalFileStorage implements FileStorage {
+    
+    public static final String URL_PATH = "/storage/";
+    
+    private static final String META_DIR = ".meta";
+    private static final String CONTENT_TYPE = "content-type";
+    private static final String ORIGINAL_FILENAME = "original-filename";
+    private static final String HMAC = "HmacSHA256";
+    
+    // 한 번에 매핑하는 구간 크기
+    private static final long MAP_REGION = 8L * 1024 * 1024;
+    
+    @Value("${storage.local.root:./storage}")
+    private Path root;
+    
+    @Value("${storage.local.base-url:http://localhost:8080}")
+    private String baseUrl;
+    
+    @Value("${storage.local.url-duration:1d}")
+    private Duration urlDuration;
+    
+    @Value("${storage.local.secret:}")
+    private String secret;
+    
+    private Path metaRoot;
+    private SecretKeySpec signingKey;
+    
+    @PostConstruct
+    public void init() throws IOException {
+        root = root.toAbsolutePath().normalize();
+        metaRoot = root.resolve(META_DIR);
+        Files.createDirectories(metaRoot);
+        
+        byte[] keyBytes;
+        if (secret == null || secret.isBlank()) {
+            // 재기동하면 이전에 발급한 presign URL 은 무효
+            keyBytes = new byte[32];
+            new SecureRandom().nextBytes(keyBytes);
+            log.warn("storage.local.secret 미설정 - 임시 서명키 사용 (재기동 시 presign URL 무효)");
+        } else {
+            keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+        }
+        signingKey = new SecretKeySpec(keyBytes, HMAC);
+        
+        if (baseUrl.endsWith("/")) {
+            baseUrl = baseUrl.substring(0, baseUrl.length() - 1);
+        }
+        log.info("로컬 파일 저장소 {}", root);
+    }
+    
+    @Override
+    public String store(String key, InputStreamSource source, long size, FileMetadata metadata) {
+        Path target = resolve(key);
+        try (InputStream in = source.getInputStream()) {
+            Path temp = tempFileFor(target);
+            Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            moveIntoPlace(temp, target);
+            writeMetadata(key, metadata);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return url(key);
+    }
+    
+    @Override
+    public String store(String key, Path file, FileMetadata metadata) {
+        Path target = resolve(key);
+        try {
+            Path temp = tempFileFor(target);
+            Files.copy(file, temp, StandardCopyOption.REPLACE_EXISTING);
+            moveIntoPlace(temp, target);
+            writeMetadata(key, metadata);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return url(key);
+    }
+    
+    @Override
+    public void delete(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+            Files.deleteIfExists(metadataPath(key));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    @Override
+    public List<StorageEntry> list(String prefix) {
+        
+        Path dir = resolve(prefix.endsWith("/") ? prefix.substring(0, prefix.length() - 1) : prefix);
+        if (!Files.isDirectory(dir)) {
+            return List.of();
+        }
+        
+        try (Stream<Path> files = Files.walk(dir)) {
+            return files
+                    .filter(Files::isRegularFile)
+                    .filter(path -> !path.getFileName().toString().startsWith("."))
+                    .map(this::toEntry)
+                    .filter(entry -> entry.key().startsWith(prefix))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    @Override
+    public String url(String key) {
+        return baseUrl + URL_PATH + key;
+    }
+    
+    /**
+     * 저장 URL -> key
+     * - {base-url}/storage/ 뒤쪽 (쿼리 제외)
+     * - 저장소 전환 전 URL (S3 등) 은 호스트 뒤 경로 전체를 key 로 사용
+     */
+    @Override
+    public String keyOf(String fileUrl) {
+        
+        int schemeEnd = fileUrl == null ? -1 : fileUrl.indexOf("://");
+        if (schemeEnd < 0) {
+            throw new RuntimeException("Invalid local file URL");
+        }
+        
+        int marker = fileUrl.indexOf(URL_PATH, schemeEnd + 3);
+        int start = marker >= 0 ? marker + URL_PATH.length() : fileUrl.indexOf('/', schemeEnd + 3) + 1;
+        if (start <= 0) {
+            return "";
+        }
+        
+        int end = fileUrl.indexOf('?', start);
+        return fileUrl.substring(start, end < 0 ? fileUrl.length() : end);
+    }
+    
+    @Override
+    public String presign(String key) {
+        long expires = Instant.now().plus(urlDuration).getEpochSecond();
+        return url(key) + "?expires=" + expires + "&signature=" + sign(key, expires);
+    }
+    
+    @Override
+    public Map<String, String> presignAll(Collection<String> keys) {
+        Map<String, String> result = new LinkedHashMap<>();
+        for (String key : keys) {
+            result.computeIfAbsent(key, this::presign);
+        }
+        return result;
+    }
+    
+    /**
+     * presign 서명 검증
+     */
+    public boolean verify(String key, Long expires, String signature) {
+        if (expires == null || signature == null || Instant.now().getEpochSecond() > expires) {
+            return false;
+        }
+        return MessageDigest.isEqual(
+                sign(key, expires).getBytes(StandardCharsets.US_ASCII),
+                signature.getBytes(StandardCharsets.US_ASCII)
+        );
+    }
+    
+    @Override
+    public StoredObject open(String key) {
+        Path path = resolve(key);
+        try {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+            return new LocalStoredObject(path, channel, readMetadata(key));
+        } catch (NoSuchFileException e) {
+            throw new StorageFileNotFoundException(key, e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    /**
+     * key -> 파일 경로 (root 밖으로 나가는 key 거부)
+     */
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root) || path.startsWith(metaRoot)) {
+            throw new IllegalArgumentException("허용되지 않는 파일 경로입니다. : " + key);
+        }
+        return path;
+    }
+    
+    private Path metadataPath(String key) {
+        return metaRoot.resolve(key + ".properties").normalize();
+    }
+    
+    private Path tempFileFor(Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        return Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+    }
+    
+    private void moveIntoPlace(Path temp, Path target) throws IOException {
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+    
+    private void writeMetadata(String key, FileMetadata metadata) throws IOException {
+        Properties properties = new Properties();
+        if (metadata.contentType() != null) {
+            properties.setProperty(CONTENT_TYPE, metadata.contentType());
+        }
+        if (metadata.originalFilename() != null) {
+            properties.setProperty(ORIGINAL_FILENAME, metadata.originalFilename());
+        }
+        Path path = metadataPath(key);
+        Files.createDirectories(path.getParent());
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            properties.store(writer, null);
+        }
+    }
+    
+    private FileMetadata readMetadata(String key) {
+        Path path = metadataPath(key);
+        if (!Files.exists(path)) {
+            return new FileMetadata(null, null);
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new FileMetadata(properties.getProperty(CONTENT_TYPE), properties.getProperty(ORIGINAL_FILENAME));
+    }
+    
+    private StorageEntry toEntry(Path path) {
+        try {
+            String key = root.relativize(path).toString().replace('\\', '/');
+            return new StorageEntry(key, Files.size(path), Files.getLastModifiedTime(path).toInstant());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private String sign(String key, long expires) {
+        try {
+            Mac mac = Mac.getInstance(HMAC);
+            mac.init(signingKey);
+            byte[] signature = mac.doFinal((key + "\n" + expires).getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    private record LocalStoredObject(Path path, FileChannel channel, FileMetadata metadata) implements StoredObject {
+        
+        @Override
+        public long size() {
+            try {
+                return channel.size();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        
+        @Override
+        public Path localPath() {
+            return path;
+        }
+        
+        /**
+         * 대상이 파일이면 transferTo (커널 내부 복사), 그 외(서블릿 스트림)는 매핑 구간을 스트림에 복사
+         * - 파일 read 용 버퍼는 생략되지만 서블릿 출력 버퍼로의 복사는 그대로 있음 (복사 없는 전송은 sendfile 경로만)
+         */
+        @Override
+        public void writeTo(OutputStream out) throws IOException {
+            
+            long size = channel.size();
+            long position = 0;
+            
+            if (out instanceof FileOutputStream fileOut) {
+                FileChannel target = fileOut.getChannel();
+                while (position < size) {
+                    position += channel.transferTo(position, size - position, target);
+                }
+                return;
+            }
+            
+            WritableByteChannel target = Channels.newChannel(out);
+            while (position < size) {
+                long count = Math.min(MAP_REGION, size - position);
+                MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, position, count);
+                while (region.hasRemaining()) {
+                    target.write(region);
+                }
+                position += count;
+            }
+            out.flush();
+        }
+        
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,375 @@
+package io.awportfoiioapi.storage.impl;
+
+import io.awportfoiioapi.storage.FileMetadata;
+import io.awportfoiioapi.storage.FileStorage;
+import io.awportfoiioapi.storage.StorageEntry;
+import io.awportfoiioapi.storage.StorageFileNotFoundException;
+import io.awportfoiioapi.storage.StoredObject;
+import io.awportfoiioapi.utils.PresignedUrlCache;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+
+/**
+ * S3 저장소 (기본값)
+ * - 원본 파일명은 사용자 메타데이터 original-filename (URL 인코딩) 으로 저장
+ * - presign 은 PresignedUrlCache 사용
+ * - 스트림 업로드 : multipart-threshold 미만은 단건 put, 이상은 멀티파트 업로드
+ *   (파트 버퍼는 part-size 크기로 최대 max-part-buffers 개까지 재사용, 모두 사용 중이면 대기)
+ */
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
+@RequiredArgsConstructor
+public class S3FileStorage implements FileStorage {
+    
+    private static final String ORIGINAL_FILENAME = "original-filename";
+    
+    // DeleteObjects 1회 최대 건수
+    private static final int DELETE_OBJECTS_LIMIT = 1000;
+    
+    // S3 멀티파트 최소 파트 크기 (마지막 파트 제외)
+    private static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+    
+    private final S3Client s3Client;
+    private final PresignedUrlCache presignedUrlCache;
+    
+    @Value("${spring.cloud.aws.s3.bucket}")
+    private String bucketName;
+    
+    @Value("${storage.s3.multipart-threshold:16MB}")
+    private DataSize multipartThreshold;
+    
+    @Value("${storage.s3.part-size:8MB}")
+    private DataSize partSize;
+    
+    @Value("${storage.s3.max-part-buffers:8}")
+    private int maxPartBuffers;
+    
+    private Semaphore partBufferPermits;
+    private final Queue<byte[]> partBuffers = new ConcurrentLinkedQueue<>();
+    
+    @PostConstruct
+    public void init() {
+        if (partSize.toBytes() < MIN_PART_SIZE) {
+            throw new IllegalStateException("storage.s3.part-size 는 5MB 이상이어야 합니다.");
+        }
+        if (multipartThreshold.toBytes() < partSize.toBytes()) {
+            throw new IllegalStateException("storage.s3.multipart-threshold 는 part-size 이상이어야 합니다.");
+        }
+        partBufferPermits = new Semaphore(maxPartBuffers, true);
+    }
+    
+    @Override
+    public String store(String key, InputStreamSource source, long size, FileMetadata metadata) {
+        if (size < multipartThreshold.toBytes()) {
+            // 재시도 시 스트림을 다시 열도록 provider 로 전달 (MultipartFile 은 임시 파일에서 다시 읽음)
+            s3Client.putObject(putRequest(key, metadata),
+                    RequestBody.fromContentProvider(() -> openStream(source), size, contentType(metadata)));
+        } else {
+            multipartUpload(key, source, metadata);
+        }
+        return url(key);
+    }
+    
+    @Override
+    public String store(String key, Path file, FileMetadata metadata) {
+        s3Client.putObject(putRequest(key, metadata), RequestBody.fromFile(file));
+        return url(key);
+    }
+    
+    @Override
+    public void delete(String key) {
+        s3Client.deleteObject(DeleteObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build());
+    }
+    
+    /**
+     * DeleteObjects 로 1000건씩 삭제 (quiet 모드 - 실패한 key 만 응답)
+     */
+    @Override
+    public Map<String, String> deleteAll(Collection<String> keys) {
+        
+        Map<String, String> failed = new LinkedHashMap<>();
+        List<String> keyList = List.copyOf(keys);
+        
+        for (int from = 0; from < keyList.size(); from += DELETE_OBJECTS_LIMIT) {
+            List<ObjectIdentifier> objects = keyList.subList(from, Math.min(from + DELETE_OBJECTS_LIMIT, keyList.size())).stream()
+                    .map(key -> ObjectIdentifier.builder().key(key).build())
+                    .toList();
+            try {
+                DeleteObjectsResponse response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                        .bucket(bucketName)
+                        .delete(Delete.builder().objects(objects).quiet(true).build())
+                        .build());
+                for (S3Error error : response.errors()) {
+                    failed.put(error.key(), error.code() + " " + error.message());
+                }
+            } catch (RuntimeException e) {
+                objects.forEach(object -> failed.put(object.key(), String.valueOf(e.getMessage())));
+            }
+        }
+        return failed;
+    }
+    
+    @Override
+    public List<StorageEntry> list(String prefix) {
+        ListObjectsV2Request listRequest = ListObjectsV2Request.builder()
+                .bucket(bucketName)
+                .prefix(prefix)
+                .build();
+        
+        return s3Client.listObjectsV2Paginator(listRequest).contents().stream()
+                .map(object -> new StorageEntry(object.key(), object.size() == null ? -1 : object.size(), object.lastModified()))
+                .toList();
+    }
+    
+    @Override
+    public String url(String key) {
+        return s3Client.utilities()
+                .getUrl(b -> b.bucket(bucketName).key(key))
+                .toExternalForm();
+    }
+    
+    /**
+     * S3 URL -> key (https://{bucket}.s3.{region}.amazonaws.com/{key})
+     * - java.net.URL 생성 없이 문자열로 path 부분만 잘라냄 (쿼리/프래그먼트 제외, 디코딩 없음)
+     */
+    @Override
+    public String keyOf(String fileUrl) {
+        
+        int schemeEnd = fileUrl == null ? -1 : fileUrl.indexOf("://");
+        if (schemeEnd < 0) {
+            throw new RuntimeException("Invalid S3 file URL");
+        }
+        
+        int pathStart = fileUrl.indexOf('/', schemeEnd + 3);
+        if (pathStart < 0) {
+            return "";
+        }
+        
+        int pathEnd = fileUrl.length();
+        int query = fileUrl.indexOf('?', pathStart);
+        if (query >= 0) {
+            pathEnd = query;
+        }
+        int fragment = fileUrl.indexOf('#', pathStart);
+        if (fragment >= 0 && fragment < pathEnd) {
+            pathEnd = fragment;
+        }
+        
+        return fileUrl.substring(pathStart + 1, pathEnd);
+    }
+    
+    @Override
+    public String presign(String key) {
+        return presignedUrlCache.get(key);
+    }
+    
+    @Override
+    public Map<String, String> presignAll(Collection<String> keys) {
+        return presignedUrlCache.getAll(keys);
+    }
+    
+    @Override
+    public StoredObject open(String key) {
+        try {
+            return new S3StoredObject(s3Client.getObject(GetObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .build()));
+        } catch (NoSuchKeyException e) {
+            throw new StorageFileNotFoundException(key, e);
+        }
+    }
+    
+    /**
+     * 멀티파트 업로드
+     * - 파트 하나 크기만큼 버퍼에 읽어서 순서대로 올림 (업로드 하나당 버퍼 1개)
+     * - 실패하면 abort 해서 올라간 파트 정리
+     */
+    private void multipartUpload(String key, InputStreamSource source, FileMetadata metadata) {
+        
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(metadata.contentType())
+                .contentDisposition("inline")
+                .metadata(userMetadata(metadata))
+                .build()).uploadId();
+        
+        byte[] buffer = acquirePartBuffer();
+        try (InputStream in = source.getInputStream()) {
+            
+            List<CompletedPart> parts = new ArrayList<>();
+            int partNumber = 1;
+            int read;
+            while ((read = in.readNBytes(buffer, 0, buffer.length)) > 0) {
+                int length = read;
+                UploadPartResponse response = s3Client.uploadPart(UploadPartRequest.builder()
+                                .bucket(bucketName)
+                                .key(key)
+                                .uploadId(uploadId)
+                                .partNumber(partNumber)
+                                .contentLength((long) length)
+                                .build(),
+                        RequestBody.fromContentProvider(() -> new ByteArrayInputStream(buffer, 0, length), length, contentType(metadata)));
+                parts.add(CompletedPart.builder().partNumber(partNumber).eTag(response.eTag()).build());
+                partNumber++;
+            }
+            
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+            
+        } catch (IOException | RuntimeException e) {
+            abort(key, uploadId, e);
+            if (e instanceof IOException io) {
+                throw new UncheckedIOException(io);
+            }
+            throw (RuntimeException) e;
+        } finally {
+            releasePartBuffer(buffer);
+        }
+    }
+    
+    private void abort(String key, String uploadId, Exception cause) {
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+        } catch (RuntimeException e) {
+            cause.addSuppressed(e);
+        }
+    }
+    
+    private byte[] acquirePartBuffer() {
+        try {
+            partBufferPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("업로드 대기 중 인터럽트", e);
+        }
+        byte[] buffer = partBuffers.poll();
+        return buffer != null ? buffer : new byte[(int) partSize.toBytes()];
+    }
+    
+    private void releasePartBuffer(byte[] buffer) {
+        partBuffers.offer(buffer);
+        partBufferPermits.release();
+    }
+    
+    private static InputStream openStream(InputStreamSource source) {
+        try {
+            return source.getInputStream();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private static String contentType(FileMetadata metadata) {
+        return metadata.contentType() != null ? metadata.contentType() : MediaType.APPLICATION_OCTET_STREAM_VALUE;
+    }
+    
+    private PutObjectRequest putRequest(String key, FileMetadata metadata) {
+        return PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(metadata.contentType())
+                .contentDisposition("inline")
+                .metadata(userMetadata(metadata))
+                .build();
+    }
+    
+    private static Map<String, String> userMetadata(FileMetadata metadata) {
+        Map<String, String> userMetadata = new HashMap<>();
+        if (metadata.originalFilename() != null) {
+            userMetadata.put(ORIGINAL_FILENAME, URLEncoder.encode(metadata.originalFilename(), StandardCharsets.UTF_8));
+        }
+        return userMetadata;
+    }
+    
+    private record S3StoredObject(ResponseInputStream<GetObjectResponse> in) implements StoredObject {
+        
+        @Override
+        public FileMetadata metadata() {
+            String encoded = in.response().metadata().get(ORIGINAL_FILENAME);
+            return new FileMetadata(
+                    in.response().contentType(),
+                    encoded == null ? null : URLDecoder.decode(encoded, StandardCharsets.UTF_8)
+            );
+        }
+        
+        @Override
+        public long size() {
+            Long length = in.response().contentLength();
+            return length == null ? -1 : length;
+        }
+        
+        @Override
+        public Path localPath() {
+            return null;
+        }
+        
+        @Override
+        public void writeTo(OutputStream out) throws IOException {
+            in.transferTo(out);
+        }
+        
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
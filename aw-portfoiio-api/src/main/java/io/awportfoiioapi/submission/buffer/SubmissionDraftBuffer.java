@@ -0,0 +1,378 @@
+package io.awportfoiioapi.submission.buffer;
+
+import io.awportfoiioapi.advice.exception.SubmissionVersionConflictException;
+import io.awportfoiioapi.submission.dto.request.SubmissionDraftUpdate;
+import io.awportfoiioapi.submission.dto.request.SubmissionPostDraftRequest;
+import io.awportfoiioapi.submission.progress.SubmissionProgress;
+import io.awportfoiioapi.submission.progress.SubmissionProgressCalculator;
+import io.awportfoiioapi.submission.repository.SubmissionRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 임시저장 write-behind 버퍼 (submission.draft-buffer.enabled, 기본 꺼짐)
+ * - 대상 : 기존 제출의 JSON 만 바뀐 임시저장 (파일 변경 / 신규 생성은 바로 저장)
+ * - 제출별 마지막 JSON 만 보관 (연속 자동저장은 DB 쓰기 1번으로 합쳐짐)
+ * - flush-interval 주기 또는 flush-size 건 이상 쌓이면 batch UPDATE, 종료 시 남은 것 저장
+ * - 같은 제출을 직접 읽고 쓰는 경로(조회 / 제출 / 임시저장 / 패치)는 먼저 flush(id) 호출
+ *   회원의 제출 목록 / 요약 조회는 먼저 flushMember(memberId) 호출
+ *   (백그라운드 저장 중인 제출이면 그 저장이 끝날 때까지 대기)
+ * - 처음 버퍼에 넣을 때의 버전을 기준으로 저장 (그 사이 다른 경로로 수정 / 제출 완료된 행은 덮어쓰지 않음)
+ *   덮어쓰지 못한 임시저장은 기록해 두고 그 제출의 다음 조회 / 저장을 409 로 응답 (최신 내용 다시 조회)
+ * - max-entries 를 넘으면 버퍼에 넣지 않고 바로 저장
+ * - 서버 메모리에만 있으므로 서버 여러 대면 같은 제출 요청이 같은 서버로 가야 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SubmissionDraftBuffer {
+    
+    private final SubmissionRepository submissionRepository;
+    private final SubmissionProgressCalculator submissionProgressCalculator;
+    private final PlatformTransactionManager transactionManager;
+    
+    @Value("${submission.draft-buffer.enabled:false}")
+    private boolean enabled;
+    
+    @Value("${submission.draft-buffer.max-entries:10000}")
+    private int maxEntries;
+    
+    @Value("${submission.draft-buffer.flush-size:500}")
+    private int flushSize;
+    
+    @Value("${submission.draft-buffer.flush-wait-timeout:30s}")
+    private Duration flushWaitTimeout;
+    
+    private final Map<Long, PendingDraft> pending = new ConcurrentHashMap<>();
+    
+    // 저장 중인 제출 id (백그라운드 batch / 호출한 트랜잭션), 커밋 / 롤백 끝나면 열림
+    private final Map<Long, InFlight> inFlight = new ConcurrentHashMap<>();
+    
+    // 버전이 맞지 않아 저장하지 못한 제출 id -> 마지막 임시저장 시각 (다음 요청에서 409 후 삭제)
+    private final Map<Long, LocalDateTime> conflicts = new ConcurrentHashMap<>();
+    
+    private TransactionTemplate transactionTemplate;
+    private ThreadPoolTaskExecutor executor;
+    
+    /**
+     * 버퍼에 쌓인 임시저장 1건 (제출 id 별 최신 1건)
+     * - baseVersion : 처음 버퍼에 넣을 때의 DB 버전 (합쳐진 임시저장은 같은 기준 버전 유지)
+     */
+    private record PendingDraft(Long submissionId, Long memberId, Long portfolioId, String submissionJson,
+                                LocalDateTime savedAt, long baseVersion) {
+    }
+    
+    /**
+     * 저장 중 표시 (owner 스레드 자신은 기다리지 않음)
+     */
+    private record InFlight(Thread owner, Long memberId, CountDownLatch done) {
+    
+        private InFlight(Long memberId) {
+            this(Thread.currentThread(), memberId, new CountDownLatch(1));
+        }
+    }
+    
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        
+        // 스레드 1개 + 대기 1건 : 이미 flush 예약이 있으면 추가 요청은 버림 (예약된 flush 에서 같이 저장됨)
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("draft-buffer-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.initialize();
+    }
+    
+    /**
+     * 종료 시 남은 임시저장 저장 (스케줄러 / 작업 스레드 정리 후 호출 스레드에서 바로)
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        flushAll();
+    }
+    
+    /**
+     * @return 버퍼에 넣었으면 저장 후 버전 (기준 버전 + 1, 호출한 쪽은 DB 작업 없이 응답), 아니면 null
+     * @throws SubmissionVersionConflictException 이전에 버퍼에 넣은 임시저장을 저장하지 못했으면
+     */
+    public Long offer(SubmissionPostDraftRequest request) {
+        
+        if (!enabled
+                || request.getSubmissionId() == null
+                || request.getMemberId() == null
+                || request.getPortfolioId() == null
+                || (request.getOptionFiles() != null && !request.getOptionFiles().isEmpty())) {
+            return null;
+        }
+        
+        Long submissionId = request.getSubmissionId();
+        throwIfConflicted(submissionId);
+        if (!pending.containsKey(submissionId) && pending.size() >= maxEntries) {
+            return null;
+        }
+        
+        LocalDateTime savedAt = LocalDateTime.now();
+        long baseVersion;
+        while (true) {
+            
+            PendingDraft current = pending.get(submissionId);
+            if (current != null) {
+                PendingDraft next = new PendingDraft(submissionId, request.getMemberId(), request.getPortfolioId(), request.getResponse(), savedAt, current.baseVersion());
+                if (!pending.replace(submissionId, current, next)) {
+                    continue; // 그 사이 저장되었거나 다른 임시저장이 들어옴
+                }
+                baseVersion = current.baseVersion();
+                break;
+            }
+            
+            // 기준 버전은 저장 중인 이전 임시저장이 끝난 뒤의 DB 값
+            awaitInFlight(submissionId);
+            Long version = submissionRepository.findByDraftVersion(submissionId, request.getMemberId(), request.getPortfolioId());
+            if (version == null) {
+                return null; // 없는 제출 / 다른 회원 / 제출 완료 -> 바로 저장 경로에서 처리
+            }
+            PendingDraft next = new PendingDraft(submissionId, request.getMemberId(), request.getPortfolioId(), request.getResponse(), savedAt, version);
+            if (pending.putIfAbsent(submissionId, next) == null) {
+                baseVersion = version;
+                break;
+            }
+        }
+        
+        if (pending.size() >= flushSize) {
+            scheduleFlush();
+        }
+        return baseVersion + 1;
+    }
+    
+    /**
+     * 해당 제출의 버퍼 내용을 호출한 트랜잭션 안에서 바로 저장
+     * - 롤백되면 다시 버퍼에 넣음 (그 사이 더 새 임시저장이 들어왔으면 그대로 둠)
+     * @throws SubmissionVersionConflictException 버퍼의 임시저장을 저장하지 못했으면 (이번 저장 / 이전 백그라운드 저장)
+     */
+    public void flush(Long submissionId) {
+        
+        if (!enabled || submissionId == null) {
+            return;
+        }
+        throwIfConflicted(submissionId);
+        PendingDraft draft = pending.remove(submissionId);
+        if (draft == null) {
+            // 백그라운드 저장 중이면 끝날 때까지 대기 (실패해서 다시 버퍼에 들어왔으면 여기서 저장)
+            awaitInFlight(submissionId);
+            throwIfConflicted(submissionId);
+            draft = pending.remove(submissionId);
+            if (draft == null) {
+                return;
+            }
+        }
+        
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            if (!write(List.of(draft)).isEmpty()) {
+                throw conflict(submissionId);
+            }
+            return;
+        }
+        
+        // 커밋 전에 들어온 임시저장이 커밋 전 버전을 기준으로 삼지 않도록 트랜잭션이 끝날 때까지 저장 중 표시
+        InFlight mark = new InFlight(draft.memberId());
+        inFlight.put(submissionId, mark);
+        List<PendingDraft> missed;
+        try {
+            missed = write(List.of(draft));
+        } catch (RuntimeException e) {
+            pending.putIfAbsent(submissionId, draft);
+            release(submissionId, mark);
+            throw e;
+        }
+        if (!missed.isEmpty()) {
+            // 덮어쓸 행이 없음 -> 다시 넣지 않고 바로 409
+            release(submissionId, mark);
+            throw conflict(submissionId);
+        }
+        
+        PendingDraft flushed = draft;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    pending.putIfAbsent(flushed.submissionId(), flushed);
+                }
+                release(flushed.submissionId(), mark);
+            }
+        });
+    }
+    
+    /**
+     * 회원의 버퍼 내용을 호출한 트랜잭션 안에서 모두 저장 (목록 / 요약 조회 전)
+     * - 회원의 제출이 백그라운드 / 다른 요청에서 저장 중이면 끝날 때까지 대기
+     * - 충돌(409)은 목록에서는 알리지 않고 그 제출의 다음 조회 / 저장에서 알림
+     */
+    public void flushMember(Long memberId) {
+        
+        if (!enabled || memberId == null) {
+            return;
+        }
+        inFlight.values().stream()
+                .filter(mark -> memberId.equals(mark.memberId()))
+                .toList()
+                .forEach(mark -> await(mark, memberId));
+        
+        List<Long> submissionIds = pending.values().stream()
+                .filter(draft -> memberId.equals(draft.memberId()))
+                .map(PendingDraft::submissionId)
+                .toList();
+        for (Long submissionId : submissionIds) {
+            try {
+                flush(submissionId);
+            } catch (SubmissionVersionConflictException e) {
+                conflicts.put(submissionId, LocalDateTime.now());
+            }
+        }
+    }
+    
+    @Scheduled(fixedDelayString = "${submission.draft-buffer.flush-interval:2s}")
+    public void scheduleFlush() {
+        if (enabled && !pending.isEmpty()) {
+            executor.execute(this::flushAll);
+        }
+    }
+    
+    /**
+     * 버퍼 전체를 flush-size 건씩 트랜잭션을 나눠서 저장
+     * - 실패하면 다시 버퍼에 넣고 다음 주기에 재시도
+     */
+    public void flushAll() {
+        while (!pending.isEmpty()) {
+            
+            // 버퍼에서 빼기 전에 저장 중 표시 (flush(id) 가 버퍼 / 저장 중 둘 중 하나에서는 반드시 찾도록)
+            List<PendingDraft> batch = new ArrayList<>(Math.min(flushSize, pending.size()));
+            List<InFlight> marks = new ArrayList<>(Math.min(flushSize, pending.size()));
+            Iterator<Map.Entry<Long, PendingDraft>> iterator = pending.entrySet().iterator();
+            while (iterator.hasNext() && batch.size() < flushSize) {
+                Map.Entry<Long, PendingDraft> entry = iterator.next();
+                InFlight mark = new InFlight(entry.getValue().memberId());
+                if (inFlight.putIfAbsent(entry.getKey(), mark) != null) {
+                    continue;
+                }
+                if (pending.remove(entry.getKey(), entry.getValue())) {
+                    batch.add(entry.getValue());
+                    marks.add(mark);
+                } else {
+                    inFlight.remove(entry.getKey(), mark);
+                }
+            }
+            
+            // 남은 것이 모두 다른 곳에서 저장 중 -> 다음 주기에
+            if (batch.isEmpty()) {
+                return;
+            }
+            
+            try {
+                List<PendingDraft> missed = transactionTemplate.execute(status -> write(batch));
+                missed.forEach(draft -> conflicts.put(draft.submissionId(), draft.savedAt()));
+            } catch (RuntimeException e) {
+                batch.forEach(draft -> pending.putIfAbsent(draft.submissionId(), draft));
+                log.warn("임시저장 버퍼 저장 실패 {}건 (다음 주기에 재시도)", batch.size(), e);
+                return;
+            } finally {
+                for (int i = 0; i < batch.size(); i++) {
+                    release(batch.get(i).submissionId(), marks.get(i));
+                }
+            }
+        }
+    }
+    
+    public int size() {
+        return pending.size();
+    }
+    
+    private void throwIfConflicted(Long submissionId) {
+        if (conflicts.remove(submissionId) != null) {
+            throw conflict(submissionId);
+        }
+    }
+    
+    private SubmissionVersionConflictException conflict(Long submissionId) {
+        return new SubmissionVersionConflictException("임시저장이 다른 곳에서 먼저 저장된 내용과 충돌해서 반영되지 않았습니다. 최신 내용을 다시 불러와 주세요. (" + submissionId + ")");
+    }
+    
+    private void release(Long submissionId, InFlight mark) {
+        inFlight.remove(submissionId, mark);
+        mark.done().countDown();
+    }
+    
+    private void awaitInFlight(Long submissionId) {
+        
+        InFlight mark = inFlight.get(submissionId);
+        if (mark != null) {
+            await(mark, submissionId);
+        }
+    }
+    
+    /**
+     * @param key 로그용 (제출 id / 회원 id)
+     */
+    private void await(InFlight mark, Long key) {
+        
+        if (mark.owner() == Thread.currentThread()) {
+            return;
+        }
+        
+        try {
+            if (!mark.done().await(flushWaitTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("임시저장 버퍼 저장 대기 시간 초과 id={}", key);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("임시저장 버퍼 저장 대기 중 중단되었습니다.", e);
+        }
+    }
+    
+    /**
+     * @return 버전 / 임시저장 조건이 맞지 않아 저장하지 못한 임시저장
+     */
+    private List<PendingDraft> write(List<PendingDraft> drafts) {
+        
+        List<SubmissionDraftUpdate> updates = new ArrayList<>(drafts.size());
+        for (PendingDraft draft : drafts) {
+            SubmissionProgress progress = submissionProgressCalculator.calculate(draft.submissionId(), draft.portfolioId(), draft.submissionJson());
+            updates.add(new SubmissionDraftUpdate(draft.submissionId(), draft.memberId(), draft.portfolioId(), draft.submissionJson(),
+                    progress.answeredSteps(), progress.totalSteps(), draft.savedAt(), draft.baseVersion()));
+        }
+        
+        List<PendingDraft> missed = new ArrayList<>();
+        int[] counts = submissionRepository.updateDraftJsonAll(updates);
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) {
+                log.warn("임시저장 버퍼 대상 없음 (삭제된 제출 / 다른 회원 / 그 사이 수정 또는 제출 완료) submissionId={}", updates.get(i).submissionId());
+                missed.add(drafts.get(i));
+            }
+        }
+        return missed;
+    }
+}
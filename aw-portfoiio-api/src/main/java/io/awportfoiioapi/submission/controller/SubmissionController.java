@@ -2,16 +2,20 @@ package io.awportfoiioapi.submission.controller;
 
 
 import io.awportfoiioapi.apiresponse.ApiResponse;
+import io.awportfoiioapi.metrics.QueryBudget;
+import io.awportfoiioapi.submission.dto.request.SubmissionDraftPatchRequest;
 import io.awportfoiioapi.submission.dto.request.SubmissionPostDraftRequest;
 import io.awportfoiioapi.submission.dto.request.SubmissionPostRequest;
 import io.awportfoiioapi.submission.dto.response.SubmissionGetListRequest;
 import io.awportfoiioapi.submission.dto.response.SubmissionGetRequest;
+import io.awportfoiioapi.submission.dto.response.SubmissionSummaryResponse;
 import io.awportfoiioapi.submission.entity.Submission;
 import io.awportfoiioapi.submission.service.SubmissionService;
 import io.awportfoiioapi.utils.JwtParserUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -24,17 +28,29 @@ public class SubmissionController {
     private final SubmissionService submissionService;
 
 
+    @QueryBudget(statements = 4, repeats = 2)
     @GetMapping("/submission/{id}")
     public SubmissionGetRequest getSubmission(@PathVariable Long id) {
         return submissionService.getSubmissions(id);
     }
 
     //비밀번호 때문에 조회라도 post 로 요청
+    //행마다 응답 JSON 전체를 내려줌 -> /submission/my-list/summary 사용
+    @Deprecated
+    @QueryBudget(statements = 4, repeats = 2)
     @PostMapping("/submission/my-list")
     public List<SubmissionGetListRequest> getMySubmissions(@AuthenticationPrincipal Jwt jwt) {
         Long memberId = JwtParserUtil.extractMemberId(jwt);
         return submissionService.getSubmissionsList(memberId);
     }
+    
+    //내 제출 목록 (JSON 제외 + 진행률), 응답은 GET /submission/{id} 로 따로 조회
+    @QueryBudget(statements = 4, repeats = 2)
+    @PostMapping("/submission/my-list/summary")
+    public List<SubmissionSummaryResponse> getMySubmissionSummaries(@AuthenticationPrincipal Jwt jwt) {
+        Long memberId = JwtParserUtil.extractMemberId(jwt);
+        return submissionService.getSubmissionSummaries(memberId);
+    }
     //임시저장
     @PostMapping("/submission/temporaryStorage")
     public ApiResponse temporaryStorage(@AuthenticationPrincipal Jwt jwt, @ModelAttribute SubmissionPostDraftRequest request) {
@@ -42,6 +58,13 @@ public class SubmissionController {
         request.setMemberId(memberId);
         return submissionService.temporaryStorage(request);
     }
+    //임시저장 (변경분만, JSON Patch / Merge Patch), 버전이 다르면 409
+    @PatchMapping("/submission/{id}/draft")
+    public ApiResponse patchDraft(@AuthenticationPrincipal Jwt jwt, @PathVariable Long id, @Validated @RequestBody SubmissionDraftPatchRequest request) {
+        Long memberId = JwtParserUtil.extractMemberId(jwt);
+        request.setMemberId(memberId);
+        return submissionService.patchDraft(id, request);
+    }
     @PostMapping("/submission")
     public ApiResponse createSubmission(@AuthenticationPrincipal Jwt jwt , @ModelAttribute SubmissionPostRequest request) {
         Long memberId = JwtParserUtil.extractMemberId(jwt);
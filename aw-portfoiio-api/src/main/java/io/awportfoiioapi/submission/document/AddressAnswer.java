@@ -0,0 +1,37 @@
+package io.awportfoiioapi.submission.document;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Getter;
+
+/**
+ * 주소 (ADDR) 응답 { address, detail, zonecode }
+ */
+@Getter
+public class AddressAnswer {
+    
+    private final String address;
+    
+    private final String detail;
+    
+    private final String zonecode;
+    
+    private AddressAnswer(String address, String detail, String zonecode) {
+        this.address = address;
+        this.detail = detail;
+        this.zonecode = zonecode;
+    }
+    
+    /**
+     * @return 객체가 아니면 null
+     */
+    public static AddressAnswer from(JsonNode node) {
+        if (node == null || !node.isObject()) {
+            return null;
+        }
+        return new AddressAnswer(
+                SubmissionDocument.text(node.get("address")),
+                SubmissionDocument.text(node.get("detail")),
+                SubmissionDocument.text(node.get("zonecode"))
+        );
+    }
+}
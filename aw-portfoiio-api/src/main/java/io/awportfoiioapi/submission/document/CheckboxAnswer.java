@@ -0,0 +1,102 @@
+package io.awportfoiioapi.submission.document;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 체크박스 (CHECKBOX / CHECKBOX_INPUT) 응답
+ * - 단일선택 : { selected, inputs{label: 입력값} }
+ * - 다중선택 : { checked[label], inputs{label: 입력값} }
+ * - 인덱스선택 : { checked[index], inputs[값] }
+ */
+@Getter
+public class CheckboxAnswer {
+    
+    private final String selected;
+    
+    private final List<String> checkedLabels;
+    
+    private final List<Integer> checkedIndexes;
+    
+    private final JsonNode inputs;
+    
+    private CheckboxAnswer(String selected, List<String> checkedLabels, List<Integer> checkedIndexes, JsonNode inputs) {
+        this.selected = selected;
+        this.checkedLabels = checkedLabels;
+        this.checkedIndexes = checkedIndexes;
+        this.inputs = inputs;
+    }
+    
+    /**
+     * @return 객체가 아니면 null
+     */
+    public static CheckboxAnswer from(JsonNode node) {
+        
+        if (node == null || !node.isObject()) {
+            return null;
+        }
+        
+        JsonNode inputs = node.get("inputs");
+        
+        if (node.has("selected")) {
+            return new CheckboxAnswer(node.get("selected").asText(), Collections.emptyList(), Collections.emptyList(), inputs);
+        }
+        
+        JsonNode checked = node.get("checked");
+        
+        if (checked == null || !checked.isArray() || checked.isEmpty()) {
+            return new CheckboxAnswer(null, Collections.emptyList(), Collections.emptyList(), inputs);
+        }
+        
+        // 첫 원소 타입으로 라벨/인덱스 구분
+        if (checked.get(0).isNumber()) {
+            List<Integer> indexes = new ArrayList<>(checked.size());
+            for (JsonNode n : checked) {
+                indexes.add(n.asInt());
+            }
+            return new CheckboxAnswer(null, Collections.emptyList(), indexes, inputs);
+        }
+        
+        if (checked.get(0).isTextual()) {
+            List<String> labels = new ArrayList<>(checked.size());
+            for (JsonNode n : checked) {
+                labels.add(n.asText());
+            }
+            return new CheckboxAnswer(null, labels, Collections.emptyList(), inputs);
+        }
+        
+        return new CheckboxAnswer(null, Collections.emptyList(), Collections.emptyList(), inputs);
+    }
+    
+    public boolean isSingle() {
+        return selected != null;
+    }
+    
+    /**
+     * 라벨별 추가 입력값 (없으면 빈 문자열)
+     */
+    public String inputOf(String label) {
+        if (inputs == null || !inputs.isObject()) {
+            return "";
+        }
+        return SubmissionDocument.text(inputs.get(label));
+    }
+    
+    /**
+     * 인덱스 선택 시 입력값 (inputs 배열)
+     */
+    public String inputAt(int index) {
+        if (inputs == null || !inputs.isArray()) {
+            return "";
+        }
+        return SubmissionDocument.text(inputs.get(index));
+    }
+    
+    public boolean hasInputList() {
+        return inputs != null && inputs.isArray();
+    }
+}
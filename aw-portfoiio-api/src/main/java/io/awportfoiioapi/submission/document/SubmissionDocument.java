@@ -0,0 +1,109 @@
+package io.awportfoiioapi.submission.document;
+
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 제출 JSON (SUBMISSION_JSON) 타입 모델
+ * - 고정 키 : rooms(객실) / specials(스페셜) / refunds(환불)
+ * - 그 외 키 : 옵션 id 별 응답 (answers) -> 타입별 변환은 CheckboxAnswer / AddressAnswer 사용
+ */
+@Data
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class SubmissionDocument {
+    
+    private List<Room> rooms;
+    
+    private List<Special> specials;
+    
+    private List<RefundRule> refunds;
+    
+    private Map<String, JsonNode> answers = new HashMap<>();
+    
+    @JsonAnySetter
+    public void putAnswer(String optionKey, JsonNode value) {
+        answers.put(optionKey, value);
+    }
+    
+    /**
+     * 옵션 id 응답 조회 (없으면 null)
+     */
+    public JsonNode getAnswer(String optionKey) {
+        return answers.get(optionKey);
+    }
+    
+    /**
+     * 응답 노드 -> 셀 문자열 (null 은 빈 문자열, 문자열은 따옴표 없이)
+     */
+    public static String text(JsonNode node) {
+        if (node == null || node.isNull() || node.isMissingNode()) {
+            return "";
+        }
+        return node.isValueNode() ? node.asText() : node.toString();
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Room {
+        private String id;
+        private String name;
+        private String desc;
+        private Capacity capacity;
+        private String type;
+        private String amenities;
+        private PriceTier priceLow;
+        private PriceTier priceMid;
+        private PriceTier priceHigh;
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Capacity {
+        private String standard;
+        private String max;
+    }
+    
+    /**
+     * 시즌별 요금 (평일 / 금 / 토 / 일)
+     */
+    @Data
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class PriceTier {
+        private String weekday;
+        private String fri;
+        private String sat;
+        private String sun;
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Special {
+        private String id;
+        private String name;
+        private String desc;
+    }
+    
+    /**
+     * 환불 기준 (id 가 refund-1 이면 방문당일)
+     */
+    @Data
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class RefundRule {
+        private String id;
+        private String day;
+        private String percent;
+    }
+}
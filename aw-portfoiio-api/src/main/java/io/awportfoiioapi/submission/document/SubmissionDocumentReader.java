@@ -0,0 +1,67 @@
+package io.awportfoiioapi.submission.document;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * 제출 JSON 읽기/쓰기
+ * - ObjectReader / ObjectWriter 는 스레드 안전하므로 한 번 만들어 재사용 (매 호출 TypeReference 해석 제거)
+ * - 엑셀 : SubmissionDocument (타입 모델)
+ * - 상세조회 : ObjectNode (모르는 키도 그대로 유지해야 하므로 트리)
+ */
+@Component
+public class SubmissionDocumentReader {
+    
+    private final ObjectReader documentReader;
+    private final ObjectReader treeReader;
+    private final ObjectWriter treeWriter;
+    private final JsonNodeFactory nodeFactory;
+    
+    public SubmissionDocumentReader(ObjectMapper objectMapper) {
+        this.documentReader = objectMapper.readerFor(SubmissionDocument.class);
+        this.treeReader = objectMapper.readerFor(JsonNode.class);
+        this.treeWriter = objectMapper.writerFor(JsonNode.class);
+        this.nodeFactory = objectMapper.getNodeFactory();
+    }
+    
+    public SubmissionDocument read(String submissionJson) {
+        if (submissionJson == null || submissionJson.isBlank()) {
+            return new SubmissionDocument();
+        }
+        try {
+            return documentReader.readValue(submissionJson);
+        } catch (IOException e) {
+            throw new RuntimeException("제출 JSON 파싱 실패", e);
+        }
+    }
+    
+    /**
+     * @return 최상위가 객체가 아니면 빈 객체
+     */
+    public ObjectNode readTree(String submissionJson) {
+        if (submissionJson == null || submissionJson.isBlank()) {
+            return nodeFactory.objectNode();
+        }
+        try {
+            JsonNode node = treeReader.readValue(submissionJson);
+            return node instanceof ObjectNode objectNode ? objectNode : nodeFactory.objectNode();
+        } catch (IOException e) {
+            throw new RuntimeException("제출 JSON 파싱 실패", e);
+        }
+    }
+    
+    public String write(JsonNode node) {
+        try {
+            return treeWriter.writeValueAsString(node);
+        } catch (IOException e) {
+            throw new RuntimeException("제출 JSON 변환 실패", e);
+        }
+    }
+}
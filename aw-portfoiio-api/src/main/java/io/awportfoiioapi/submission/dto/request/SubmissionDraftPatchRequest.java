@@ -0,0 +1,31 @@
+package io.awportfoiioapi.submission.dto.request;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.awportfoiioapi.submission.enums.SubmissionPatchType;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 임시저장 변경분
+ * - version : 패치 기준 문서 버전 (조회 / 저장 응답의 version)
+ * - JSON_PATCH : patch 는 연산 배열 [{"op":"replace","path":"/12","value":"..."}]
+ * - MERGE_PATCH : patch 는 객체 {"12":"...","13":null} (null 은 삭제)
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SubmissionDraftPatchRequest {
+    
+    private Long memberId;
+    
+    @NotNull(message = "문서 버전은 필수 입력입니다.")
+    private Long version;
+    
+    @NotNull(message = "패치 형식은 필수 입력입니다.")
+    private SubmissionPatchType type;
+    
+    @NotNull(message = "패치 내용은 필수 입력입니다.")
+    private JsonNode patch;
+}
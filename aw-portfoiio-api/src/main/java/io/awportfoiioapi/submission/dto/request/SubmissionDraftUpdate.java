@@ -0,0 +1,11 @@
+package io.awportfoiioapi.submission.dto.request;
+
+import java.time.LocalDateTime;
+
+/**
+ * 임시저장 버퍼에서 모아서 저장하는 JSON (SUBMISSION 배치 UPDATE 1행)
+ * - memberId / portfolioId 가 맞고 버전이 baseVersion 그대로인 임시저장 행만 갱신
+ */
+public record SubmissionDraftUpdate(Long submissionId, Long memberId, Long portfolioId, String submissionJson,
+                                    int answeredSteps, int totalSteps, LocalDateTime savedAt, long baseVersion) {
+}
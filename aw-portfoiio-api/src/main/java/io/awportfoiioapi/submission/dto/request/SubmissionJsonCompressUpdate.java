@@ -0,0 +1,11 @@
+package io.awportfoiioapi.submission.dto.request;
+
+import io.awportfoiioapi.submission.enums.SubmissionJsonEncoding;
+
+/**
+ * 제출 JSON 압축 저장 (SUBMISSION 배치 UPDATE 1행)
+ * - 읽은 뒤 수정된 행(version 다름)은 건너뜀
+ */
+public record SubmissionJsonCompressUpdate(Long submissionId, Long version, byte[] data,
+                                           SubmissionJsonEncoding encoding, Long dictionaryId) {
+}
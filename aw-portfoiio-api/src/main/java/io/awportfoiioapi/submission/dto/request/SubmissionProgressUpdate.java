@@ -0,0 +1,8 @@
+package io.awportfoiioapi.submission.dto.request;
+
+/**
+ * 진행률 백필 (SUBMISSION 배치 UPDATE 1행)
+ * - 아직 진행률이 없는 행만 갱신, 버전 / 수정일은 바꾸지 않음
+ */
+public record SubmissionProgressUpdate(Long submissionId, int answeredSteps, int totalSteps) {
+}
@@ -1,6 +1,8 @@
 package io.awportfoiioapi.submission.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.querydsl.core.annotations.QueryProjection;
+import io.awportfoiioapi.submission.storage.StoredSubmissionJson;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
@@ -16,13 +18,25 @@ public class SubmissionGetRequest {
     private Boolean isDraft;
     private String submissionJson;
     private LocalDateTime completedDate;
+    private Long version;
+    // 저장된 형태 (압축이면 getSubmissionJson() 에서 해제)
+    @JsonIgnore
+    private StoredSubmissionJson storedJson;
     @QueryProjection
-    public SubmissionGetRequest(Long submissionId, Long portfolioId, String companyName, Boolean isDraft, String submissionJson, LocalDateTime completedDate) {
+    public SubmissionGetRequest(Long submissionId, Long portfolioId, String companyName, Boolean isDraft, StoredSubmissionJson storedJson, LocalDateTime completedDate, Long version) {
         this.submissionId = submissionId;
         this.portfolioId = portfolioId;
         this.companyName = companyName;
         this.isDraft = isDraft;
-        this.submissionJson = submissionJson;
+        this.storedJson = storedJson;
         this.completedDate = completedDate;
+        this.version = version;
+    }
+    
+    public String getSubmissionJson() {
+        if (submissionJson == null && storedJson != null) {
+            submissionJson = storedJson.get();
+        }
+        return submissionJson;
     }
 }
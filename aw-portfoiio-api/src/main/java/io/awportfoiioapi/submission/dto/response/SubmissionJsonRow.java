@@ -0,0 +1,26 @@
+package io.awportfoiioapi.submission.dto.response;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 압축 대상 제출 JSON (원문 행)
+ */
+@NoArgsConstructor
+@Data
+public class SubmissionJsonRow {
+    
+    private Long submissionId;
+    private Long portfolioId;
+    private Long version;
+    private String submissionJson;
+    
+    @QueryProjection
+    public SubmissionJsonRow(Long submissionId, Long portfolioId, Long version, String submissionJson) {
+        this.submissionId = submissionId;
+        this.portfolioId = portfolioId;
+        this.version = version;
+        this.submissionJson = submissionJson;
+    }
+}
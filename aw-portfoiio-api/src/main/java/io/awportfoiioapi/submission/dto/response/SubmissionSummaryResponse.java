@@ -0,0 +1,39 @@
+package io.awportfoiioapi.submission.dto.response;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내 제출 목록 1건 (응답 JSON 제외, 상세는 GET /api/submission/{id})
+ * - answeredSteps / totalSteps : 진행률 (계산 전 행은 null)
+ */
+@NoArgsConstructor
+@Data
+public class SubmissionSummaryResponse {
+    
+    private Long id;
+    private Long portfolioId;
+    private String companyName;
+    private Boolean isDraft;
+    private LocalDateTime completedAt;
+    private LocalDateTime updatedAt;
+    private Integer answeredSteps;
+    private Integer totalSteps;
+    private SubmissionGetListRequest.Portfolio portfolio;
+    
+    @QueryProjection
+    public SubmissionSummaryResponse(Long id, Long portfolioId, String companyName, Boolean isDraft, LocalDateTime completedAt, LocalDateTime updatedAt, Integer answeredSteps, Integer totalSteps, String portfolioTitle, String portfolioSlug) {
+        this.id = id;
+        this.portfolioId = portfolioId;
+        this.companyName = companyName;
+        this.isDraft = isDraft;
+        this.completedAt = completedAt;
+        this.updatedAt = updatedAt;
+        this.answeredSteps = answeredSteps;
+        this.totalSteps = totalSteps;
+        this.portfolio = new SubmissionGetListRequest.Portfolio(portfolioTitle, portfolioSlug);
+    }
+}
@@ -5,6 +5,8 @@ import io.awportfoiioapi.member.entrity.Member;
 import io.awportfoiioapi.portfolio.entity.Portfolio;
 import io.awportfoiioapi.submission.dto.request.SubmissionPostDraftRequest;
 import io.awportfoiioapi.submission.dto.request.SubmissionPostRequest;
+import io.awportfoiioapi.submission.enums.SubmissionJsonEncoding;
+import io.awportfoiioapi.submission.storage.StoredSubmissionJson;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -44,10 +46,27 @@ public class Submission extends DateSuperClass {
     @Column(name = "SUBMISSION_PASSWORD")
     private String password;
     
-    // 제출 제이슨
+    // 제출 제이슨 (원문, 압축 저장된 행은 NULL -> getStoredJson() 으로 읽음)
+    @Getter(AccessLevel.NONE)
     @Column(name = "SUBMISSION_JSON", columnDefinition = "TEXT")
     private String submissionJson;
     
+    // 압축된 제출 제이슨
+    @Getter(AccessLevel.NONE)
+    @Column(name = "SUBMISSION_JSON_DATA", length = 16777215)
+    private byte[] jsonData;
+    
+    // 제출 제이슨 저장 방식 (NULL 은 원문)
+    @Getter(AccessLevel.NONE)
+    @Column(name = "SUBMISSION_JSON_ENCODING")
+    @Enumerated(EnumType.STRING)
+    private SubmissionJsonEncoding jsonEncoding;
+    
+    // 압축에 쓴 사전 ID (SUBMISSION_JSON_DICTIONARY)
+    @Getter(AccessLevel.NONE)
+    @Column(name = "SUBMISSION_JSON_DICTIONARY_ID")
+    private Long jsonDictionaryId;
+    
     // 제출 여부 드래프트
     @Column(name = "SUBMISSION_IS_DRAFT")
     private Boolean isDraft;
@@ -56,18 +75,52 @@ public class Submission extends DateSuperClass {
     @Column(name = "SUBMISSION_COMPLETED_DATE")
     private LocalDateTime completedDate;
     
+    // 제출 JSON 버전 (낙관적 락, 변경분 저장 시 기준 버전 비교)
+    @Version
+    @Column(name = "SUBMISSION_VERSION")
+    private Long version;
+    
+    // 응답한 단계 수 (저장 시점 계산, 목록에서 JSON 없이 진행률 표시)
+    @Column(name = "SUBMISSION_ANSWERED_STEPS")
+    private Integer answeredSteps;
+    
+    // 전체 단계 수
+    @Column(name = "SUBMISSION_TOTAL_STEPS")
+    private Integer totalSteps;
+    
+    public StoredSubmissionJson getStoredJson() {
+        return new StoredSubmissionJson(submissionJson, jsonData, jsonEncoding, jsonDictionaryId);
+    }
+    
     public void modifyJson(SubmissionPostDraftRequest request) {
-        this.submissionJson = request.getResponse();
+        storePlainJson(request.getResponse());
+    }
+    
+    public void modifyPatchedJson(String submissionJson) {
+        storePlainJson(submissionJson);
     }
     
     public void modifySubmission(SubmissionPostRequest request) {
-        this.submissionJson = request.getResponse();
+        storePlainJson(request.getResponse());
         this.completedDate = LocalDateTime.now();
         this.isDraft = false;
     }
     
+    public void changeProgress(int answeredSteps, int totalSteps) {
+        this.answeredSteps = answeredSteps;
+        this.totalSteps = totalSteps;
+    }
+    
     public void modifySubmitOff() {
         this.completedDate = null;
         this.isDraft = true;
     }
+    
+    // 수정되는 JSON 은 원문으로 저장 (압축은 SubmissionJsonMigrator 가 나중에)
+    private void storePlainJson(String submissionJson) {
+        this.submissionJson = submissionJson;
+        this.jsonData = null;
+        this.jsonEncoding = SubmissionJsonEncoding.PLAIN;
+        this.jsonDictionaryId = null;
+    }
 }
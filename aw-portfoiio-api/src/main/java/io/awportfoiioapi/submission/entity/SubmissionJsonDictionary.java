@@ -0,0 +1,38 @@
+package io.awportfoiioapi.submission.entity;
+
+import io.awportfoiioapi.mapperd.DateSuperClass;
+import jakarta.persistence.*;
+import lombok.*;
+
+import static jakarta.persistence.GenerationType.IDENTITY;
+
+/**
+ * 제출 JSON 압축 사전 (포트폴리오별, 같은 양식 응답에 반복되는 키 / 값 모음)
+ * - 한 번 만든 사전은 바꾸지 않음 (압축된 행이 사전 ID 로 참조)
+ */
+@Table(name = "SUBMISSION_JSON_DICTIONARY")
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class SubmissionJsonDictionary extends DateSuperClass {
+    
+    // 사전 ID
+    @Id
+    @Column(name = "SUBMISSION_JSON_DICTIONARY_ID")
+    @GeneratedValue(strategy = IDENTITY)
+    private Long id;
+    
+    // 포트폴리오 ID
+    @Column(name = "PORTFOLIO_ID")
+    private Long portfolioId;
+    
+    // 사전 내용 (Deflate preset dictionary, 최대 32KB)
+    @Column(name = "SUBMISSION_JSON_DICTIONARY_DATA", length = 32768)
+    private byte[] data;
+    
+    // 학습에 쓴 표본 수
+    @Column(name = "SUBMISSION_JSON_DICTIONARY_SAMPLES")
+    private Integer samples;
+}
@@ -0,0 +1,14 @@
+package io.awportfoiioapi.submission.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+public enum SubmissionJsonEncoding {
+    PLAIN("원문 (SUBMISSION_JSON)"),
+    DEFLATE("압축 (SUBMISSION_JSON_DATA)"),
+    DEFLATE_DICTIONARY("포트폴리오 사전 압축 (SUBMISSION_JSON_DATA)");
+    
+    private final String value;
+}
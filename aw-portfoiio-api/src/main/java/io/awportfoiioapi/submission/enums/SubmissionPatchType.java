@@ -0,0 +1,13 @@
+package io.awportfoiioapi.submission.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+public enum SubmissionPatchType {
+    JSON_PATCH("JSON Patch (RFC 6902)"),
+    MERGE_PATCH("JSON Merge Patch (RFC 7396)");
+    
+    private final String value;
+}
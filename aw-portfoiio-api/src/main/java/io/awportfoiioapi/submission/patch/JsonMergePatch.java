@@ -0,0 +1,41 @@
+package io.awportfoiioapi.submission.patch;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.Map;
+
+/**
+ * JSON Merge Patch (RFC 7396)
+ * - 객체는 키 단위로 재귀 병합, 값이 null 이면 키 삭제
+ * - 객체가 아닌 값(배열 포함)은 통째로 교체
+ */
+public final class JsonMergePatch {
+    
+    private JsonMergePatch() {
+    }
+    
+    /**
+     * @return 패치 적용 결과 (target 은 변경하지 않음)
+     */
+    public static JsonNode apply(JsonNode target, JsonNode patch) {
+        
+        if (patch == null || !patch.isObject()) {
+            return patch == null ? null : patch.deepCopy();
+        }
+        
+        ObjectNode result = target != null && target.isObject()
+                ? ((ObjectNode) target).deepCopy()
+                : JsonNodeFactory.instance.objectNode();
+        
+        for (Map.Entry<String, JsonNode> field : patch.properties()) {
+            if (field.getValue().isNull()) {
+                result.remove(field.getKey());
+            } else {
+                result.set(field.getKey(), apply(result.get(field.getKey()), field.getValue()));
+            }
+        }
+        return result;
+    }
+}
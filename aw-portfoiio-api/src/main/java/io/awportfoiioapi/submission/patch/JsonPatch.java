@@ -0,0 +1,153 @@
+package io.awportfoiioapi.submission.patch;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.awportfoiioapi.advice.exception.SubmissionPatchException;
+
+/**
+ * JSON Patch (RFC 6902)
+ * - add / remove / replace / move / copy / test
+ * - 복사본에 순서대로 적용, 하나라도 실패하면 전체 실패 (원본은 변경하지 않음)
+ */
+public final class JsonPatch {
+    
+    private JsonPatch() {
+    }
+    
+    /**
+     * @param operations 연산 배열
+     * @return 패치 적용 결과
+     */
+    public static JsonNode apply(JsonNode target, JsonNode operations) {
+        
+        if (operations == null || !operations.isArray()) {
+            throw new SubmissionPatchException("JSON Patch 는 연산 배열이어야 합니다.");
+        }
+        
+        JsonNode result = target.deepCopy();
+        for (JsonNode operation : operations) {
+            result = applyOperation(result, operation);
+        }
+        return result;
+    }
+    
+    private static JsonNode applyOperation(JsonNode root, JsonNode operation) {
+        
+        String op = text(operation, "op");
+        JsonPointer path = pointer(operation, "path");
+        
+        return switch (op) {
+            case "add" -> add(root, path, value(operation));
+            case "remove" -> {
+                existing(root, path);
+                yield remove(root, path);
+            }
+            case "replace" -> {
+                existing(root, path);
+                yield add(remove(root, path), path, value(operation));
+            }
+            case "move" -> {
+                JsonPointer from = pointer(operation, "from");
+                if (!from.equals(path) && path.toString().startsWith(from + "/")) {
+                    throw new SubmissionPatchException("move 대상이 원본 하위 경로입니다. : " + path);
+                }
+                JsonNode moved = existing(root, from);
+                yield add(remove(root, from), path, moved);
+            }
+            case "copy" -> add(root, path, existing(root, pointer(operation, "from")).deepCopy());
+            case "test" -> {
+                if (!existing(root, path).equals(value(operation))) {
+                    throw new SubmissionPatchException("test 연산 값이 일치하지 않습니다. : " + path);
+                }
+                yield root;
+            }
+            default -> throw new SubmissionPatchException("지원하지 않는 연산입니다. : " + op);
+        };
+    }
+    
+    private static JsonNode add(JsonNode root, JsonPointer path, JsonNode value) {
+        
+        if (path.matches()) {
+            return value.deepCopy();
+        }
+        
+        JsonNode parent = existing(root, path.head());
+        String name = path.last().getMatchingProperty();
+        
+        if (parent instanceof ObjectNode object) {
+            object.set(name, value.deepCopy());
+        } else if (parent instanceof ArrayNode array) {
+            if ("-".equals(name)) {
+                array.add(value.deepCopy());
+            } else {
+                array.insert(index(array, name, array.size()), value.deepCopy());
+            }
+        } else {
+            throw new SubmissionPatchException("상위 경로가 객체 / 배열이 아닙니다. : " + path);
+        }
+        return root;
+    }
+    
+    private static JsonNode remove(JsonNode root, JsonPointer path) {
+        
+        if (path.matches()) {
+            return null;
+        }
+        
+        JsonNode parent = existing(root, path.head());
+        String name = path.last().getMatchingProperty();
+        
+        if (parent instanceof ObjectNode object) {
+            object.remove(name);
+        } else if (parent instanceof ArrayNode array) {
+            array.remove(index(array, name, array.size() - 1));
+        }
+        return root;
+    }
+    
+    private static JsonNode existing(JsonNode root, JsonPointer path) {
+        JsonNode node = root == null ? null : root.at(path);
+        if (node == null || node.isMissingNode()) {
+            throw new SubmissionPatchException("존재하지 않는 경로입니다. : " + path);
+        }
+        return node;
+    }
+    
+    private static int index(ArrayNode array, String name, int max) {
+        int index;
+        try {
+            index = (name.length() > 1 && name.startsWith("0")) ? -1 : Integer.parseInt(name);
+        } catch (NumberFormatException e) {
+            index = -1;
+        }
+        if (index < 0 || index > max) {
+            throw new SubmissionPatchException("잘못된 배열 인덱스입니다. : " + name);
+        }
+        return index;
+    }
+    
+    private static JsonNode value(JsonNode operation) {
+        if (!operation.has("value")) {
+            throw new SubmissionPatchException("value 가 없습니다.");
+        }
+        return operation.get("value");
+    }
+    
+    private static JsonPointer pointer(JsonNode operation, String field) {
+        try {
+            return JsonPointer.compile(text(operation, field));
+        } catch (IllegalArgumentException e) {
+            throw new SubmissionPatchException("잘못된 JSON Pointer 입니다. : " + operation.get(field));
+        }
+    }
+    
+    private static String text(JsonNode operation, String field) {
+        JsonNode node = operation == null ? null : operation.get(field);
+        if (node == null || !node.isTextual()) {
+            throw new SubmissionPatchException(field + " 가 없습니다.");
+        }
+        return node.asText();
+    }
+}
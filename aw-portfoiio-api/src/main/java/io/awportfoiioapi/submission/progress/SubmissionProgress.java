@@ -0,0 +1,7 @@
+package io.awportfoiioapi.submission.progress;
+
+/**
+ * 제출 진행률 (응답한 단계 수 / 전체 단계 수)
+ */
+public record SubmissionProgress(int answeredSteps, int totalSteps) {
+}
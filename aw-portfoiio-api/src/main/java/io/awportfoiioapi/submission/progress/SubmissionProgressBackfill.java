@@ -0,0 +1,122 @@
+package io.awportfoiioapi.submission.progress;
+
+import io.awportfoiioapi.submission.dto.request.SubmissionProgressUpdate;
+import io.awportfoiioapi.submission.entity.Submission;
+import io.awportfoiioapi.submission.repository.SubmissionRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 진행률 컬럼이 추가되기 전 제출 행 백필 (submission.progress.backfill-on-startup)
+ * - SUBMISSION_TOTAL_STEPS 가 NULL 인 행만 batch-size 단위로 나눠서 계산
+ * - 기동을 막지 않도록 전용 스레드에서 실행, 실패한 행은 로그만 남기고 건너뜀 (다음 기동 때 다시 시도)
+ * - 진행률만 JDBC 로 저장 (버전을 올리지 않아서 저장 중인 클라이언트에 409 가 나지 않음)
+ */
+@Slf4j
+@Component
+public class SubmissionProgressBackfill {
+    
+    private final SubmissionRepository submissionRepository;
+    private final SubmissionProgressCalculator submissionProgressCalculator;
+    private final TransactionTemplate transactionTemplate;
+    
+    private ThreadPoolTaskExecutor executor;
+    
+    @Value("${submission.progress.backfill-on-startup:true}")
+    private boolean backfillOnStartup;
+    
+    @Value("${submission.progress.batch-size:200}")
+    private int batchSize;
+    
+    public SubmissionProgressBackfill(SubmissionRepository submissionRepository,
+                                      SubmissionProgressCalculator submissionProgressCalculator,
+                                      PlatformTransactionManager transactionManager) {
+        this.submissionRepository = submissionRepository;
+        this.submissionProgressCalculator = submissionProgressCalculator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+    
+    @PostConstruct
+    public void init() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("submission-progress-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (backfillOnStartup) {
+            executor.execute(this::backfillQuietly);
+        }
+    }
+    
+    private void backfillQuietly() {
+        try {
+            backfill();
+        } catch (RuntimeException e) {
+            log.warn("제출 진행률 백필 실패 (다음 기동 때 다시 시도)", e);
+        }
+    }
+    
+    /**
+     * @return 진행률을 저장한 행 수
+     */
+    public int backfill() {
+        long lastId = 0L;
+        int total = 0;
+        while (true) {
+            final long after = lastId;
+            List<Submission> submissions = transactionTemplate.execute(status -> submissionRepository.findByProgressMissing(after, batchSize));
+            if (submissions == null || submissions.isEmpty()) {
+                break;
+            }
+            lastId = submissions.get(submissions.size() - 1).getId();
+            
+            List<SubmissionProgressUpdate> updates = calculate(submissions);
+            int[] counts = transactionTemplate.execute(status -> submissionRepository.updateProgressAll(updates));
+            for (int count : counts) {
+                total += Math.max(count, 0);
+            }
+        }
+        if (total > 0) {
+            log.info("[SubmissionProgress] backfilled {} submissions", total);
+        }
+        return total;
+    }
+    
+    /**
+     * 행별 진행률 계산 (JSON 파싱 실패 / 포트폴리오 없음 등은 건너뜀)
+     */
+    private List<SubmissionProgressUpdate> calculate(List<Submission> submissions) {
+        List<SubmissionProgressUpdate> updates = new ArrayList<>(submissions.size());
+        for (Submission submission : submissions) {
+            try {
+                SubmissionProgress progress = submissionProgressCalculator.calculate(submission);
+                updates.add(new SubmissionProgressUpdate(submission.getId(), progress.answeredSteps(), progress.totalSteps()));
+            } catch (RuntimeException e) {
+                log.warn("[SubmissionProgress] backfill skipped submissionId={} ({})", submission.getId(), e.getMessage());
+            }
+        }
+        return updates;
+    }
+}
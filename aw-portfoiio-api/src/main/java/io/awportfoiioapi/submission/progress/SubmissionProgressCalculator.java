@@ -0,0 +1,126 @@
+package io.awportfoiioapi.submission.progress;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.awportfoiioapi.file.enums.CommonFileType;
+import io.awportfoiioapi.file.repository.CommonFileRepository;
+import io.awportfoiioapi.portfolio.cache.PortfolioFormCache;
+import io.awportfoiioapi.portfolio.dto.response.PortfoliosGetDetailResponse;
+import io.awportfoiioapi.submission.document.SubmissionDocumentReader;
+import io.awportfoiioapi.submission.entity.Submission;
+import io.awportfoiioapi.submission.storage.SubmissionJsonCodec;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 제출 진행률 계산 (저장 시점에 한 번 계산해서 SUBMISSION 에 보관)
+ * - 단계 = 질문 step, 전체 단계 수 = 포트폴리오 옵션의 step 종류 수 (양식은 PortfolioFormCache)
+ * - 응답한 단계 : 응답한 옵션이 하나 이상 있고, 필수 옵션은 모두 응답한 단계
+ * - 옵션 응답 여부
+ *   - parlor / special / refund : rooms / specials / refunds 가 비어있지 않음
+ *   - file : 첨부 파일 있음 (COMMON_FILE) 또는 JSON 값 있음
+ *   - 그 외 : JSON 의 옵션 id 키 값이 비어있지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class SubmissionProgressCalculator {
+    
+    private static final Map<String, String> FIXED_KEYS = Map.of(
+            "parlor", "rooms",
+            "special", "specials",
+            "refund", "refunds"
+    );
+    
+    private static final String FILE_TYPE = "file";
+    
+    private final PortfolioFormCache portfolioFormCache;
+    private final SubmissionDocumentReader submissionDocumentReader;
+    private final CommonFileRepository commonFileRepository;
+    private final SubmissionJsonCodec submissionJsonCodec;
+    
+    /**
+     * 제출 진행률 (JSON / 첨부 파일 반영 후 호출)
+     * - 파일 옵션이 없는 양식은 파일 조회 생략
+     */
+    public SubmissionProgress calculate(Submission submission) {
+        return calculate(submission.getId(), submission.getPortfolio().getId(), submissionJsonCodec.decode(submission));
+    }
+    
+    public SubmissionProgress calculate(Long submissionId, Long portfolioId, String submissionJson) {
+        List<Long> fileOptionIds = hasFileOptions(portfolioId)
+                ? commonFileRepository.findOptionIdsByFileTarget(submissionId, CommonFileType.SUBMISSION_OPTION)
+                : List.of();
+        return calculate(portfolioId, submissionJson, fileOptionIds);
+    }
+    
+    /**
+     * @param fileOptionIds 첨부 파일이 있는 옵션 id
+     */
+    public SubmissionProgress calculate(Long portfolioId, String submissionJson, Collection<Long> fileOptionIds) {
+        
+        List<PortfoliosGetDetailResponse> options = portfolioFormCache.getOptions(portfolioId);
+        ObjectNode document = submissionDocumentReader.readTree(submissionJson);
+        
+        // step -> [응답한 옵션 있음, 필수 미응답 있음]
+        Map<Integer, boolean[]> steps = new TreeMap<>();
+        for (PortfoliosGetDetailResponse option : options) {
+            if (option.getStep() == null) {
+                continue;
+            }
+            boolean[] state = steps.computeIfAbsent(option.getStep(), step -> new boolean[2]);
+            if (isAnswered(option, document, fileOptionIds)) {
+                state[0] = true;
+            } else if (Boolean.TRUE.equals(option.getIsRequired())) {
+                state[1] = true;
+            }
+        }
+        
+        int answered = 0;
+        for (boolean[] state : steps.values()) {
+            if (state[0] && !state[1]) {
+                answered++;
+            }
+        }
+        return new SubmissionProgress(answered, steps.size());
+    }
+    
+    private boolean hasFileOptions(Long portfolioId) {
+        return portfolioFormCache.getOptions(portfolioId).stream()
+                .anyMatch(option -> FILE_TYPE.equals(option.getQuestionType()));
+    }
+    
+    private boolean isAnswered(PortfoliosGetDetailResponse option, ObjectNode document, Collection<Long> fileOptionIds) {
+        
+        String fixedKey = FIXED_KEYS.get(option.getQuestionType());
+        if (fixedKey != null) {
+            return hasValue(document.get(fixedKey));
+        }
+        if (FILE_TYPE.equals(option.getQuestionType()) && fileOptionIds.contains(option.getId())) {
+            return true;
+        }
+        return hasValue(document.get(String.valueOf(option.getId())));
+    }
+    
+    private static boolean hasValue(JsonNode node) {
+        if (node == null || node.isNull() || node.isMissingNode()) {
+            return false;
+        }
+        if (node.isTextual()) {
+            return !node.asText().isBlank();
+        }
+        if (node.isBoolean()) {
+            return node.asBoolean();
+        }
+        if (node.isContainerNode()) {
+            for (JsonNode child : node) {
+                if (hasValue(child)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return true;
+    }
+}
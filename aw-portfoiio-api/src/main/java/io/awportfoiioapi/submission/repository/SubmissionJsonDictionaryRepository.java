@@ -0,0 +1,11 @@
+package io.awportfoiioapi.submission.repository;
+
+import io.awportfoiioapi.submission.entity.SubmissionJsonDictionary;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface SubmissionJsonDictionaryRepository extends JpaRepository<SubmissionJsonDictionary, Long> {
+    
+    Optional<SubmissionJsonDictionary> findFirstByPortfolioIdOrderByIdDesc(Long portfolioId);
+}
@@ -1,16 +1,37 @@
 package io.awportfoiioapi.submission.repository.impl;
 
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.awportfoiioapi.excel.dto.response.ExcelSubmissionResponse;
+import io.awportfoiioapi.excel.dto.response.QExcelSubmissionResponse;
+import io.awportfoiioapi.portfolio.dto.response.PortfolioSubmissionCountResponse;
+import io.awportfoiioapi.portfolio.dto.response.QPortfolioSubmissionCountResponse;
+import io.awportfoiioapi.submission.dto.request.SubmissionDraftUpdate;
+import io.awportfoiioapi.submission.dto.request.SubmissionJsonCompressUpdate;
+import io.awportfoiioapi.submission.dto.request.SubmissionProgressUpdate;
 import io.awportfoiioapi.submission.dto.response.QSubmissionGetRequest;
+import io.awportfoiioapi.submission.dto.response.QSubmissionJsonRow;
+import io.awportfoiioapi.submission.dto.response.QSubmissionSummaryResponse;
 import io.awportfoiioapi.submission.dto.response.SubmissionGetRequest;
+import io.awportfoiioapi.submission.dto.response.SubmissionJsonRow;
+import io.awportfoiioapi.submission.dto.response.SubmissionSummaryResponse;
 import io.awportfoiioapi.submission.entity.Submission;
+import io.awportfoiioapi.submission.enums.SubmissionJsonEncoding;
 import io.awportfoiioapi.submission.repository.query.SubmissionQueryRepository;
+import io.awportfoiioapi.submission.storage.QStoredSubmissionJson;
+import io.awportfoiioapi.submission.storage.SubmissionJsonCodec;
+import io.awportfoiioapi.submissions.dto.request.SubmissionsCursor;
 import io.awportfoiioapi.submissions.dto.response.QSubmissionsGetRequest;
 import io.awportfoiioapi.submissions.dto.response.QSubmissionsGetRequest_Portfolio;
+import io.awportfoiioapi.submissions.dto.response.QSubmissionsSummaryResponse;
 import io.awportfoiioapi.submissions.dto.response.SubmissionsGetRequest;
+import io.awportfoiioapi.submissions.dto.response.SubmissionsSummaryResponse;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static io.awportfoiioapi.portfolio.entity.QPortfolio.portfolio;
@@ -19,27 +40,59 @@ import static io.awportfoiioapi.submission.entity.QSubmission.submission;
 @RequiredArgsConstructor
 public class SubmissionRepositoryImpl implements SubmissionQueryRepository {
     
+    private static final String UPDATE_DRAFT_JSON_SQL = """
+            UPDATE SUBMISSION
+               SET SUBMISSION_JSON = ?, SUBMISSION_JSON_DATA = NULL, SUBMISSION_JSON_ENCODING = 'PLAIN', SUBMISSION_JSON_DICTIONARY_ID = NULL,
+                   SUBMISSION_ANSWERED_STEPS = ?, SUBMISSION_TOTAL_STEPS = ?,
+                   SUBMISSION_VERSION = ?, MODIFY_DATE = ?
+             WHERE SUBMISSION_ID = ? AND MEMBER_ID = ? AND PORTFOLIO_ID = ? AND SUBMISSION_VERSION = ?
+               AND (SUBMISSION_IS_DRAFT IS NULL OR SUBMISSION_IS_DRAFT = TRUE)
+            """;
+    
+    // 압축은 문서 내용이 그대로라 버전 / 수정일은 바꾸지 않음
+    private static final String UPDATE_COMPRESSED_JSON_SQL = """
+            UPDATE SUBMISSION
+               SET SUBMISSION_JSON = NULL, SUBMISSION_JSON_DATA = ?, SUBMISSION_JSON_ENCODING = ?, SUBMISSION_JSON_DICTIONARY_ID = ?
+             WHERE SUBMISSION_ID = ? AND SUBMISSION_VERSION = ?
+               AND (SUBMISSION_JSON_ENCODING IS NULL OR SUBMISSION_JSON_ENCODING = 'PLAIN')
+            """;
+    
+    // 백필은 저장된 내용을 바꾸지 않으므로 버전 / 수정일 유지 (그 사이 저장으로 진행률이 채워진 행은 건너뜀)
+    private static final String UPDATE_PROGRESS_SQL = """
+            UPDATE SUBMISSION
+               SET SUBMISSION_ANSWERED_STEPS = ?, SUBMISSION_TOTAL_STEPS = ?
+             WHERE SUBMISSION_ID = ? AND SUBMISSION_TOTAL_STEPS IS NULL
+            """;
+    
     private final JPAQueryFactory queryFactory;
     
     private final EntityManager em;
     
+    private final JdbcTemplate jdbcTemplate;
+    
+    private final SubmissionJsonCodec submissionJsonCodec;
+    
     @Override
     public SubmissionGetRequest getSubmission(Long submissionId) {
-        return queryFactory
+        SubmissionGetRequest result = queryFactory
                 .select(
                         new QSubmissionGetRequest(
                                 submission.id,
                                 submission.portfolio.id,
                                 submission.companyName,
                                 submission.isDraft,
-                                submission.submissionJson,
-                                submission.completedDate
+                                storedJson(),
+                                submission.completedDate,
+                                submission.version
                         )
                 )
                 .from(submission)
                 .where(submission.id.eq(submissionId))
                 .fetchFirst();
-        
+        if (result != null) {
+            result.getStoredJson().decodeWith(submissionJsonCodec);
+        }
+        return result;
     }
     
     @Override
@@ -53,6 +106,63 @@ public class SubmissionRepositoryImpl implements SubmissionQueryRepository {
                 .fetch();
     }
     
+    /**
+     * 내 제출 목록 (응답 JSON 제외, 포트폴리오 join 한 번)
+     */
+    @Override
+    public List<SubmissionSummaryResponse> findBySubmissionSummaries(Long memberId) {
+        return queryFactory
+                .select(
+                        new QSubmissionSummaryResponse(
+                                submission.id,
+                                submission.portfolio.id,
+                                submission.companyName,
+                                submission.isDraft,
+                                submission.completedDate,
+                                submission.modifyDate,
+                                submission.answeredSteps,
+                                submission.totalSteps,
+                                portfolio.title,
+                                portfolio.slug
+                        )
+                )
+                .from(submission)
+                .join(submission.portfolio, portfolio)
+                .where(submission.member.id.eq(memberId))
+                .orderBy(submission.registDate.desc())
+                .fetch();
+    }
+    
+    /**
+     * 진행률 백필 대상 (SUBMISSION_ID 기준 keyset)
+     */
+    @Override
+    public List<Submission> findByProgressMissing(Long lastSubmissionId, int size) {
+        return queryFactory
+                .selectFrom(submission)
+                .where(
+                        submission.totalSteps.isNull(),
+                        submission.id.gt(lastSubmissionId)
+                )
+                .orderBy(submission.id.asc())
+                .limit(size)
+                .fetch();
+    }
+    
+    @Override
+    public Long findByDraftVersion(Long submissionId, Long memberId, Long portfolioId) {
+        return queryFactory
+                .select(submission.version)
+                .from(submission)
+                .where(
+                        submission.id.eq(submissionId),
+                        submission.member.id.eq(memberId),
+                        submission.portfolio.id.eq(portfolioId),
+                        submission.isDraft.isNull().or(submission.isDraft.isTrue())
+                )
+                .fetchFirst();
+    }
+    
     @Override
     public List<Long> findBySubmissionIds(Long id) {
         return queryFactory
@@ -62,6 +172,25 @@ public class SubmissionRepositoryImpl implements SubmissionQueryRepository {
                 .fetch();
     }
     
+    /**
+     * 회원의 포트폴리오별 제출완료 수 (회원 삭제 시 카운터 차감용)
+     */
+    @Override
+    public List<PortfolioSubmissionCountResponse> findByMemberSubmissionCount(Long memberId) {
+        return queryFactory
+                .select(new QPortfolioSubmissionCountResponse(
+                        submission.portfolio.id,
+                        submission.count()
+                ))
+                .from(submission)
+                .where(
+                        submission.member.id.eq(memberId),
+                        submission.isDraft.eq(false)
+                )
+                .groupBy(submission.portfolio.id)
+                .fetch();
+    }
+    
     @Override
     public void deleteByMemberSubmissions(Long id) {
         em.flush();
@@ -81,13 +210,13 @@ public class SubmissionRepositoryImpl implements SubmissionQueryRepository {
     
     @Override
     public List<SubmissionsGetRequest> findByAdminSubmissions() {
-        return queryFactory
+        List<SubmissionsGetRequest> result = queryFactory
                 .select(
                         new QSubmissionsGetRequest(
                                 submission.id,
                                 submission.portfolio.id,
                                 submission.companyName,
-                                submission.submissionJson,
+                                storedJson(),
                                 submission.isDraft,
                                 submission.completedDate,
                                 submission.modifyDate,
@@ -101,5 +230,234 @@ public class SubmissionRepositoryImpl implements SubmissionQueryRepository {
                 .join(submission.portfolio, portfolio)
                 .orderBy(submission.completedDate.desc() , submission.registDate.desc())
                 .fetch();
+        result.forEach(row -> row.getStoredJson().decodeWith(submissionJsonCodec));
+        return result;
+    }
+    
+    /**
+     * 관리자 제출 목록 (응답 JSON 제외)
+     * - 제출완료일 desc, id desc 기준 keyset 페이징 (cursor 이후만 조회)
+     * - 제출완료일 NULL(임시저장)은 desc 정렬에서 맨 뒤 (MySQL : NULL 이 가장 작은 값)
+     * - from / to : 제출완료일 기준 [from, to)
+     */
+    @Override
+    public List<SubmissionsSummaryResponse> findByAdminSubmissionSummaries(Long portfolioId, Boolean isDraft, LocalDateTime from, LocalDateTime to, SubmissionsCursor cursor, int limit) {
+        return queryFactory
+                .select(
+                        new QSubmissionsSummaryResponse(
+                                submission.id,
+                                submission.portfolio.id,
+                                submission.companyName,
+                                submission.isDraft,
+                                submission.completedDate,
+                                submission.modifyDate,
+                                new QSubmissionsGetRequest_Portfolio(
+                                        portfolio.title,
+                                        portfolio.slug
+                                )
+                        )
+                )
+                .from(submission)
+                .join(submission.portfolio, portfolio)
+                .where(
+                        wherePortfolioId(portfolioId),
+                        whereIsDraft(isDraft),
+                        whereCompletedFrom(from),
+                        whereCompletedTo(to),
+                        whereAfterCursor(cursor)
+                )
+                .orderBy(submission.completedDate.desc(), submission.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+    
+    /**
+     * 엑셀 일괄 다운로드용 제출완료 목록
+     * - SUBMISSION_ID 기준 keyset 페이징 (offset 없이 lastSubmissionId 이후만 조회)
+     */
+    @Override
+    public List<ExcelSubmissionResponse> findByExcelSubmissions(Long portfolioId, Long lastSubmissionId, int size) {
+        List<ExcelSubmissionResponse> result = queryFactory
+                .select(
+                        new QExcelSubmissionResponse(
+                                submission.id,
+                                submission.companyName,
+                                storedJson(),
+                                submission.completedDate
+                        )
+                )
+                .from(submission)
+                .where(
+                        submission.portfolio.id.eq(portfolioId),
+                        submission.isDraft.eq(false),
+                        submission.id.gt(lastSubmissionId)
+                )
+                .orderBy(submission.id.asc())
+                .limit(size)
+                .fetch();
+        result.forEach(row -> row.getStoredJson().decodeWith(submissionJsonCodec));
+        return result;
+    }
+    
+    /**
+     * 엑셀 일괄 다운로드용 제출완료 건수 (진행률 표시)
+     */
+    @Override
+    public Long findByExcelSubmissionCount(Long portfolioId) {
+        Long count = queryFactory
+                .select(submission.count())
+                .from(submission)
+                .where(
+                        submission.portfolio.id.eq(portfolioId),
+                        submission.isDraft.eq(false)
+                )
+                .fetchOne();
+        return count == null ? 0L : count;
+    }
+    
+    /**
+     * 압축 대상 원문 행 (마지막 수정이 modifiedBefore 이전, SUBMISSION_ID 기준 keyset)
+     */
+    @Override
+    public List<SubmissionJsonRow> findByJsonToCompress(Long lastSubmissionId, LocalDateTime modifiedBefore, int size) {
+        return queryFactory
+                .select(
+                        new QSubmissionJsonRow(
+                                submission.id,
+                                submission.portfolio.id,
+                                submission.version,
+                                submission.submissionJson
+                        )
+                )
+                .from(submission)
+                .where(
+                        submission.id.gt(lastSubmissionId),
+                        submission.jsonEncoding.isNull().or(submission.jsonEncoding.eq(SubmissionJsonEncoding.PLAIN)),
+                        submission.submissionJson.isNotNull(),
+                        submission.modifyDate.lt(modifiedBefore)
+                )
+                .orderBy(submission.id.asc())
+                .limit(size)
+                .fetch();
+    }
+    
+    /**
+     * 사전 학습용 표본 (포트폴리오의 최근 원문 JSON)
+     */
+    @Override
+    public List<String> findBySampleJson(Long portfolioId, int size) {
+        return queryFactory
+                .select(submission.submissionJson)
+                .from(submission)
+                .where(
+                        submission.portfolio.id.eq(portfolioId),
+                        submission.submissionJson.isNotNull()
+                )
+                .orderBy(submission.id.desc())
+                .limit(size)
+                .fetch();
+    }
+    
+    @Override
+    public int[] updateCompressedJsonAll(List<SubmissionJsonCompressUpdate> updates) {
+        if (updates.isEmpty()) {
+            return new int[0];
+        }
+        return jdbcTemplate.batchUpdate(UPDATE_COMPRESSED_JSON_SQL, updates, updates.size(), (ps, update) -> {
+            ps.setBytes(1, update.data());
+            ps.setString(2, update.encoding().name());
+            ps.setObject(3, update.dictionaryId());
+            ps.setLong(4, update.submissionId());
+            ps.setLong(5, update.version());
+        })[0];
+    }
+    
+    @Override
+    public int[] updateDraftJsonAll(List<SubmissionDraftUpdate> updates) {
+        if (updates.isEmpty()) {
+            return new int[0];
+        }
+        return jdbcTemplate.batchUpdate(UPDATE_DRAFT_JSON_SQL, updates, updates.size(), (ps, update) -> {
+            ps.setString(1, update.submissionJson());
+            ps.setInt(2, update.answeredSteps());
+            ps.setInt(3, update.totalSteps());
+            ps.setLong(4, update.baseVersion() + 1);
+            ps.setTimestamp(5, Timestamp.valueOf(update.savedAt()));
+            ps.setLong(6, update.submissionId());
+            ps.setLong(7, update.memberId());
+            ps.setLong(8, update.portfolioId());
+            ps.setLong(9, update.baseVersion());
+        })[0];
+    }
+    
+    @Override
+    public int[] updateProgressAll(List<SubmissionProgressUpdate> updates) {
+        if (updates.isEmpty()) {
+            return new int[0];
+        }
+        return jdbcTemplate.batchUpdate(UPDATE_PROGRESS_SQL, updates, updates.size(), (ps, update) -> {
+            ps.setInt(1, update.answeredSteps());
+            ps.setInt(2, update.totalSteps());
+            ps.setLong(3, update.submissionId());
+        })[0];
+    }
+    
+    private static QStoredSubmissionJson storedJson() {
+        return new QStoredSubmissionJson(
+                submission.submissionJson,
+                submission.jsonData,
+                submission.jsonEncoding,
+                submission.jsonDictionaryId
+        );
+    }
+    
+    private BooleanExpression wherePortfolioId(Long portfolioId) {
+        if (portfolioId == null) {
+            return null;
+        }
+        return submission.portfolio.id.eq(portfolioId);
+    }
+    
+    /**
+     * 임시저장 여부 (IS_DRAFT 가 NULL 인 예전 행은 임시저장으로 취급)
+     */
+    private BooleanExpression whereIsDraft(Boolean isDraft) {
+        if (isDraft == null) {
+            return null;
+        }
+        if (isDraft) {
+            return submission.isDraft.isNull().or(submission.isDraft.eq(true));
+        }
+        return submission.isDraft.eq(false);
+    }
+    
+    private BooleanExpression whereCompletedFrom(LocalDateTime from) {
+        if (from == null) {
+            return null;
+        }
+        return submission.completedDate.goe(from);
+    }
+    
+    private BooleanExpression whereCompletedTo(LocalDateTime to) {
+        if (to == null) {
+            return null;
+        }
+        return submission.completedDate.lt(to);
+    }
+    
+    /**
+     * (제출완료일, id) 가 cursor 보다 뒤인 행
+     * - cursor 가 임시저장 구간(제출완료일 NULL)이면 NULL 행 중 id 만 비교
+     */
+    private BooleanExpression whereAfterCursor(SubmissionsCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        if (cursor.completedDate() == null) {
+            return submission.completedDate.isNull().and(submission.id.lt(cursor.id()));
+        }
+        return submission.completedDate.lt(cursor.completedDate())
+                .or(submission.completedDate.eq(cursor.completedDate()).and(submission.id.lt(cursor.id())))
+                .or(submission.completedDate.isNull());
     }
 }
@@ -1,9 +1,19 @@
 package io.awportfoiioapi.submission.repository.query;
 
+import io.awportfoiioapi.excel.dto.response.ExcelSubmissionResponse;
+import io.awportfoiioapi.portfolio.dto.response.PortfolioSubmissionCountResponse;
+import io.awportfoiioapi.submission.dto.request.SubmissionDraftUpdate;
+import io.awportfoiioapi.submission.dto.request.SubmissionJsonCompressUpdate;
+import io.awportfoiioapi.submission.dto.request.SubmissionProgressUpdate;
 import io.awportfoiioapi.submission.dto.response.SubmissionGetRequest;
+import io.awportfoiioapi.submission.dto.response.SubmissionJsonRow;
+import io.awportfoiioapi.submission.dto.response.SubmissionSummaryResponse;
 import io.awportfoiioapi.submission.entity.Submission;
+import io.awportfoiioapi.submissions.dto.request.SubmissionsCursor;
 import io.awportfoiioapi.submissions.dto.response.SubmissionsGetRequest;
+import io.awportfoiioapi.submissions.dto.response.SubmissionsSummaryResponse;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface SubmissionQueryRepository {
@@ -11,11 +21,54 @@ public interface SubmissionQueryRepository {
     
     List<Submission> findBySubmissions(Long memberId);
     
+    List<SubmissionSummaryResponse> findBySubmissionSummaries(Long memberId);
+    
+    /**
+     * 진행률이 계산되지 않은 제출 (id, portfolioId, JSON) - 백필용
+     */
+    List<Submission> findByProgressMissing(Long lastSubmissionId, int size);
+    
+    /**
+     * 진행률 백필 저장 (JDBC, 진행률이 없는 행만, 버전은 그대로)
+     * @return 행별 갱신 건수
+     */
+    int[] updateProgressAll(List<SubmissionProgressUpdate> updates);
+    
     List<Long> findBySubmissionIds(Long id);
     
+    List<PortfolioSubmissionCountResponse> findByMemberSubmissionCount(Long memberId);
+    
     void deleteByMemberSubmissions(Long id);
     void deleteBySubmissions(Long id);
     
     List<SubmissionsGetRequest> findByAdminSubmissions();
     
+    List<SubmissionsSummaryResponse> findByAdminSubmissionSummaries(Long portfolioId, Boolean isDraft, LocalDateTime from, LocalDateTime to, SubmissionsCursor cursor, int limit);
+    
+    List<ExcelSubmissionResponse> findByExcelSubmissions(Long portfolioId, Long lastSubmissionId, int size);
+    
+    Long findByExcelSubmissionCount(Long portfolioId);
+    
+    /**
+     * 임시저장 중인 제출의 현재 버전 (회원 / 포트폴리오가 맞지 않거나 제출 완료면 null)
+     */
+    Long findByDraftVersion(Long submissionId, Long memberId, Long portfolioId);
+    
+    /**
+     * 임시저장 JSON 배치 UPDATE (JDBC, 영속성 컨텍스트 거치지 않음)
+     * - 기준 버전이 그대로이고 아직 임시저장인 행만, 버전은 기준 버전 + 1
+     * @return 행별 갱신 건수 (0 이면 없는 제출 / 다른 회원 / 그 사이 수정 또는 제출 완료)
+     */
+    int[] updateDraftJsonAll(List<SubmissionDraftUpdate> updates);
+    
+    List<SubmissionJsonRow> findByJsonToCompress(Long lastSubmissionId, LocalDateTime modifiedBefore, int size);
+    
+    List<String> findBySampleJson(Long portfolioId, int size);
+    
+    /**
+     * 제출 JSON 압축 저장 (JDBC, 버전이 읽을 때와 같은 원문 행만)
+     * @return 행별 갱신 건수
+     */
+    int[] updateCompressedJsonAll(List<SubmissionJsonCompressUpdate> updates);
+    
 }
@@ -1,10 +1,12 @@
 package io.awportfoiioapi.submission.service;
 
 import io.awportfoiioapi.apiresponse.ApiResponse;
+import io.awportfoiioapi.submission.dto.request.SubmissionDraftPatchRequest;
 import io.awportfoiioapi.submission.dto.request.SubmissionPostDraftRequest;
 import io.awportfoiioapi.submission.dto.request.SubmissionPostRequest;
 import io.awportfoiioapi.submission.dto.response.SubmissionGetListRequest;
 import io.awportfoiioapi.submission.dto.response.SubmissionGetRequest;
+import io.awportfoiioapi.submission.dto.response.SubmissionSummaryResponse;
 
 import java.util.List;
 
@@ -12,9 +14,13 @@ public interface SubmissionService {
     
     List<SubmissionGetListRequest> getSubmissionsList(Long memberId);
     
+    List<SubmissionSummaryResponse> getSubmissionSummaries(Long memberId); //응답 JSON 제외 목록
+    
     SubmissionGetRequest getSubmissions(Long submissionId);
     
     ApiResponse createSubmission(SubmissionPostRequest request);
     
     ApiResponse temporaryStorage(SubmissionPostDraftRequest request); //임시저장
+    
+    ApiResponse patchDraft(Long submissionId, SubmissionDraftPatchRequest request); //임시저장 (변경분만)
 }
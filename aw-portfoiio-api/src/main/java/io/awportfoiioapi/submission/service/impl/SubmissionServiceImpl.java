@@ -1,29 +1,45 @@
 package io.awportfoiioapi.submission.service.impl;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.awportfoiioapi.advice.exception.SubmissionPatchException;
+import io.awportfoiioapi.advice.exception.SubmissionVersionConflictException;
 import io.awportfoiioapi.apiresponse.ApiResponse;
+import io.awportfoiioapi.counter.service.CounterService;
 import io.awportfoiioapi.file.entity.CommonFile;
 import io.awportfoiioapi.file.enums.CommonFileType;
 import io.awportfoiioapi.file.repository.CommonFileRepository;
+import io.awportfoiioapi.file.service.FileUploadService;
 import io.awportfoiioapi.member.entrity.Member;
 import io.awportfoiioapi.member.repository.MemberRepository;
+import io.awportfoiioapi.outbox.service.FileOutboxService;
 import io.awportfoiioapi.portfolio.entity.Portfolio;
 import io.awportfoiioapi.portfolio.repository.PortfolioRepository;
+import io.awportfoiioapi.submission.dto.request.SubmissionDraftPatchRequest;
 import io.awportfoiioapi.submission.dto.request.SubmissionPostDraftRequest;
 import io.awportfoiioapi.submission.dto.request.SubmissionPostRequest;
 import io.awportfoiioapi.submission.dto.request.SubmissionPutRequest;
 import io.awportfoiioapi.submission.dto.response.SubmissionGetListRequest;
 import io.awportfoiioapi.submission.dto.response.SubmissionGetRequest;
+import io.awportfoiioapi.submission.dto.response.SubmissionSummaryResponse;
+import io.awportfoiioapi.submission.buffer.SubmissionDraftBuffer;
+import io.awportfoiioapi.submission.document.SubmissionDocumentReader;
 import io.awportfoiioapi.submission.entity.Submission;
+import io.awportfoiioapi.submission.patch.JsonMergePatch;
+import io.awportfoiioapi.submission.patch.JsonPatch;
+import io.awportfoiioapi.submission.progress.SubmissionProgress;
+import io.awportfoiioapi.submission.progress.SubmissionProgressCalculator;
 import io.awportfoiioapi.submission.repository.SubmissionRepository;
 import io.awportfoiioapi.submission.service.SubmissionService;
+import io.awportfoiioapi.submission.storage.SubmissionJsonCodec;
 import io.awportfoiioapi.utils.S3FileUtils;
 import io.awportfoiioapi.utils.UploadResult;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -41,7 +57,13 @@ public class SubmissionServiceImpl implements SubmissionService {
     private final MemberRepository memberRepository;
     private final CommonFileRepository commonFileRepository;
     private final S3FileUtils s3FileUtils;
-    private final ObjectMapper objectMapper;
+    private final FileOutboxService fileOutboxService;
+    private final FileUploadService fileUploadService;
+    private final SubmissionDocumentReader submissionDocumentReader;
+    private final CounterService counterService;
+    private final SubmissionProgressCalculator submissionProgressCalculator;
+    private final SubmissionDraftBuffer submissionDraftBuffer;
+    private final SubmissionJsonCodec submissionJsonCodec;
     
     
     @Override
@@ -50,12 +72,15 @@ public class SubmissionServiceImpl implements SubmissionService {
         
         Member findMember = memberRepository.findById(memberId).orElseThrow(() -> new RuntimeException("존재하지 않는 회원입니다."));
         
+        // 버퍼에만 있는 임시저장 먼저 반영
+        submissionDraftBuffer.flushMember(findMember.getId());
+        
         List<Submission> submissions = submissionRepository.findBySubmissions(findMember.getId());
         
         List<SubmissionGetListRequest> collect = submissions
                 .stream()
                 .map(item -> {
-                    SubmissionGetListRequest submissionGetListRequest = new SubmissionGetListRequest(item.getId(), item.getPortfolio().getId(), item.getCompanyName(), item.getSubmissionJson(), item.getIsDraft(), item.getCompletedDate(), item.getModifyDate());
+                    SubmissionGetListRequest submissionGetListRequest = new SubmissionGetListRequest(item.getId(), item.getPortfolio().getId(), item.getCompanyName(), submissionJsonCodec.decode(item), item.getIsDraft(), item.getCompletedDate(), item.getModifyDate());
                     Portfolio portfolio = item.getPortfolio();
                     if (portfolio != null) {
                         submissionGetListRequest.setPortfolio(new SubmissionGetListRequest.Portfolio(portfolio.getTitle(), portfolio.getSlug()));
@@ -67,10 +92,26 @@ public class SubmissionServiceImpl implements SubmissionService {
         return collect;
     }
     
+    /**
+     * 버퍼의 임시저장을 먼저 저장하므로 읽기 전용 트랜잭션 아님
+     */
+    @Override
+    public List<SubmissionSummaryResponse> getSubmissionSummaries(Long memberId) {
+        
+        Member findMember = memberRepository.findById(memberId).orElseThrow(() -> new RuntimeException("존재하지 않는 회원입니다."));
+        
+        // 버퍼에만 있는 임시저장(JSON / 진행률) 먼저 반영
+        submissionDraftBuffer.flushMember(findMember.getId());
+        
+        return submissionRepository.findBySubmissionSummaries(findMember.getId());
+    }
+    
     @Override
     public SubmissionGetRequest getSubmissions(Long submissionId) {
         
-       
+        // 버퍼에만 있는 임시저장 먼저 반영
+        submissionDraftBuffer.flush(submissionId);
+        
         SubmissionGetRequest submission =
                 submissionRepository.getSubmission(submissionId);
     
@@ -81,81 +122,90 @@ public class SubmissionServiceImpl implements SubmissionService {
                         CommonFileType.SUBMISSION_OPTION
                 );
     
-        try {
+        // 파일 presigned 일괄 변환
+        Map<String, String> presignedMap = s3FileUtils.createPresignedUrlsFromUrls(
+                fileList.stream().map(CommonFile::getFileUrl).toList()
+        );
     
-            // 기존 JSON → Map
-            Map<String, Object> responseMap =
-                    objectMapper.readValue(
-                            submission.getSubmissionJson(),
-                            new TypeReference<Map<String, Object>>() {}
-                    );
+        // 기존 JSON → 트리 (모르는 키는 그대로 유지)
+        ObjectNode responseNode = submissionDocumentReader.readTree(submission.getSubmissionJson());
     
-            /*
-             * ================================
-             * 1) 기존 파일 키(optionId) 제거
-             * ================================
-             */
-            for (CommonFile file : fileList) {
-                String optionKey = String.valueOf(file.getOptionsId());
-                responseMap.remove(optionKey);
-            }
-    
-            /*
-             * ================================
-             * 2) DB 기준으로 다시 생성
-             * ================================
-             */
-            for (CommonFile file : fileList) {
+        /*
+         * ================================
+         * 1) 기존 파일 키(optionId) 제거
+         * ================================
+         */
+        for (CommonFile file : fileList) {
+            responseNode.remove(String.valueOf(file.getOptionsId()));
+        }
     
-                // presigned URL 생성
-                String key = s3FileUtils.getFileNameFromUrl(file.getFileUrl());
-                String presignedUrl = s3FileUtils.createPresignedUrl(key);
+        /*
+         * ================================
+         * 2) DB 기준으로 다시 생성
+         * ================================
+         */
+        for (CommonFile file : fileList) {
     
-                // 파일 노드 구성
-                Map<String, Object> fileNode = new LinkedHashMap<>();
-                fileNode.put("type", "file");
-                fileNode.put("fileId", file.getId());
-                fileNode.put("url", presignedUrl);
-                fileNode.put("name", file.getFileName());
-                fileNode.put("step", file.getQuestionStep());
-                fileNode.put("order", file.getQuestionOrder());
+            // presigned URL
+            String presignedUrl = presignedMap.get(file.getFileUrl());
     
-                String optionKey = String.valueOf(file.getOptionsId());
+            String optionKey = String.valueOf(file.getOptionsId());
     
-                // 항상 배열로
-                List<Object> list;
+            // 항상 배열로
+            ArrayNode list;
     
-                Object exist = responseMap.get(optionKey);
+            JsonNode exist = responseNode.get(optionKey);
     
-                if (exist == null) {
-                    list = new ArrayList<>();
-                } else if (exist instanceof List<?>) {
-                    list = (List<Object>) exist;
-                } else {
-                    list = new ArrayList<>();
+            if (exist instanceof ArrayNode existList) {
+                list = existList;
+            } else {
+                list = responseNode.arrayNode();
+                if (exist != null) {
                     list.add(exist);
                 }
-    
-                list.add(fileNode);
-    
-                responseMap.put(optionKey, list);
+                responseNode.set(optionKey, list);
             }
     
-            // JSON 문자열로 다시 세팅
-            submission.setSubmissionJson(
-                    objectMapper.writeValueAsString(responseMap)
-            );
-    
-        } catch (Exception e) {
-            throw new RuntimeException("submission json merge error", e);
+            // 파일 노드 구성
+            list.addObject()
+                    .put("type", "file")
+                    .put("fileId", file.getId())
+                    .put("url", presignedUrl)
+                    .put("name", file.getFileName())
+                    .put("step", file.getQuestionStep())
+                    .put("order", file.getQuestionOrder());
         }
     
+        // JSON 문자열로 다시 세팅
+        submission.setSubmissionJson(submissionDocumentReader.write(responseNode));
+    
         return submission;
     }
     
+    /**
+     * 제출
+     * - 첨부 파일은 트랜잭션 밖에서 먼저 업로드하고 DB 작업만 짧은 트랜잭션으로 (실패하면 올라간 파일 정리)
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ApiResponse createSubmission(SubmissionPostRequest request) {
         
+        List<PendingFile> pendingFiles = new ArrayList<>();
+        if (request.getOptionFiles() != null) {
+            for (SubmissionPostRequest.OptionFileRequest optionFile : request.getOptionFiles()) {
+                addPendingFiles(pendingFiles, optionFile.getOptionsId(), optionFile.getQuestionStep(), optionFile.getQuestionOrder(), optionFile.getFiles());
+            }
+        }
+        
+        return fileUploadService.uploadThenSave(
+                pendingFiles.stream().map(PendingFile::file).toList(),
+                "submission",
+                uploads -> saveSubmission(request, pendingFiles, uploads)
+        );
+    }
+    
+    private ApiResponse saveSubmission(SubmissionPostRequest request, List<PendingFile> pendingFiles, List<UploadResult> uploads) {
+        
         Long memberId = request.getMemberId();
         Long submissionId = request.getSubmissionId();
         Long portfolioId = request.getPortfolioId();
@@ -167,7 +217,8 @@ public class SubmissionServiceImpl implements SubmissionService {
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new RuntimeException("존재하지 않는 회원입니다."));
         
-        // 2. submission 조회
+        // 2. submission 조회 (버퍼에 남은 임시저장 먼저 반영)
+        submissionDraftBuffer.flush(submissionId);
         Submission submission = Optional.ofNullable(submissionId)
                 .flatMap(submissionRepository::findById)
                 .orElse(null);
@@ -185,9 +236,17 @@ public class SubmissionServiceImpl implements SubmissionService {
                             .completedDate(LocalDateTime.now())
                             .build()
             );
+            counterService.addSubmissions(portfolioId, 1);
         } else {
+            // 임시저장 -> 제출완료로 바뀌는 경우에만 제출 수 증가
+            boolean wasDraft = !Boolean.FALSE.equals(submission.getIsDraft());
+            
             // JSON 수정 + 완료처리
             submission.modifySubmission(request);
+            
+            if (wasDraft) {
+                counterService.addSubmissions(submission.getPortfolio().getId(), 1);
+            }
         }
         
         /**
@@ -195,6 +254,7 @@ public class SubmissionServiceImpl implements SubmissionService {
          * -> 다른 질문 파일 삭제되는 문제 방지
          */
         if (request.getOptionFiles() == null || request.getOptionFiles().isEmpty()) {
+            updateProgress(submission);
             return new ApiResponse(200, true, "제출이 완료되었습니다.", submission.getId());
         }
         
@@ -214,45 +274,51 @@ public class SubmissionServiceImpl implements SubmissionService {
         // 매칭되는 파일 전체 삭제
         for (CommonFile file : existingFiles) {
             if (deleteFileIds.contains(file.getId())) {
-                s3FileUtils.deleteFile(file.getFileUrl());
+                fileOutboxService.deleteLater(file.getFileUrl());
                 commonFileRepository.delete(file);
             }
         }
         
         /**
-         * 신규 업로드 처리 (해당 optionId 내부)
+         * 신규 업로드 파일 기록 (해당 optionId 내부)
          */
-        for (SubmissionPostRequest.OptionFileRequest optionFile : request.getOptionFiles()) {
-            
-            Long optionId = optionFile.getOptionsId();
-            List<MultipartFile> files = optionFile.getFiles();
-            
-            if (files == null || files.isEmpty()) continue;
-            
-            for (MultipartFile file : files) {
-                
-                UploadResult upload = s3FileUtils.storeFile(file, "submission");
-                
-                CommonFile commonFile = CommonFile.builder()
-                        .fileTargetId(submission.getId())
-                        .optionsId(optionId)
-                        .questionStep(optionFile.getQuestionStep())
-                        .questionOrder(optionFile.getQuestionOrder())
-                        .fileName(upload.originalFilename())
-                        .fileUuidName(upload.uuid())
-                        .fileType(CommonFileType.SUBMISSION_OPTION)
-                        .fileUrl(upload.url())
-                        .build();
-                
-                commonFileRepository.save(commonFile);
-            }
-        }
+        storeOptionFiles(submission.getId(), pendingFiles, uploads);
+        updateProgress(submission);
         
         return new ApiResponse(200, true, "제출이 완료되었습니다.", submission.getId());
     }
     
+    /**
+     * 임시저장
+     * - 첨부 파일은 트랜잭션 밖에서 먼저 업로드하고 DB 작업만 짧은 트랜잭션으로 (실패하면 올라간 파일 정리)
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ApiResponse temporaryStorage(SubmissionPostDraftRequest request) {
+        
+        // JSON 만 바뀐 기존 임시저장은 버퍼에 모아서 나중에 한 번에 저장 (submission.draft-buffer.enabled)
+        // - 버전은 버퍼 내용이 저장된 뒤의 값 (연속 임시저장은 한 번에 저장되므로 같은 버전)
+        Long bufferedVersion = submissionDraftBuffer.offer(request);
+        if (bufferedVersion != null) {
+            return new ApiResponse(200, true, "임시저장 되었습니다.", request.getSubmissionId(), bufferedVersion);
+        }
+        
+        List<PendingFile> pendingFiles = new ArrayList<>();
+        if (request.getOptionFiles() != null) {
+            for (SubmissionPostDraftRequest.OptionFileRequest optionFile : request.getOptionFiles()) {
+                addPendingFiles(pendingFiles, optionFile.getOptionsId(), optionFile.getQuestionStep(), optionFile.getQuestionOrder(), optionFile.getFiles());
+            }
+        }
+        
+        return fileUploadService.uploadThenSave(
+                pendingFiles.stream().map(PendingFile::file).toList(),
+                "submission",
+                uploads -> saveDraft(request, pendingFiles, uploads)
+        );
+    }
+    
+    private ApiResponse saveDraft(SubmissionPostDraftRequest request, List<PendingFile> pendingFiles, List<UploadResult> uploads) {
+        
         // 1. 파라미터 추출
         Long memberId = request.getMemberId();
         Long submissionId = request.getSubmissionId();
@@ -265,7 +331,8 @@ public class SubmissionServiceImpl implements SubmissionService {
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new RuntimeException("존재하지 않는 회원입니다."));
         
-        // 3. submission 조회
+        // 3. submission 조회 (버퍼에 남은 임시저장 먼저 반영)
+        submissionDraftBuffer.flush(submissionId);
         Submission submission = Optional.ofNullable(submissionId)
                 .flatMap(submissionRepository::findById)
                 .orElse(null);
@@ -291,25 +358,24 @@ public class SubmissionServiceImpl implements SubmissionService {
          *  - 다른 질문 영역 파일 삭제 방지
          */
         if (request.getOptionFiles() == null || request.getOptionFiles().isEmpty()) {
-            return new ApiResponse(200, true, "임시저장 되었습니다.", submission.getId());
+            updateProgress(submission);
+            return draftSaved(submission);
         }
         
-        request.getOptionFiles()
+        // 삭제 명시된 파일만 한 번에 조회해서 처리
+        List<Long> requestDeleteIds = request.getOptionFiles()
             .stream()
-            .filter(item -> item.getDeleteFileId() != null)   // 삭제 명시된 것만 처리
-            .forEach(item -> {
-        
-                Long deleteFileId = item.getDeleteFileId();
-        
-                CommonFile byDeleteFile =
-                        commonFileRepository.findById(deleteFileId)
-                            .orElse(null);
-        
-                if (byDeleteFile == null) return;
-        
-                s3FileUtils.deleteFile(byDeleteFile.getFileUrl());
+            .map(SubmissionPostDraftRequest.OptionFileRequest::getDeleteFileId)
+            .filter(Objects::nonNull)
+            .distinct()
+            .toList();
+        
+        if (!requestDeleteIds.isEmpty()) {
+            for (CommonFile byDeleteFile : commonFileRepository.findAllById(requestDeleteIds)) {
+                fileOutboxService.deleteLater(byDeleteFile.getFileUrl());
                 commonFileRepository.delete(byDeleteFile);
-            });
+            }
+        }
         
         
         /**
@@ -334,40 +400,110 @@ public class SubmissionServiceImpl implements SubmissionService {
         // 매칭되는 파일 전체 삭제
         for (CommonFile file : existingFiles) {
             if (deleteFileIds.contains(file.getId())) {
-                s3FileUtils.deleteFile(file.getFileUrl());
+                fileOutboxService.deleteLater(file.getFileUrl());
                 commonFileRepository.delete(file);
             }
         }
         /**
-         * 9. 신규 업로드 처리
+         * 9. 신규 업로드 파일 기록
          *  - 요청 optionId 범위 안에서만 새 파일 추가
          */
-        for (SubmissionPostDraftRequest.OptionFileRequest optionFile : request.getOptionFiles()) {
-            
-            Long optionId = optionFile.getOptionsId();
-            List<MultipartFile> files = optionFile.getFiles();
-            
-            if (files == null || files.isEmpty()) continue;
-            
-            for (MultipartFile file : files) {
-                
-                UploadResult upload = s3FileUtils.storeFile(file, "submission");
-                
-                CommonFile commonFile = CommonFile.builder()
-                        .fileTargetId(submission.getId())
-                        .optionsId(optionId)
-                        .questionStep(optionFile.getQuestionStep())
-                        .questionOrder(optionFile.getQuestionOrder())
-                        .fileName(upload.originalFilename())
-                        .fileUuidName(upload.uuid())
-                        .fileType(CommonFileType.SUBMISSION_OPTION)
-                        .fileUrl(upload.url())
-                        .build();
-                
-                commonFileRepository.save(commonFile);
+        storeOptionFiles(submission.getId(), pendingFiles, uploads);
+        updateProgress(submission);
+        
+        return draftSaved(submission);
+    }
+    
+    /**
+     * 임시저장 변경분 적용 (JSON Patch / Merge Patch)
+     * - 요청 version 이 현재 버전과 다르면 409 (최신 응답 다시 조회 후 재시도)
+     * - 동시에 저장되면 flush 시 @Version 검사에서 409
+     * - 적용 결과가 기존과 같으면 UPDATE 없음 (버전 유지)
+     */
+    @Override
+    public ApiResponse patchDraft(Long submissionId, SubmissionDraftPatchRequest request) {
+        
+        submissionDraftBuffer.flush(submissionId);
+        Submission submission = submissionRepository.findById(submissionId)
+                .filter(item -> item.getMember() != null && item.getMember().getId().equals(request.getMemberId()))
+                .orElseThrow(() -> new RuntimeException("존재하지 않는 제출입니다."));
+        
+        if (!Objects.equals(submission.getVersion(), request.getVersion())) {
+            throw new SubmissionVersionConflictException("다른 곳에서 먼저 저장되었습니다. 최신 내용을 다시 불러와 주세요.");
+        }
+        
+        ObjectNode document = submissionDocumentReader.readTree(submissionJsonCodec.decode(submission));
+        JsonNode patched = switch (request.getType()) {
+            case JSON_PATCH -> JsonPatch.apply(document, request.getPatch());
+            case MERGE_PATCH -> JsonMergePatch.apply(document, request.getPatch());
+        };
+        if (patched == null || !patched.isObject()) {
+            throw new SubmissionPatchException("패치 결과가 JSON 객체가 아닙니다.");
+        }
+        
+        if (!patched.equals(document)) {
+            submission.modifyPatchedJson(submissionDocumentReader.write(patched));
+            updateProgress(submission);
+        }
+        
+        return draftSaved(submission);
+    }
+    
+    /**
+     * 임시저장 응답 (flush 후 증가된 version 포함)
+     */
+    private ApiResponse draftSaved(Submission submission) {
+        submissionRepository.flush();
+        return new ApiResponse(200, true, "임시저장 되었습니다.", submission.getId(), submission.getVersion());
+    }
+    
+    /**
+     * 진행률 갱신 (JSON / 첨부 파일 반영 후 호출)
+     */
+    private void updateProgress(Submission submission) {
+        SubmissionProgress progress = submissionProgressCalculator.calculate(submission);
+        submission.changeProgress(progress.answeredSteps(), progress.totalSteps());
+    }
+    
+    /**
+     * 업로드 대기 파일 (optionId / 질문 위치와 함께)
+     */
+    private record PendingFile(Long optionsId, Integer questionStep, Integer questionOrder, MultipartFile file) {
+    }
+    
+    private void addPendingFiles(List<PendingFile> pendingFiles, Long optionsId, Integer questionStep, Integer questionOrder, List<MultipartFile> files) {
+        if (files == null) return;
+        for (MultipartFile file : files) {
+            if (file != null && !file.isEmpty()) {
+                pendingFiles.add(new PendingFile(optionsId, questionStep, questionOrder, file));
             }
         }
+    }
+    
+    /**
+     * 업로드된 옵션 파일 COMMON_FILE 배치 insert (uploads 는 pendingFiles 순서 그대로)
+     * - 롤백되면 업로드한 파일은 FileUploadService 가 정리
+     */
+    private void storeOptionFiles(Long submissionId, List<PendingFile> pendingFiles, List<UploadResult> uploads) {
+        
+        if (pendingFiles.isEmpty()) return;
+        
+        List<CommonFile> commonFiles = new ArrayList<>(uploads.size());
+        for (int i = 0; i < uploads.size(); i++) {
+            PendingFile pending = pendingFiles.get(i);
+            UploadResult upload = uploads.get(i);
+            commonFiles.add(CommonFile.builder()
+                    .fileTargetId(submissionId)
+                    .optionsId(pending.optionsId())
+                    .questionStep(pending.questionStep())
+                    .questionOrder(pending.questionOrder())
+                    .fileName(upload.originalFilename())
+                    .fileUuidName(upload.uuid())
+                    .fileType(CommonFileType.SUBMISSION_OPTION)
+                    .fileUrl(upload.url())
+                    .build());
+        }
         
-        return new ApiResponse(200, true, "임시저장 되었습니다.", submission.getId());
+        commonFileRepository.insertAll(commonFiles);
     }
 }
@@ -0,0 +1,58 @@
+package io.awportfoiioapi.submission.storage;
+
+import com.querydsl.core.annotations.QueryProjection;
+import io.awportfoiioapi.submission.enums.SubmissionJsonEncoding;
+import lombok.Getter;
+
+/**
+ * 저장된 형태 그대로의 제출 JSON (원문 또는 압축 바이트 + 인코딩 + 사전 ID)
+ * - 조회 DTO 는 이 값을 들고 있다가 JSON 이 필요할 때 get() 으로 한 번만 풀어서 씀
+ * - 압축 해제는 repository 가 연결해 준 SubmissionJsonCodec 으로
+ */
+public class StoredSubmissionJson {
+    
+    @Getter
+    private final String plain;
+    @Getter
+    private final byte[] data;
+    @Getter
+    private final SubmissionJsonEncoding encoding;
+    @Getter
+    private final Long dictionaryId;
+    
+    private SubmissionJsonCodec codec;
+    private String decoded;
+    
+    @QueryProjection
+    public StoredSubmissionJson(String plain, byte[] data, SubmissionJsonEncoding encoding, Long dictionaryId) {
+        this.plain = plain;
+        this.data = data;
+        this.encoding = encoding;
+        this.dictionaryId = dictionaryId;
+    }
+    
+    public boolean isCompressed() {
+        return encoding != null && encoding != SubmissionJsonEncoding.PLAIN && data != null;
+    }
+    
+    public StoredSubmissionJson decodeWith(SubmissionJsonCodec codec) {
+        this.codec = codec;
+        return this;
+    }
+    
+    /**
+     * @return 원문 JSON (압축이면 처음 호출할 때 해제)
+     */
+    public String get() {
+        if (!isCompressed()) {
+            return plain;
+        }
+        if (decoded == null) {
+            if (codec == null) {
+                throw new IllegalStateException("압축된 제출 JSON 에 코덱이 연결되지 않았습니다.");
+            }
+            decoded = codec.decode(this);
+        }
+        return decoded;
+    }
+}
@@ -0,0 +1,110 @@
+package io.awportfoiioapi.submission.storage;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.awportfoiioapi.submission.entity.Submission;
+import io.awportfoiioapi.submission.entity.SubmissionJsonDictionary;
+import io.awportfoiioapi.submission.enums.SubmissionJsonEncoding;
+import io.awportfoiioapi.submission.repository.SubmissionJsonDictionaryRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 제출 JSON 압축 / 해제 (java.util.zip Deflate, 포트폴리오 사전은 preset dictionary 로)
+ * - 사전은 바뀌지 않으므로 ID 기준으로 캐시
+ */
+@Component
+public class SubmissionJsonCodec {
+    
+    private static final int BUFFER_SIZE = 8192;
+    
+    private final LoadingCache<Long, byte[]> dictionaries;
+    
+    public SubmissionJsonCodec(SubmissionJsonDictionaryRepository submissionJsonDictionaryRepository,
+                               @Value("${submission.json-storage.dictionary-cache-size:200}") long dictionaryCacheSize) {
+        this.dictionaries = Caffeine.newBuilder()
+                .maximumSize(dictionaryCacheSize)
+                .build(id -> submissionJsonDictionaryRepository.findById(id)
+                        .map(SubmissionJsonDictionary::getData)
+                        .orElseThrow(() -> new RuntimeException("존재하지 않는 제출 JSON 사전입니다. : " + id)));
+    }
+    
+    /**
+     * 압축 결과 (dictionaryId 는 사전 없이 압축했으면 null)
+     */
+    public record Encoded(byte[] data, SubmissionJsonEncoding encoding, Long dictionaryId) {
+    }
+    
+    /**
+     * @param dictionary 포트폴리오 사전 (없으면 null)
+     */
+    public Encoded encode(String json, SubmissionJsonDictionary dictionary) {
+        
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            if (dictionary != null) {
+                deflater.setDictionary(dictionary.getData());
+                dictionaries.put(dictionary.getId(), dictionary.getData());
+            }
+            deflater.setInput(json.getBytes(StandardCharsets.UTF_8));
+            deflater.finish();
+            
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, json.length() / 4));
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            
+            return dictionary != null
+                    ? new Encoded(out.toByteArray(), SubmissionJsonEncoding.DEFLATE_DICTIONARY, dictionary.getId())
+                    : new Encoded(out.toByteArray(), SubmissionJsonEncoding.DEFLATE, null);
+        } finally {
+            deflater.end();
+        }
+    }
+    
+    public String decode(Submission submission) {
+        return decode(submission.getStoredJson());
+    }
+    
+    public String decode(StoredSubmissionJson stored) {
+        
+        if (!stored.isCompressed()) {
+            return stored.getPlain();
+        }
+        
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(stored.getData());
+            
+            ByteArrayOutputStream out = new ByteArrayOutputStream(stored.getData().length * 4);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!inflater.finished()) {
+                int read = inflater.inflate(buffer);
+                if (read == 0) {
+                    if (inflater.needsDictionary()) {
+                        if (stored.getDictionaryId() == null) {
+                            throw new RuntimeException("제출 JSON 사전 ID 가 없습니다.");
+                        }
+                        inflater.setDictionary(dictionaries.get(stored.getDictionaryId()));
+                    } else if (inflater.needsInput()) {
+                        throw new RuntimeException("제출 JSON 압축 데이터가 잘렸습니다.");
+                    }
+                    continue;
+                }
+                out.write(buffer, 0, read);
+            }
+            return out.toString(StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new RuntimeException("제출 JSON 압축 해제 실패", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package io.awportfoiioapi.submission.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 포트폴리오별 압축 사전 학습
+ * - 표본 JSON 에서 문자열 토큰(키 "rooms": / 짧은 값 "침대")을 뽑아서 여러 문서에 반복되는 것만 사용
+ * - Deflate 는 사전 뒤쪽을 더 가깝게 참조하므로 (등장 문서 수 x 길이) 가 큰 토큰일수록 뒤에 배치
+ * - 마지막에 가장 짧은 표본 문서 1개를 붙여서 객체 구조({"id":"","name":...}) 도 포함
+ */
+public final class SubmissionJsonDictionaryTrainer {
+    
+    // 키는 뒤의 ':' 까지, 값은 64자 이하 문자열만
+    private static final Pattern TOKEN = Pattern.compile("\"(?:[^\"\\\\]|\\\\.){0,64}\"\\s*:?");
+    
+    // 표본의 이 비율 이상에 등장한 토큰만 사용
+    private static final double MIN_DOCUMENT_RATIO = 0.3;
+    
+    private SubmissionJsonDictionaryTrainer() {
+    }
+    
+    /**
+     * @param maxSize 사전 최대 크기 (Deflate 창 크기 32KB 이하)
+     */
+    public static byte[] train(List<String> samples, int maxSize) {
+        
+        Map<String, Integer> documentCounts = new HashMap<>();
+        for (String sample : samples) {
+            Set<String> seen = new HashSet<>();
+            Matcher matcher = TOKEN.matcher(sample);
+            while (matcher.find()) {
+                if (seen.add(matcher.group())) {
+                    documentCounts.merge(matcher.group(), 1, Integer::sum);
+                }
+            }
+        }
+        
+        int minDocuments = Math.max(2, (int) Math.ceil(samples.size() * MIN_DOCUMENT_RATIO));
+        List<Map.Entry<String, Integer>> tokens = documentCounts.entrySet().stream()
+                .filter(entry -> entry.getValue() >= minDocuments)
+                .sorted(Comparator.comparingLong(entry -> (long) entry.getValue() * entry.getKey().length()))
+                .toList();
+        
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (Map.Entry<String, Integer> token : tokens) {
+            out.writeBytes(token.getKey().getBytes(StandardCharsets.UTF_8));
+        }
+        samples.stream()
+                .min(Comparator.comparingInt(String::length))
+                .ifPresent(sample -> out.writeBytes(sample.getBytes(StandardCharsets.UTF_8)));
+        
+        // 뒤쪽(가장 유용한 부분)만 남김
+        byte[] dictionary = out.toByteArray();
+        return dictionary.length <= maxSize
+                ? dictionary
+                : Arrays.copyOfRange(dictionary, dictionary.length - maxSize, dictionary.length);
+    }
+}
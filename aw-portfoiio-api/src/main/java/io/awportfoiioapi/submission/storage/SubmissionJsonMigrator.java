@@ -0,0 +1,175 @@
+package io.awportfoiioapi.submission.storage;
+
+import io.awportfoiioapi.submission.dto.request.SubmissionJsonCompressUpdate;
+import io.awportfoiioapi.submission.dto.response.SubmissionJsonRow;
+import io.awportfoiioapi.submission.entity.SubmissionJsonDictionary;
+import io.awportfoiioapi.submission.enums.SubmissionJsonEncoding;
+import io.awportfoiioapi.submission.repository.SubmissionJsonDictionaryRepository;
+import io.awportfoiioapi.submission.repository.SubmissionRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 오래된 제출 JSON 압축 (submission.json-storage.compress-enabled, 기본 꺼짐)
+ * - 대상 : 원문(PLAIN) 행 중 마지막 수정이 min-age 보다 오래된 행 (자주 고치는 임시저장은 원문 유지)
+ * - 포트폴리오 표본이 dictionary-min-samples 건 이상이면 사전을 학습해서 사용, 아니면 사전 없이 압축
+ * - 압축해도 작아지지 않는 행은 원문 유지
+ * - 읽은 뒤 수정된 행은 건너뜀 (version 비교), 수정되면 다시 원문으로 저장됨
+ * - 전용 스레드에서 실행 (기본 스케줄러 스레드를 오래 잡지 않도록)
+ */
+@Slf4j
+@Component
+public class SubmissionJsonMigrator {
+    
+    private final SubmissionRepository submissionRepository;
+    private final SubmissionJsonDictionaryRepository submissionJsonDictionaryRepository;
+    private final SubmissionJsonCodec submissionJsonCodec;
+    private final TransactionTemplate transactionTemplate;
+    
+    private ThreadPoolTaskExecutor executor;
+    
+    @Value("${submission.json-storage.compress-enabled:false}")
+    private boolean compressEnabled;
+    
+    @Value("${submission.json-storage.encoding:DEFLATE_DICTIONARY}")
+    private SubmissionJsonEncoding encoding;
+    
+    @Value("${submission.json-storage.min-age:1d}")
+    private Duration minAge;
+    
+    @Value("${submission.json-storage.batch-size:200}")
+    private int batchSize;
+    
+    @Value("${submission.json-storage.dictionary-min-samples:20}")
+    private int dictionaryMinSamples;
+    
+    @Value("${submission.json-storage.dictionary-samples:100}")
+    private int dictionarySamples;
+    
+    @Value("${submission.json-storage.dictionary-size:32KB}")
+    private DataSize dictionarySize;
+    
+    public SubmissionJsonMigrator(SubmissionRepository submissionRepository,
+                                  SubmissionJsonDictionaryRepository submissionJsonDictionaryRepository,
+                                  SubmissionJsonCodec submissionJsonCodec,
+                                  PlatformTransactionManager transactionManager) {
+        this.submissionRepository = submissionRepository;
+        this.submissionJsonDictionaryRepository = submissionJsonDictionaryRepository;
+        this.submissionJsonCodec = submissionJsonCodec;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+    
+    @PostConstruct
+    public void init() {
+        // 스레드 1개 + 대기 없음 : 이전 실행이 아직 돌고 있으면 이번 주기는 건너뜀
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("submission-json-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+    
+    @Scheduled(fixedDelayString = "${submission.json-storage.migrate-interval:10m}")
+    public void scheduleMigrate() {
+        if (compressEnabled) {
+            executor.execute(this::migrateQuietly);
+        }
+    }
+    
+    private void migrateQuietly() {
+        try {
+            migrate();
+        } catch (RuntimeException e) {
+            log.warn("제출 JSON 압축 실패 (다음 주기에 재시도)", e);
+        }
+    }
+    
+    /**
+     * @return 압축한 행 수
+     */
+    public int migrate() {
+        
+        LocalDateTime modifiedBefore = LocalDateTime.now().minus(minAge);
+        // 이번 실행 동안 포트폴리오별 사전 (사전 없이 압축하는 포트폴리오는 null)
+        Map<Long, SubmissionJsonDictionary> dictionaries = new HashMap<>();
+        
+        long lastId = 0L;
+        int total = 0;
+        while (true) {
+            List<SubmissionJsonRow> rows = submissionRepository.findByJsonToCompress(lastId, modifiedBefore, batchSize);
+            if (rows.isEmpty()) {
+                break;
+            }
+            lastId = rows.get(rows.size() - 1).getSubmissionId();
+            
+            List<SubmissionJsonCompressUpdate> updates = new ArrayList<>(rows.size());
+            for (SubmissionJsonRow row : rows) {
+                SubmissionJsonDictionary dictionary = dictionaries.computeIfAbsent(row.getPortfolioId(), this::dictionary);
+                SubmissionJsonCodec.Encoded encoded = submissionJsonCodec.encode(row.getSubmissionJson(), dictionary);
+                if (encoded.data().length < row.getSubmissionJson().getBytes(StandardCharsets.UTF_8).length) {
+                    updates.add(new SubmissionJsonCompressUpdate(row.getSubmissionId(), row.getVersion(),
+                            encoded.data(), encoded.encoding(), encoded.dictionaryId()));
+                }
+            }
+            
+            int[] counts = transactionTemplate.execute(status -> submissionRepository.updateCompressedJsonAll(updates));
+            total += Arrays.stream(counts).map(count -> Math.max(count, 0)).sum();
+        }
+        if (total > 0) {
+            log.info("[SubmissionJson] compressed {} submissions", total);
+        }
+        return total;
+    }
+    
+    /**
+     * 포트폴리오 사전 (최근 사전, 없으면 표본이 충분할 때 학습해서 저장)
+     */
+    private SubmissionJsonDictionary dictionary(Long portfolioId) {
+        
+        if (encoding != SubmissionJsonEncoding.DEFLATE_DICTIONARY || portfolioId == null) {
+            return null;
+        }
+        
+        Optional<SubmissionJsonDictionary> saved = submissionJsonDictionaryRepository.findFirstByPortfolioIdOrderByIdDesc(portfolioId);
+        if (saved.isPresent()) {
+            return saved.get();
+        }
+        
+        List<String> samples = submissionRepository.findBySampleJson(portfolioId, dictionarySamples);
+        if (samples.size() < dictionaryMinSamples) {
+            return null;
+        }
+        
+        byte[] data = SubmissionJsonDictionaryTrainer.train(samples, (int) dictionarySize.toBytes());
+        return transactionTemplate.execute(status -> submissionJsonDictionaryRepository.save(
+                SubmissionJsonDictionary.builder()
+                        .portfolioId(portfolioId)
+                        .data(data)
+                        .samples(samples.size())
+                        .build()
+        ));
+    }
+}
@@ -1,7 +1,10 @@
 package io.awportfoiioapi.submissions.controller;
 
 import io.awportfoiioapi.apiresponse.ApiResponse;
+import io.awportfoiioapi.metrics.QueryBudget;
+import io.awportfoiioapi.submissions.dto.request.SubmissionsSearchRequest;
 import io.awportfoiioapi.submissions.dto.response.SubmissionsGetRequest;
+import io.awportfoiioapi.submissions.dto.response.SubmissionsSliceResponse;
 import io.awportfoiioapi.submissions.serivce.SubmissionsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
@@ -15,12 +18,26 @@ public class SubmissionsController {
     
     private final SubmissionsService submissionsService;
     
+    /**
+     * @deprecated 전체 제출 + 응답 JSON 한 번에 반환, /admin-submissions/summary 사용
+     */
+    @Deprecated
     @GetMapping("/admin-submissions")
     public List<SubmissionsGetRequest> getSubmissions() {
         return submissionsService.getSubmissions();
         
     }
     
+    /**
+     * 관리자 제출 목록 (keyset 페이징, 응답 JSON 제외)
+     * - ?portfolioId=&isDraft=&from=2025-01-01&to=2025-01-31&size=20&cursor={이전 응답 nextCursor}
+     */
+    @QueryBudget(statements = 3, repeats = 2)
+    @GetMapping("/admin-submissions/summary")
+    public SubmissionsSliceResponse getSubmissionSummaries(@ModelAttribute SubmissionsSearchRequest request) {
+        return submissionsService.getSubmissionSummaries(request);
+    }
+    
     @DeleteMapping("/admin-submissions/{id}")
     public ApiResponse deleteSubmission(@PathVariable Long id) {
         return submissionsService.deleteSubmission(id);
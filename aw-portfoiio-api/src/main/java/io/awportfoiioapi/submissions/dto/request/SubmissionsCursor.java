@@ -0,0 +1,40 @@
+package io.awportfoiioapi.submissions.dto.request;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 관리자 제출 목록 keyset 커서 (마지막으로 받은 행의 제출완료일 / id)
+ * - 정렬 : 제출완료일 desc (NULL = 임시저장은 맨 뒤), id desc
+ * - 문자열은 "{제출완료일 ISO 또는 빈 값}|{id}" 의 base64url
+ */
+public record SubmissionsCursor(LocalDateTime completedDate, Long id) {
+    
+    public String encode() {
+        String raw = (completedDate == null ? "" : completedDate.toString()) + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * @return cursor 가 비어있으면 null
+     */
+    public static SubmissionsCursor decode(String cursor) {
+        
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            String date = raw.substring(0, separator);
+            return new SubmissionsCursor(
+                    date.isEmpty() ? null : LocalDateTime.parse(date),
+                    Long.parseLong(raw.substring(separator + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new RuntimeException("잘못된 cursor 입니다.", e);
+        }
+    }
+}
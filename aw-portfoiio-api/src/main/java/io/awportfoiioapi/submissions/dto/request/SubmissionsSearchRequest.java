@@ -0,0 +1,33 @@
+package io.awportfoiioapi.submissions.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * 관리자 제출 목록 조회 조건
+ * - from / to : 제출완료일 기준 (양쪽 포함, 지정하면 제출완료 건만 조회)
+ * - cursor : 이전 응답의 nextCursor (없으면 처음부터)
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class SubmissionsSearchRequest {
+    
+    private Long portfolioId;
+    
+    private Boolean isDraft;
+    
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from;
+    
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to;
+    
+    private String cursor;
+    
+    private Integer size;
+}
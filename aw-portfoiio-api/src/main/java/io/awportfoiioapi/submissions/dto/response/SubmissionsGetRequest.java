@@ -1,6 +1,8 @@
 package io.awportfoiioapi.submissions.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.querydsl.core.annotations.QueryProjection;
+import io.awportfoiioapi.submission.storage.StoredSubmissionJson;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -20,19 +22,29 @@ public class SubmissionsGetRequest {
     private LocalDateTime completedAt;
     private LocalDateTime updatedAt;
     private Portfolio portfolio;
+    // 저장된 형태 (압축이면 getResponses() 에서 해제)
+    @JsonIgnore
+    private StoredSubmissionJson storedJson;
     
     @QueryProjection
-    public SubmissionsGetRequest(Long id, Long portfolioId, String companyName, String responses, Boolean isDraft, LocalDateTime completedAt, LocalDateTime updatedAt,Portfolio portfolio) {
+    public SubmissionsGetRequest(Long id, Long portfolioId, String companyName, StoredSubmissionJson storedJson, Boolean isDraft, LocalDateTime completedAt, LocalDateTime updatedAt,Portfolio portfolio) {
         this.id = id;
         this.portfolioId = portfolioId;
         this.companyName = companyName;
-        this.responses = responses;
+        this.storedJson = storedJson;
         this.isDraft = isDraft;
         this.completedAt = completedAt;
         this.updatedAt = updatedAt;
         this.portfolio = portfolio;
     }
     
+    public String getResponses() {
+        if (responses == null && storedJson != null) {
+            responses = storedJson.get();
+        }
+        return responses;
+    }
+    
     public Portfolio getPortfolio() {
         if(this.portfolio == null) {
             this.portfolio = new Portfolio();
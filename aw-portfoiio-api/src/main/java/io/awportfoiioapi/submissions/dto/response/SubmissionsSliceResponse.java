@@ -0,0 +1,10 @@
+package io.awportfoiioapi.submissions.dto.response;
+
+import java.util.List;
+
+/**
+ * keyset 페이지 응답
+ * - hasNext 가 true 면 nextCursor 를 cursor 로 넘겨서 다음 페이지 조회
+ */
+public record SubmissionsSliceResponse(List<SubmissionsSummaryResponse> content, int size, boolean hasNext, String nextCursor) {
+}
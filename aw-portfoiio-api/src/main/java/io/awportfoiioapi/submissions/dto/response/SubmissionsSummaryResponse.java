@@ -0,0 +1,34 @@
+package io.awportfoiioapi.submissions.dto.response;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 제출 목록 1건 (응답 JSON 제외, 상세는 GET /api/submission/{id})
+ */
+@NoArgsConstructor
+@Data
+public class SubmissionsSummaryResponse {
+    
+    private Long id;
+    private Long portfolioId;
+    private String companyName;
+    private Boolean isDraft;
+    private LocalDateTime completedAt;
+    private LocalDateTime updatedAt;
+    private SubmissionsGetRequest.Portfolio portfolio;
+    
+    @QueryProjection
+    public SubmissionsSummaryResponse(Long id, Long portfolioId, String companyName, Boolean isDraft, LocalDateTime completedAt, LocalDateTime updatedAt, SubmissionsGetRequest.Portfolio portfolio) {
+        this.id = id;
+        this.portfolioId = portfolioId;
+        this.companyName = companyName;
+        this.isDraft = isDraft;
+        this.completedAt = completedAt;
+        this.updatedAt = updatedAt;
+        this.portfolio = portfolio;
+    }
+}
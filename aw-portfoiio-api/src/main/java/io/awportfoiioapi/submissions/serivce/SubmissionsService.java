@@ -1,14 +1,22 @@
 package io.awportfoiioapi.submissions.serivce;
 
 import io.awportfoiioapi.apiresponse.ApiResponse;
+import io.awportfoiioapi.submissions.dto.request.SubmissionsSearchRequest;
 import io.awportfoiioapi.submissions.dto.response.SubmissionsGetRequest;
+import io.awportfoiioapi.submissions.dto.response.SubmissionsSliceResponse;
 
 import java.util.List;
 
 public interface SubmissionsService {
     
+    /**
+     * @deprecated 전체 제출 + 응답 JSON 을 한 번에 반환 (getSubmissionSummaries 사용)
+     */
+    @Deprecated
     List<SubmissionsGetRequest> getSubmissions();
     
+    SubmissionsSliceResponse getSubmissionSummaries(SubmissionsSearchRequest request);
+    
     
     ApiResponse deleteSubmission(Long id);
 }
@@ -1,13 +1,18 @@
 package io.awportfoiioapi.submissions.serivce.impl;
 
 import io.awportfoiioapi.apiresponse.ApiResponse;
+import io.awportfoiioapi.counter.service.CounterService;
 import io.awportfoiioapi.file.entity.CommonFile;
 import io.awportfoiioapi.file.repository.CommonFileRepository;
+import io.awportfoiioapi.outbox.service.FileOutboxService;
 import io.awportfoiioapi.submission.entity.Submission;
 import io.awportfoiioapi.submission.repository.SubmissionRepository;
+import io.awportfoiioapi.submissions.dto.request.SubmissionsCursor;
+import io.awportfoiioapi.submissions.dto.request.SubmissionsSearchRequest;
 import io.awportfoiioapi.submissions.dto.response.SubmissionsGetRequest;
+import io.awportfoiioapi.submissions.dto.response.SubmissionsSliceResponse;
+import io.awportfoiioapi.submissions.dto.response.SubmissionsSummaryResponse;
 import io.awportfoiioapi.submissions.serivce.SubmissionsService;
-import io.awportfoiioapi.utils.S3FileUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,17 +25,55 @@ import java.util.Optional;
 @Transactional
 public class SubmissionsServiceImpl implements SubmissionsService {
     
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    
     private final SubmissionRepository submissionRepository;
     
     private final CommonFileRepository commonFileRepository;
     
-    private final S3FileUtils s3FileUtils;
+    private final FileOutboxService fileOutboxService;
+    
+    private final CounterService counterService;
     
     @Override
+    @Deprecated
     public List<SubmissionsGetRequest> getSubmissions() {
         return submissionRepository.findByAdminSubmissions();
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public SubmissionsSliceResponse getSubmissionSummaries(SubmissionsSearchRequest request) {
+        
+        int size = request.getSize() == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(request.getSize(), MAX_PAGE_SIZE));
+        
+        if (request.getFrom() != null && request.getTo() != null && request.getFrom().isAfter(request.getTo())) {
+            throw new RuntimeException("조회 시작일이 종료일보다 늦습니다.");
+        }
+        
+        // 다음 페이지 존재 여부 확인용으로 1건 더 조회
+        List<SubmissionsSummaryResponse> rows = submissionRepository.findByAdminSubmissionSummaries(
+                request.getPortfolioId(),
+                request.getIsDraft(),
+                request.getFrom() == null ? null : request.getFrom().atStartOfDay(),
+                request.getTo() == null ? null : request.getTo().plusDays(1).atStartOfDay(),
+                SubmissionsCursor.decode(request.getCursor()),
+                size + 1
+        );
+        
+        boolean hasNext = rows.size() > size;
+        List<SubmissionsSummaryResponse> content = hasNext ? rows.subList(0, size) : rows;
+        
+        String nextCursor = null;
+        if (hasNext) {
+            SubmissionsSummaryResponse last = content.get(content.size() - 1);
+            nextCursor = new SubmissionsCursor(last.getCompletedAt(), last.getId()).encode();
+        }
+        
+        return new SubmissionsSliceResponse(content, size, hasNext, nextCursor);
+    }
+    
     @Override
     public ApiResponse deleteSubmission(Long id) {
         Optional<Submission> submission = submissionRepository.findById(id);
@@ -38,12 +81,17 @@ public class SubmissionsServiceImpl implements SubmissionsService {
             List<Long> ids = List.of(submission.get().getId());
             List<CommonFile> submissionFiles = commonFileRepository.findBySubmissions(ids);
             if (!submissionFiles.isEmpty()) {
-                for (CommonFile file : submissionFiles) {
-                    s3FileUtils.deleteFile(file.getFileUrl());
-                }
+                fileOutboxService.deleteLater(submissionFiles.stream().map(CommonFile::getFileUrl).toList());
                 commonFileRepository.deleteBySubmissionsFile(ids);
             }
+            Long portfolioId = submission.get().getPortfolio().getId();
+            boolean completed = Boolean.FALSE.equals(submission.get().getIsDraft());
             submissionRepository.deleteBySubmissions(id);
+            
+            // 제출완료 건이었으면 제출 수 차감
+            if (completed) {
+                counterService.addSubmissions(portfolioId, -1);
+            }
         }
         return new ApiResponse(200,true,"포트폴리오가 삭제되었습니다.");
     }
@@ -1,19 +1,21 @@
 package io.awportfoiioapi.users.service.impl;
 
 import io.awportfoiioapi.apiresponse.ApiResponse;
+import io.awportfoiioapi.counter.service.CounterService;
 import io.awportfoiioapi.file.entity.CommonFile;
 import io.awportfoiioapi.file.repository.CommonFileRepository;
 import io.awportfoiioapi.member.entrity.Member;
 import io.awportfoiioapi.member.page.PageResponse;
 import io.awportfoiioapi.member.repository.MemberRepository;
 import io.awportfoiioapi.memberrole.repository.MemberRoleRepository;
+import io.awportfoiioapi.outbox.service.FileOutboxService;
+import io.awportfoiioapi.portfolio.dto.response.PortfolioSubmissionCountResponse;
 import io.awportfoiioapi.refresh.repository.RefreshTokenRepository;
 import io.awportfoiioapi.submission.entity.Submission;
 import io.awportfoiioapi.submission.repository.SubmissionRepository;
 import io.awportfoiioapi.users.dto.request.UsersPasswordPostRequest;
 import io.awportfoiioapi.users.dto.response.UsersGetResponse;
 import io.awportfoiioapi.users.service.UsersService;
-import io.awportfoiioapi.utils.S3FileUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -39,9 +41,11 @@ public class UsersServiceImpl implements UsersService {
     
     private final CommonFileRepository commonFileRepository;
     
+    private final CounterService counterService;
+    
     private final PasswordEncoder passwordEncoder;
     
-    private final S3FileUtils s3FileUtils;
+    private final FileOutboxService fileOutboxService;
     
     @Override
     public PageResponse<UsersGetResponse> getUsers(Pageable pageable) {
@@ -86,12 +90,17 @@ public class UsersServiceImpl implements UsersService {
             List<CommonFile> submissionFiles = commonFileRepository.findBySubmissions(submissionIds);
             
             if (!submissionFiles.isEmpty()) {
-                for (CommonFile file : submissionFiles) {
-                    s3FileUtils.deleteFile(file.getFileUrl());
-                }
+                fileOutboxService.deleteLater(submissionFiles.stream().map(CommonFile::getFileUrl).toList());
                 commonFileRepository.deleteBySubmissionsFile(submissionIds);
             }
+            // 포트폴리오별 제출완료 수 (카운터 차감용, 삭제 전에 조회)
+            List<PortfolioSubmissionCountResponse> completedCounts = submissionRepository.findByMemberSubmissionCount(id);
+            
             submissionRepository.deleteByMemberSubmissions(id);
+            
+            for (PortfolioSubmissionCountResponse count : completedCounts) {
+                counterService.addSubmissions(count.getPortfolioId(), -count.getCount());
+            }
         }
         
         /* ---------- 회원 삭제 ---------- */
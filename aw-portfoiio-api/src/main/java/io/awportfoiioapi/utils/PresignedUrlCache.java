@@ -0,0 +1,171 @@
+package io.awportfoiioapi.utils;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.awportfoiioapi.metrics.RequestMetricsContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * presigned URL 전용 캐시
+ * - 항목별 만료 : 서명 만료시각 - 안전여유(safety-margin) -> 응답으로 나간 URL 은 최소 safety-margin 동안 유효
+ * - refresh-after 가 지난 항목은 조회 시 기존 값을 돌려주고 백그라운드에서 다시 서명 (전체 일괄 만료 없음)
+ * - 최대 건수 제한, 적중/미스/제거 메트릭 (cache.* {cache=presigned})
+ */
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class PresignedUrlCache {
+    
+    private static final String CACHE_NAME = "presigned";
+    
+    // 서명할 key 가 이 이상이면 병렬 처리
+    private static final int PARALLEL_PRESIGN_THRESHOLD = 16;
+    
+    private final S3Presigner s3Presigner;
+    private final MeterRegistry meterRegistry;
+    
+    @Value("${spring.cloud.aws.s3.bucket}")
+    private String bucketName;
+    
+    @Value("${presigned.signature-duration:1d}")
+    private Duration signatureDuration;
+    
+    @Value("${presigned.safety-margin:10m}")
+    private Duration safetyMargin;
+    
+    @Value("${presigned.refresh-after:12h}")
+    private Duration refreshAfter;
+    
+    @Value("${presigned.maximum-size:10000}")
+    private long maximumSize;
+    
+    private LoadingCache<String, PresignedUrl> cache;
+    
+    @PostConstruct
+    public void init() {
+        
+        Duration usable = signatureDuration.minus(safetyMargin);
+        if (usable.isNegative() || usable.isZero()) {
+            throw new IllegalStateException("presigned.safety-margin 은 signature-duration 보다 작아야 합니다.");
+        }
+        
+        // 만료 전에 갱신이 일어나도록 refresh-after 는 사용가능 기간 이내로 제한
+        Duration refresh = refreshAfter.compareTo(usable) < 0 ? refreshAfter : usable.dividedBy(2);
+        
+        cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new SignatureExpiry())
+                .refreshAfterWrite(refresh)
+                .recordStats()
+                .build(new PresignLoader());
+        
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+    
+    public String get(String key) {
+        RequestMetricsContext.presign(1, 0);
+        return cache.get(key).url();
+    }
+    
+    /**
+     * 일괄 조회 - 캐시에 없는 key 만 한 번에 서명
+     * @return key -> presigned URL
+     */
+    public Map<String, String> getAll(Collection<String> keys) {
+        Set<String> uniqueKeys = new LinkedHashSet<>(keys);
+        RequestMetricsContext.presign(uniqueKeys.size(), 0);
+        
+        Map<String, PresignedUrl> found = cache.getAll(uniqueKeys);
+        
+        Map<String, String> result = new HashMap<>(found.size() * 2);
+        found.forEach((key, value) -> result.put(key, value.url()));
+        return result;
+    }
+    
+    private PresignedUrl sign(String key) {
+        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build();
+        
+        GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
+                .signatureDuration(signatureDuration)
+                .getObjectRequest(getObjectRequest)
+                .build();
+        
+        PresignedGetObjectRequest presigned = s3Presigner.presignGetObject(presignRequest);
+        
+        return new PresignedUrl(presigned.url().toExternalForm(), presigned.expiration());
+    }
+    
+    /**
+     * 서명 만료시각 기준 항목별 만료
+     */
+    private class SignatureExpiry implements Expiry<String, PresignedUrl> {
+        
+        @Override
+        public long expireAfterCreate(String key, PresignedUrl value, long currentTime) {
+            return remainingNanos(value);
+        }
+        
+        @Override
+        public long expireAfterUpdate(String key, PresignedUrl value, long currentTime, long currentDuration) {
+            // refresh 로 새 서명이 들어오면 새 만료시각 기준
+            return remainingNanos(value);
+        }
+        
+        @Override
+        public long expireAfterRead(String key, PresignedUrl value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+        
+        private long remainingNanos(PresignedUrl value) {
+            Duration remaining = Duration.between(Instant.now(), value.expiresAt().minus(safetyMargin));
+            return remaining.isNegative() ? 0L : remaining.toNanos();
+        }
+    }
+    
+    private class PresignLoader implements CacheLoader<String, PresignedUrl> {
+        
+        @Override
+        public PresignedUrl load(String key) {
+            // 조회 스레드에서 로드되는 경우만 요청 메트릭에 미스로 집계 (refresh 는 백그라운드 스레드)
+            RequestMetricsContext.presignMissed(1);
+            return sign(key);
+        }
+        
+        @Override
+        public Map<String, PresignedUrl> loadAll(Set<? extends String> keys) {
+            RequestMetricsContext.presignMissed(keys.size());
+            return (keys.size() >= PARALLEL_PRESIGN_THRESHOLD ? keys.parallelStream() : keys.stream())
+                    .collect(Collectors.toMap(Function.identity(), PresignedUrlCache.this::sign));
+        }
+    }
+    
+    private record PresignedUrl(String url, Instant expiresAt) {
+    }
+}
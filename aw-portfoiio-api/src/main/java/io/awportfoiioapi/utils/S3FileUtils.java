@@ -1,38 +1,29 @@
 package io.awportfoiioapi.utils;
 
+import io.awportfoiioapi.storage.FileMetadata;
+import io.awportfoiioapi.storage.FileStorage;
+import io.awportfoiioapi.storage.StorageEntry;
+import io.awportfoiioapi.storage.StoredObject;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
-import software.amazon.awssdk.core.sync.RequestBody;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
-import software.amazon.awssdk.services.s3.model.GetObjectRequest;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
-import software.amazon.awssdk.services.s3.presigner.S3Presigner;
-import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 
-import java.io.IOException;
-import java.net.MalformedURLException;
-import java.net.URL;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
-import java.time.Duration;
+import java.nio.file.Path;
+import java.time.Instant;
 import java.util.*;
-import org.springframework.cache.annotation.Cacheable;
 
+/**
+ * 파일 저장 공통 (서비스에서 사용하는 진입점)
+ * - 실제 저장은 FileStorage 구현 (storage.type : s3 / local) 에 위임
+ * - key 생성 규칙 ({folder}/{uuid}.{확장자}) 과 URL <-> key 변환만 담당
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class S3FileUtils {
-    private final S3Client s3Client;
-    private final S3Presigner s3Presigner;
     
-    @Value("${spring.cloud.aws.s3.bucket}")
-    private String bucketName;
+    private final FileStorage fileStorage;
     
     public List<UploadResult> storeFiles(List<MultipartFile> multipartFiles, String folder) {
         List<UploadResult> uploadFiles = new ArrayList<>();
@@ -54,55 +45,75 @@ public class S3FileUtils {
         String ext = extractExt(originalFilename);
         String storeFileName = folder + "/" + uuid + "." + ext;
         
-        try {
-            String encodedFilename = URLEncoder.encode(originalFilename, StandardCharsets.UTF_8);
-            Map<String, String> metadata = new HashMap<>();
-            metadata.put("Content-Type", multipartFile.getContentType());
-            metadata.put("Content-Disposition", "inline");
-            metadata.put("original-filename", encodedFilename); //원래 파일명 메타데이터에 저장
-            
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(storeFileName)
-                    .metadata(metadata)
-                    .build();
-            
-            s3Client.putObject(putObjectRequest, RequestBody.fromBytes(multipartFile.getBytes()));
-            
-            String url = s3Client.utilities()
-                    .getUrl(b -> b.bucket(bucketName).key(storeFileName))
-                    .toExternalForm();
-            
-            return new UploadResult(url, uuid,originalFilename);
-            
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+        // 바이트 배열로 읽지 않고 스트림 + 크기로 전달 (큰 파일은 S3 멀티파트)
+        String url = fileStorage.store(
+                storeFileName,
+                multipartFile,
+                multipartFile.getSize(),
+                new FileMetadata(multipartFile.getContentType(), originalFilename)
+        );
+        
+        return new UploadResult(url, uuid,originalFilename);
+    }
+    
+    /**
+     * 서버에서 만든 로컬 파일 업로드 (엑셀 내보내기 결과 등)
+     * - 파일에서 바로 스트리밍하므로 전체를 메모리에 올리지 않음
+     * @return key
+     */
+    public String storeLocalFile(Path file, String folder, String originalFilename, String contentType) {
+        
+        String storeFileName = folder + "/" + UUID.randomUUID() + "." + extractExt(originalFilename);
+        
+        fileStorage.store(storeFileName, file, new FileMetadata(contentType, originalFilename));
+        
+        return storeFileName;
+    }
+    
+    public void deleteByKey(String key) {
+        fileStorage.delete(key);
+    }
+    
+    /**
+     * 여러 건 삭제 (S3 : DeleteObjects 1000건 단위)
+     * @return 실패한 key -> 사유
+     */
+    public Map<String, String> deleteAllByKey(Collection<String> keys) {
+        return fileStorage.deleteAll(keys);
+    }
+    
+    /**
+     * 폴더(prefix) 아래에서 기준 시각 이전에 올라간 객체 삭제
+     * @return 삭제 건수
+     */
+    public int deleteOlderThan(String folder, Instant cutoff) {
+        
+        int deleted = 0;
+        for (StorageEntry entry : fileStorage.list(folder + "/")) {
+            if (entry.lastModified().isBefore(cutoff)) {
+                deleteByKey(entry.key());
+                deleted++;
+            }
         }
+        return deleted;
     }
     
     public void deleteFile(String fileUrl) {
-        String key = getFileNameFromUrl(fileUrl);
-        DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
-                .bucket(bucketName)
-                .key(key)
-                .build();
-        s3Client.deleteObject(deleteObjectRequest);
+        fileStorage.delete(getFileNameFromUrl(fileUrl));
     }
     
+    /**
+     * 저장 URL -> key
+     */
     public String getFileNameFromUrl(String fileUrl) {
-        try {
-            URL url = new URL(fileUrl);
-            String path = url.getPath(); // e.g. /images/filename.jpg
-            return path.startsWith("/") ? path.substring(1) : path;
-        } catch (MalformedURLException e) {
-            throw new RuntimeException("Invalid S3 file URL", e);
-        }
+        return fileStorage.keyOf(fileUrl);
     }
     
-    private String createStoreFileName(String originalFilename) {
-        String ext = extractExt(originalFilename);
-        String uuid = UUID.randomUUID().toString();
-        return uuid + "." + ext;
+    /**
+     * 파일 열기 (다운로드용, 사용 후 close)
+     */
+    public StoredObject open(String key) {
+        return fileStorage.open(key);
     }
     
     private String extractExt(String originalFilename) {
@@ -110,26 +121,36 @@ public class S3FileUtils {
         return originalFilename.substring(pos + 1);
     }
     
-    @Cacheable(cacheNames = "presigned", key = "#key")
     public String createPresignedUrl(String key) {
-        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
-                .bucket(bucketName)
-                .key(key)
-                .build();
-        
-        GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
-                .signatureDuration(Duration.ofDays(1))
-                .getObjectRequest(getObjectRequest)
-                .build();
-        
-        return s3Presigner.presignGetObject(presignRequest)
-                .url()
-                .toExternalForm();
+        return fileStorage.presign(key);
     }
     
-    @Scheduled(cron = "0 0/50 * * * *")
-    @CacheEvict(cacheNames = "presigned", allEntries = true)
-    public void clearPresignedCache() {
-        log.info("캐시삭제");
+    /**
+     * presigned URL 일괄 생성 (목록 응답용)
+     * - S3 : 캐시에 있는 key 는 그대로 사용하고, 없는 key 만 서명 (PresignedUrlCache)
+     * @return key -> presigned URL
+     */
+    public Map<String, String> createPresignedUrls(Collection<String> keys) {
+        return fileStorage.presignAll(keys);
+    }
+    
+    /**
+     * 저장 URL 목록 -> presigned URL 일괄 변환
+     * @return 원본 URL -> presigned URL (null/빈 값은 제외)
+     */
+    public Map<String, String> createPresignedUrlsFromUrls(Collection<String> fileUrls) {
+        
+        Map<String, String> urlToKey = new HashMap<>();
+        for (String fileUrl : fileUrls) {
+            if (fileUrl != null && !fileUrl.isBlank()) {
+                urlToKey.computeIfAbsent(fileUrl, this::getFileNameFromUrl);
+            }
+        }
+        
+        Map<String, String> presigned = createPresignedUrls(urlToKey.values());
+        
+        Map<String, String> result = new HashMap<>();
+        urlToKey.forEach((url, key) -> result.put(url, presigned.get(key)));
+        return result;
     }
 }
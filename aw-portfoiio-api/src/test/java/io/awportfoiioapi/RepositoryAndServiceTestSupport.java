@@ -3,6 +3,8 @@ package io.awportfoiioapi;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.awportfoiioapi.category.service.CategoryService;
 import io.awportfoiioapi.excel.service.ExcelService;
+import io.awportfoiioapi.metrics.QueryBudgetScope;
+import io.awportfoiioapi.metrics.enums.QueryBudgetAction;
 import io.awportfoiioapi.portfolio.serivce.PortfolioService;
 import io.awportfoiioapi.question.service.QuestionService;
 import io.awportfoiioapi.submission.service.SubmissionService;
@@ -40,4 +42,23 @@ public abstract class RepositoryAndServiceTestSupport {
     
     @Autowired
     protected ExcelService excelService;
+    
+    /**
+     * 실행된 SQL 수 / 형태별 반복 수 측정
+     */
+    protected QueryBudgetScope countQueries(Runnable runnable) {
+        try (QueryBudgetScope scope = QueryBudgetScope.counting("test")) {
+            runnable.run();
+            return scope;
+        }
+    }
+    
+    /**
+     * SQL 수가 한도를 넘거나 같은 SQL 이 repeats 회 넘게 반복되면 실패
+     */
+    protected void assertQueryBudget(int statements, int repeats, Runnable runnable) {
+        try (QueryBudgetScope ignored = QueryBudgetScope.open("test", statements, repeats, QueryBudgetAction.FAIL)) {
+            runnable.run();
+        }
+    }
 }
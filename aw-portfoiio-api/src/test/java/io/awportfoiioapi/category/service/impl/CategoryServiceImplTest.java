@@ -6,18 +6,33 @@ import io.awportfoiioapi.apiresponse.ApiResponse;
 import io.awportfoiioapi.category.dto.request.CategoryPostRequest;
 import io.awportfoiioapi.category.dto.request.CategoryPutRequest;
 import io.awportfoiioapi.category.dto.response.CategoryGetAllResponse;
+import io.awportfoiioapi.category.dto.response.CategoryCountResponse;
 import io.awportfoiioapi.category.dto.response.CategoryGetResponse;
+import io.awportfoiioapi.category.entity.Category;
+import io.awportfoiioapi.category.repository.CategoryRepository;
+import io.awportfoiioapi.counter.service.CounterService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class CategoryServiceImplTest extends RepositoryAndServiceTestSupport {
     
+    @Autowired
+    private CounterService counterService;
+    
+    @Autowired
+    private CategoryRepository categoryRepository;
+    
     @DisplayName("카테고리 생성")
     @Test
     void test1() {
@@ -93,4 +108,22 @@ class CategoryServiceImplTest extends RepositoryAndServiceTestSupport {
         List<CategoryGetAllResponse> allResponse = categoryService.getAllResponse();
         System.out.println("allResponse = " + allResponse);
     }
-}
\ No newline at end of file
+    
+    @DisplayName("카운터 전체 보정 후 카테고리 포트폴리오 수 조회")
+    @Test
+    void test9() {
+        counterService.repairCounters();
+        
+        List<Long> categoryIds = categoryRepository.findAll().stream().map(Category::getId).toList();
+        
+        // 원본 테이블 기준 재집계 (포트폴리오 없는 카테고리는 0)
+        Map<Long, Long> aggregated = categoryRepository.getCategoryCount(categoryIds).stream()
+                .collect(Collectors.toMap(CategoryCountResponse::getId, CategoryCountResponse::getCnt));
+        Map<Long, Long> expected = categoryIds.stream()
+                .collect(Collectors.toMap(Function.identity(), id -> aggregated.getOrDefault(id, 0L)));
+        
+        Map<Long, Long> categoryCounts = counterService.getCategoryCounts(categoryIds);
+        
+        assertThat(categoryCounts).isEqualTo(expected);
+    }
+}
@@ -2,14 +2,31 @@ package io.awportfoiioapi.excel.service.impl;
 
 import io.awportfoiioapi.RepositoryAndServiceTestSupport;
 import io.awportfoiioapi.apiresponse.ApiResponse;
+import io.awportfoiioapi.excel.dto.request.ExcelExportJobRequest;
 import io.awportfoiioapi.excel.dto.request.ExcelRequest;
+import io.awportfoiioapi.excel.dto.response.ExcelExportJobResponse;
+import io.awportfoiioapi.excel.enums.ExcelExportJobStatus;
+import io.awportfoiioapi.excel.plan.ExcelColumnPlan;
+import io.awportfoiioapi.excel.plan.ExcelColumnPlanProvider;
+import io.awportfoiioapi.excel.service.ExcelExportJobService;
+import io.awportfoiioapi.metrics.QueryBudgetScope;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 class ExcelServiceImplTest extends RepositoryAndServiceTestSupport {
     
+    @Autowired
+    private ExcelColumnPlanProvider excelColumnPlanProvider;
+    
+    @Autowired
+    private ExcelExportJobService excelExportJobService;
     
     @DisplayName("")
     @Test
@@ -30,4 +47,62 @@ class ExcelServiceImplTest extends RepositoryAndServiceTestSupport {
         System.out.println("apiResponse = " + apiResponse);
         
     }
-}
\ No newline at end of file
+    
+    @DisplayName("포트폴리오 제출완료 전체 엑셀")
+    @Test
+    void test3() throws IOException {
+        
+        Long portfolioId = 12L;
+        try (OutputStream out = new FileOutputStream("build/submissions.xlsx")) {
+            excelService.writeSubmissionsExcel(portfolioId, out);
+        }
+    }
+    
+    @DisplayName("엑셀 컬럼 플랜 캐시")
+    @Test
+    void test4() {
+        
+        Long portfolioId = 12L;
+        ExcelColumnPlan first = excelColumnPlanProvider.getPlan(portfolioId);
+        ExcelColumnPlan second = excelColumnPlanProvider.getPlan(portfolioId);
+        assertSame(first, second);
+        System.out.println("columnCount = " + first.getColumnCount());
+        
+        excelColumnPlanProvider.evict(portfolioId);
+        assertNotSame(first, excelColumnPlanProvider.getPlan(portfolioId));
+    }
+    
+    @DisplayName("엑셀 내보내기 작업 등록 후 완료까지 상태 조회")
+    @Test
+    void test5() throws InterruptedException {
+        
+        ExcelExportJobResponse job = excelExportJobService.createJob(new ExcelExportJobRequest(12L));
+        
+        for (int i = 0; i < 60 && job.getStatus() != ExcelExportJobStatus.DONE && job.getStatus() != ExcelExportJobStatus.FAILED; i++) {
+            Thread.sleep(500);
+            job = excelExportJobService.getJob(job.getJobId());
+            System.out.println("progress = " + job.getRowsWritten() + "/" + job.getTotalRows());
+        }
+        
+        assertEquals(ExcelExportJobStatus.DONE, job.getStatus());
+        System.out.println("downloadUrl = " + job.getDownloadUrl());
+    }
+    
+    @DisplayName("포트폴리오 복사 쿼리 수 (문항 수만큼 옵션 조회 반복 X)")
+    @Test
+    void test6() {
+        
+        QueryBudgetScope result = countQueries(() -> excelService.copyPortfolio(14L));
+        System.out.println("statements = " + result.getStatements());
+        System.out.println("maxRepeats = " + result.getMaxRepeats());
+        result.getShapes().forEach((shape, count) -> System.out.println(count + " :: " + shape));
+        
+        // 옵션 조회는 문항 수와 상관없이 한 번
+        result.getShapes().forEach((shape, count) -> {
+            String lower = shape.toLowerCase();
+            if (lower.startsWith("select") && lower.contains(" from options ")) {
+                assertEquals(1, count);
+            }
+        });
+    }
+}
@@ -0,0 +1,273 @@
+package io.awportfoiioapi.load;
+
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Utilities;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.NoSuchUploadException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 메모리 S3 (load 프로파일)
+ * - 서비스가 사용하는 put / 멀티파트 업로드 / delete / deleteObjects / get / listObjectsV2 / utilities 만 구현
+ * - 호출마다 latency ± jitter 만큼 대기해서 실제 S3 왕복 시간을 흉내냄
+ */
+public class InMemoryS3Client implements S3Client {
+    
+    private record StoredObject(byte[] bytes, String contentType, Map<String, String> metadata, Instant lastModified) {
+    }
+    
+    private record PendingUpload(String bucket, String key, String contentType, Map<String, String> metadata,
+                                 Map<Integer, byte[]> parts) {
+    }
+    
+    private final Map<String, StoredObject> objects = new ConcurrentHashMap<>();
+    private final Map<String, PendingUpload> uploads = new ConcurrentHashMap<>();
+    
+    private final S3Utilities utilities;
+    private final Duration latency;
+    private final Duration jitter;
+    
+    private final AtomicLong puts = new AtomicLong();
+    private final AtomicLong multipartUploads = new AtomicLong();
+    private final AtomicLong deletes = new AtomicLong();
+    private final AtomicLong bytesStored = new AtomicLong();
+    
+    public InMemoryS3Client(Region region, Duration latency, Duration jitter) {
+        this.utilities = S3Utilities.builder().region(region).build();
+        this.latency = latency;
+        this.jitter = jitter;
+    }
+    
+    @Override
+    public PutObjectResponse putObject(PutObjectRequest request, RequestBody requestBody) {
+        delay();
+        byte[] bytes = read(requestBody);
+        objects.put(key(request.bucket(), request.key()),
+                new StoredObject(bytes, request.contentType(), request.metadata(), Instant.now()));
+        puts.incrementAndGet();
+        bytesStored.addAndGet(bytes.length);
+        return PutObjectResponse.builder().eTag(Integer.toHexString(bytes.length)).build();
+    }
+    
+    @Override
+    public CreateMultipartUploadResponse createMultipartUpload(CreateMultipartUploadRequest request) {
+        delay();
+        String uploadId = UUID.randomUUID().toString();
+        uploads.put(uploadId, new PendingUpload(request.bucket(), request.key(), request.contentType(), request.metadata(),
+                new ConcurrentHashMap<>()));
+        return CreateMultipartUploadResponse.builder().uploadId(uploadId).build();
+    }
+    
+    @Override
+    public UploadPartResponse uploadPart(UploadPartRequest request, RequestBody requestBody) {
+        delay();
+        PendingUpload upload = pending(request.uploadId());
+        byte[] bytes = read(requestBody);
+        upload.parts().put(request.partNumber(), bytes);
+        return UploadPartResponse.builder().eTag(request.partNumber() + "-" + bytes.length).build();
+    }
+    
+    @Override
+    public CompleteMultipartUploadResponse completeMultipartUpload(CompleteMultipartUploadRequest request) {
+        delay();
+        PendingUpload upload = pending(request.uploadId());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (CompletedPart part : request.multipartUpload().parts()) {
+            out.writeBytes(upload.parts().get(part.partNumber()));
+        }
+        byte[] bytes = out.toByteArray();
+        uploads.remove(request.uploadId());
+        objects.put(key(upload.bucket(), upload.key()),
+                new StoredObject(bytes, upload.contentType(), upload.metadata(), Instant.now()));
+        puts.incrementAndGet();
+        multipartUploads.incrementAndGet();
+        bytesStored.addAndGet(bytes.length);
+        return CompleteMultipartUploadResponse.builder().bucket(upload.bucket()).key(upload.key()).build();
+    }
+    
+    @Override
+    public AbortMultipartUploadResponse abortMultipartUpload(AbortMultipartUploadRequest request) {
+        delay();
+        uploads.remove(request.uploadId());
+        return AbortMultipartUploadResponse.builder().build();
+    }
+    
+    @Override
+    public DeleteObjectResponse deleteObject(DeleteObjectRequest request) {
+        delay();
+        objects.remove(key(request.bucket(), request.key()));
+        deletes.incrementAndGet();
+        return DeleteObjectResponse.builder().build();
+    }
+    
+    @Override
+    public DeleteObjectsResponse deleteObjects(DeleteObjectsRequest request) {
+        delay();
+        for (ObjectIdentifier object : request.delete().objects()) {
+            objects.remove(key(request.bucket(), object.key()));
+            deletes.incrementAndGet();
+        }
+        return DeleteObjectsResponse.builder().build();
+    }
+    
+    @Override
+    public <ReturnT> ReturnT getObject(GetObjectRequest request, ResponseTransformer<GetObjectResponse, ReturnT> transformer) {
+        delay();
+        StoredObject object = objects.get(key(request.bucket(), request.key()));
+        if (object == null) {
+            throw NoSuchKeyException.builder().message("NoSuchKey : " + request.key()).build();
+        }
+        GetObjectResponse response = GetObjectResponse.builder()
+                .contentLength((long) object.bytes().length)
+                .contentType(object.contentType())
+                .metadata(object.metadata())
+                .lastModified(object.lastModified())
+                .build();
+        try {
+            return transformer.transform(response, AbortableInputStream.create(new ByteArrayInputStream(object.bytes())));
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+    
+    @Override
+    public ResponseInputStream<GetObjectResponse> getObject(GetObjectRequest request) {
+        return getObject(request, ResponseTransformer.toInputStream());
+    }
+    
+    @Override
+    public ListObjectsV2Response listObjectsV2(ListObjectsV2Request request) {
+        delay();
+        String prefix = key(request.bucket(), request.prefix() == null ? "" : request.prefix());
+        int bucketLength = request.bucket().length() + 1;
+        List<S3Object> contents = objects.entrySet().stream()
+                .filter(e -> e.getKey().startsWith(prefix))
+                .map(e -> S3Object.builder()
+                        .key(e.getKey().substring(bucketLength))
+                        .size((long) e.getValue().bytes().length)
+                        .lastModified(e.getValue().lastModified())
+                        .build())
+                .toList();
+        return ListObjectsV2Response.builder()
+                .contents(contents)
+                .keyCount(contents.size())
+                .isTruncated(false)
+                .build();
+    }
+    
+    @Override
+    public S3Utilities utilities() {
+        return utilities;
+    }
+    
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+    
+    @Override
+    public void close() {
+        objects.clear();
+    }
+    
+    public int objectCount() {
+        return objects.size();
+    }
+    
+    public long putCount() {
+        return puts.get();
+    }
+    
+    public long multipartUploadCount() {
+        return multipartUploads.get();
+    }
+    
+    /**
+     * 완료/취소되지 않은 멀티파트 업로드 수
+     */
+    public int pendingUploadCount() {
+        return uploads.size();
+    }
+    
+    public long deleteCount() {
+        return deletes.get();
+    }
+    
+    public long bytesStored() {
+        return bytesStored.get();
+    }
+    
+    private PendingUpload pending(String uploadId) {
+        PendingUpload upload = uploads.get(uploadId);
+        if (upload == null) {
+            throw NoSuchUploadException.builder().message("NoSuchUpload : " + uploadId).build();
+        }
+        return upload;
+    }
+    
+    private static byte[] read(RequestBody requestBody) {
+        try (InputStream in = requestBody.contentStreamProvider().newStream()) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private static String key(String bucket, String key) {
+        return bucket + "/" + key;
+    }
+    
+    private void delay() {
+        long nanos = latency.toNanos();
+        if (!jitter.isZero()) {
+            nanos += ThreadLocalRandom.current().nextLong(-jitter.toNanos(), jitter.toNanos() + 1);
+        }
+        if (nanos <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(nanos / 1_000_000, (int) (nanos % 1_000_000));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
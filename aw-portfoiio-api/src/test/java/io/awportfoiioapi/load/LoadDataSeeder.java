@@ -0,0 +1,245 @@
+package io.awportfoiioapi.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.awportfoiioapi.category.entity.Category;
+import io.awportfoiioapi.category.repository.CategoryRepository;
+import io.awportfoiioapi.counter.service.CounterService;
+import io.awportfoiioapi.member.entrity.Member;
+import io.awportfoiioapi.member.repository.MemberRepository;
+import io.awportfoiioapi.options.entity.Options;
+import io.awportfoiioapi.options.enums.OptionsType;
+import io.awportfoiioapi.options.respotiroy.OptionsRepository;
+import io.awportfoiioapi.portfolio.entity.Portfolio;
+import io.awportfoiioapi.portfolio.repository.PortfolioRepository;
+import io.awportfoiioapi.question.entity.Question;
+import io.awportfoiioapi.question.respotiroy.QuestionRepository;
+import io.awportfoiioapi.submission.entity.Submission;
+import io.awportfoiioapi.submission.repository.SubmissionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * load 프로파일 시드 데이터
+ * - 카테고리 / 포트폴리오 / 질문 / 옵션 / 회원 / 제출(완료 + 임시저장)
+ * - 옵션 타입은 엑셀 작성기가 모두 지나가도록 PARLOR / SPECIAL / REFUND / CHECKBOX / TEXT 를 섞는다
+ */
+@Component
+@Profile("load")
+public class LoadDataSeeder {
+    
+    // 질문 안에서 옵션 타입 순환 순서
+    private static final OptionsType[] TYPES = {
+            OptionsType.TEXT, OptionsType.CHECKBOX, OptionsType.TEXTAREA, OptionsType.TEXT,
+            OptionsType.PARLOR, OptionsType.SPECIAL, OptionsType.REFUND, OptionsType.FILE
+    };
+    
+    private final CategoryRepository categoryRepository;
+    private final PortfolioRepository portfolioRepository;
+    private final QuestionRepository questionRepository;
+    private final OptionsRepository optionsRepository;
+    private final MemberRepository memberRepository;
+    private final SubmissionRepository submissionRepository;
+    private final CounterService counterService;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    
+    @Value("${load.seed.categories:5}")
+    private int categories;
+    
+    @Value("${load.seed.portfolios:50}")
+    private int portfolios;
+    
+    @Value("${load.seed.questions-per-portfolio:10}")
+    private int questionsPerPortfolio;
+    
+    @Value("${load.seed.options-per-question:4}")
+    private int optionsPerQuestion;
+    
+    @Value("${load.seed.members:200}")
+    private int members;
+    
+    @Value("${load.seed.submissions-per-portfolio:40}")
+    private int submissionsPerPortfolio;
+    
+    public LoadDataSeeder(CategoryRepository categoryRepository,
+                          PortfolioRepository portfolioRepository,
+                          QuestionRepository questionRepository,
+                          OptionsRepository optionsRepository,
+                          MemberRepository memberRepository,
+                          SubmissionRepository submissionRepository,
+                          CounterService counterService,
+                          TransactionTemplate transactionTemplate,
+                          ObjectMapper objectMapper) {
+        this.categoryRepository = categoryRepository;
+        this.portfolioRepository = portfolioRepository;
+        this.questionRepository = questionRepository;
+        this.optionsRepository = optionsRepository;
+        this.memberRepository = memberRepository;
+        this.submissionRepository = submissionRepository;
+        this.counterService = counterService;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+    }
+    
+    /**
+     * 시드 결과 (부하 드라이버가 대상 선택에 사용)
+     */
+    public record Seed(List<Long> portfolioIds, List<Long> memberIds, Map<Long, List<Options>> optionsByPortfolio) {
+    }
+    
+    public Seed seed() {
+        
+        Seed seed = transactionTemplate.execute(status -> {
+            
+            List<Category> categoryList = new ArrayList<>();
+            for (int i = 0; i < categories; i++) {
+                categoryList.add(Category.builder()
+                        .categoryName("카테고리" + i)
+                        .categoryOrders(i)
+                        .categorySlug("category-" + i)
+                        .build());
+            }
+            categoryRepository.saveAll(categoryList);
+            
+            List<Member> memberList = new ArrayList<>();
+            for (int i = 0; i < members; i++) {
+                memberList.add(Member.builder()
+                        .loginId("load-user-" + i)
+                        .password("{noop}load")
+                        .name("부하테스트" + i)
+                        .newIs(true)
+                        .build());
+            }
+            memberRepository.saveAll(memberList);
+            
+            List<Long> portfolioIds = new ArrayList<>();
+            Map<Long, List<Options>> optionsByPortfolio = new HashMap<>();
+            
+            for (int p = 0; p < portfolios; p++) {
+                
+                Portfolio portfolio = portfolioRepository.save(Portfolio.builder()
+                        .category(categoryList.get(p % categoryList.size()))
+                        .title("포트폴리오 " + p)
+                        .description("부하 테스트용 포트폴리오")
+                        .domain("https://load-" + p + ".example.com")
+                        .orders(p)
+                        .slug("portfolio-" + p)
+                        .thumbnail("https://load-bucket.s3.ap-northeast-2.amazonaws.com/portfolio/thumbnail-" + p + ".jpg")
+                        .isActive(true)
+                        .build());
+                portfolioIds.add(portfolio.getId());
+                
+                List<Options> portfolioOptions = seedQuestions(portfolio);
+                optionsByPortfolio.put(portfolio.getId(), portfolioOptions);
+                
+                List<Submission> submissions = new ArrayList<>();
+                for (int s = 0; s < submissionsPerPortfolio; s++) {
+                    Member member = memberList.get((p * submissionsPerPortfolio + s) % memberList.size());
+                    boolean draft = s % 5 == 0;
+                    submissions.add(Submission.builder()
+                            .portfolio(portfolio)
+                            .member(member)
+                            .companyName(member.getLoginId())
+                            .password(member.getPassword())
+                            .submissionJson(submissionJson(portfolioOptions))
+                            .isDraft(draft)
+                            .completedDate(draft ? null : LocalDateTime.now().minusDays(s))
+                            .build());
+                }
+                submissionRepository.saveAll(submissions);
+            }
+            
+            return new Seed(portfolioIds, memberList.stream().map(Member::getId).toList(), optionsByPortfolio);
+        });
+        
+        // 질문 / 제출 / 포트폴리오 수 카운터 생성
+        counterService.repairCounters();
+        return seed;
+    }
+    
+    private List<Options> seedQuestions(Portfolio portfolio) {
+        
+        List<Question> questions = new ArrayList<>();
+        for (int q = 0; q < questionsPerPortfolio; q++) {
+            questions.add(Question.builder().portfolio(portfolio).step(q + 1).build());
+        }
+        questionRepository.saveAll(questions);
+        
+        List<Options> options = new ArrayList<>();
+        int typeIdx = 0;
+        for (Question question : questions) {
+            for (int o = 0; o < optionsPerQuestion; o++) {
+                OptionsType type = TYPES[typeIdx++ % TYPES.length];
+                options.add(Options.builder()
+                        .question(question)
+                        .orders(o + 1)
+                        .title(type.getValue() + " " + question.getStep() + "-" + (o + 1))
+                        .description("부하 테스트 옵션")
+                        .type(type)
+                        .minLength(0)
+                        .maxLength(500)
+                        .minLengthIsActive(false)
+                        .optionsIsActive(true)
+                        .option(type == OptionsType.CHECKBOX ? "[\"항목1\",\"항목2\",\"항목3\",\"기타\"]" : null)
+                        .build());
+            }
+        }
+        return optionsRepository.saveAll(options);
+    }
+    
+    /**
+     * 옵션 타입별 응답 JSON
+     */
+    public String submissionJson(List<Options> options) {
+        
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        ObjectNode root = objectMapper.createObjectNode();
+        
+        for (Options option : options) {
+            String key = String.valueOf(option.getId());
+            switch (option.getType()) {
+                case TEXT -> root.put(key, "단답형 응답 " + random.nextInt(1000));
+                case TEXTAREA -> root.put(key, "장문형 응답입니다. ".repeat(1 + random.nextInt(20)));
+                case CHECKBOX -> {
+                    ObjectNode answer = root.putObject(key);
+                    answer.putArray("checked").add("항목1").add("기타");
+                    answer.putObject("inputs").put("기타", "직접 입력 " + random.nextInt(100));
+                }
+                case PARLOR -> {
+                    ArrayNode rooms = root.putArray("rooms");
+                    for (int i = 0; i < 1 + random.nextInt(8); i++) {
+                        ObjectNode room = rooms.addObject()
+                                .put("id", "room-" + i)
+                                .put("name", "객실 " + i)
+                                .put("desc", "오션뷰 객실")
+                                .put("type", "침대")
+                                .put("amenities", "TV, 냉장고");
+                        room.putObject("capacity").put("standard", "2").put("max", "4");
+                        room.putObject("priceLow").put("weekday", "80000").put("fri", "100000").put("sat", "120000").put("sun", "90000");
+                    }
+                }
+                case SPECIAL -> root.putArray("specials").addObject().put("id", "special-1").put("name", "바베큐").put("desc", "숯 포함");
+                case REFUND -> {
+                    ArrayNode refunds = root.putArray("refunds");
+                    refunds.addObject().put("id", "refund-1").put("percent", "0");
+                    refunds.addObject().put("id", "refund-2").put("day", "3").put("percent", "50");
+                }
+                default -> {
+                    // 파일은 COMMON_FILE 로 관리
+                }
+            }
+        }
+        return root.toString();
+    }
+}
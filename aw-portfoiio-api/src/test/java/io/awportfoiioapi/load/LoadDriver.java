@@ -0,0 +1,169 @@
+package io.awportfoiioapi.load;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 부하 드라이버
+ * - 작업(Operation)을 비율(weight)대로 골라 concurrency 개 스레드에서 반복 실행 (closed-loop, 대기 없음)
+ * - 워밍업 구간은 기록하지 않고, 측정 구간의 작업별 지연시간 / 오류 / 처리량을 LoadReport 로 반환
+ */
+public class LoadDriver {
+    
+    @FunctionalInterface
+    public interface Task {
+        void run() throws Exception;
+    }
+    
+    public record Operation(String name, int weight, Task task) {
+    }
+    
+    private final List<Operation> operations;
+    private final int[] cumulative;
+    private final int totalWeight;
+    
+    public LoadDriver(List<Operation> operations) {
+        this.operations = operations.stream().filter(op -> op.weight() > 0).toList();
+        if (this.operations.isEmpty()) {
+            throw new IllegalArgumentException("실행할 작업이 없습니다.");
+        }
+        this.cumulative = new int[this.operations.size()];
+        int sum = 0;
+        for (int i = 0; i < this.operations.size(); i++) {
+            sum += this.operations.get(i).weight();
+            cumulative[i] = sum;
+        }
+        this.totalWeight = sum;
+    }
+    
+    /**
+     * "list:40,form:30" -> {list=40, form=30}
+     */
+    public static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("load.mix 형식 오류 : " + entry);
+            }
+            weights.put(parts[0].trim(), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+    
+    public LoadReport run(int concurrency, Duration warmup, Duration duration) throws InterruptedException {
+        
+        // 워밍업 (기록 안함)
+        execute(concurrency, warmup, null);
+        
+        Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+        for (Operation operation : operations) {
+            recorders.put(operation.name(), new LatencyRecorder());
+        }
+        
+        long start = System.nanoTime();
+        execute(concurrency, duration, recorders);
+        long elapsed = System.nanoTime() - start;
+        
+        List<LoadReport.OperationResult> results = new ArrayList<>();
+        recorders.forEach((name, recorder) -> results.add(recorder.result(name)));
+        return new LoadReport(concurrency, elapsed, results);
+    }
+    
+    private void execute(int concurrency, Duration duration, Map<String, LatencyRecorder> recorders) throws InterruptedException {
+        
+        if (duration.isZero() || duration.isNegative()) {
+            return;
+        }
+        
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        
+        for (int i = 0; i < concurrency; i++) {
+            executor.execute(() -> {
+                while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+                    Operation operation = pick();
+                    long begin = System.nanoTime();
+                    Exception error = null;
+                    try {
+                        operation.task().run();
+                    } catch (Exception e) {
+                        error = e;
+                    }
+                    if (recorders != null) {
+                        recorders.get(operation.name()).record(System.nanoTime() - begin, error);
+                    }
+                }
+            });
+        }
+        
+        executor.shutdown();
+        if (!executor.awaitTermination(duration.toMillis() + TimeUnit.MINUTES.toMillis(5), TimeUnit.MILLISECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+    
+    private Operation pick() {
+        int r = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (int i = 0; i < cumulative.length; i++) {
+            if (r < cumulative[i]) {
+                return operations.get(i);
+            }
+        }
+        return operations.get(operations.size() - 1);
+    }
+    
+    /**
+     * 작업별 지연시간 기록 (ns)
+     */
+    private static final class LatencyRecorder {
+        
+        private long[] samples = new long[1024];
+        private int size;
+        private long errors;
+        private String firstError;
+        
+        synchronized void record(long nanos, Exception error) {
+            if (size == samples.length) {
+                samples = Arrays.copyOf(samples, size * 2);
+            }
+            samples[size++] = nanos;
+            if (error != null) {
+                errors++;
+                if (firstError == null) {
+                    firstError = error.toString();
+                }
+            }
+        }
+        
+        synchronized LoadReport.OperationResult result(String name) {
+            long[] sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            return new LoadReport.OperationResult(
+                    name,
+                    size,
+                    errors,
+                    firstError,
+                    percentile(sorted, 0.50),
+                    percentile(sorted, 0.99),
+                    size == 0 ? 0 : sorted[size - 1]
+            );
+        }
+        
+        private static long percentile(long[] sorted, double p) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(p * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+        }
+    }
+}
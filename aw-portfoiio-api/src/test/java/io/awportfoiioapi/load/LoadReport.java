@@ -0,0 +1,46 @@
+package io.awportfoiioapi.load;
+
+import java.util.List;
+
+/**
+ * 부하 테스트 결과 (작업별 p50 / p99 / 최대 / 처리량)
+ */
+public record LoadReport(int concurrency, long elapsedNanos, List<OperationResult> operations) {
+    
+    public record OperationResult(String name, long count, long errors, String firstError, long p50Nanos, long p99Nanos, long maxNanos) {
+    }
+    
+    public long totalCount() {
+        return operations.stream().mapToLong(OperationResult::count).sum();
+    }
+    
+    public long totalErrors() {
+        return operations.stream().mapToLong(OperationResult::errors).sum();
+    }
+    
+    public double throughput(long count) {
+        return elapsedNanos == 0 ? 0 : count / (elapsedNanos / 1_000_000_000.0);
+    }
+    
+    public String format() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("concurrency=%d, elapsed=%.1fs%n", concurrency, elapsedNanos / 1_000_000_000.0));
+        sb.append(String.format("%-10s %8s %7s %10s %10s %10s %10s%n", "operation", "count", "errors", "ops/s", "p50(ms)", "p99(ms)", "max(ms)"));
+        for (OperationResult op : operations) {
+            sb.append(String.format("%-10s %8d %7d %10.1f %10.1f %10.1f %10.1f%n",
+                    op.name(), op.count(), op.errors(), throughput(op.count()),
+                    millis(op.p50Nanos()), millis(op.p99Nanos()), millis(op.maxNanos())));
+        }
+        sb.append(String.format("%-10s %8d %7d %10.1f%n", "total", totalCount(), totalErrors(), throughput(totalCount())));
+        for (OperationResult op : operations) {
+            if (op.firstError() != null) {
+                sb.append(String.format("첫 오류 [%s] %s%n", op.name(), op.firstError()));
+            }
+        }
+        return sb.toString();
+    }
+    
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,49 @@
+package io.awportfoiioapi.load;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * load 프로파일 S3 대체
+ * - S3Client : 메모리 저장소 + 지연 흉내 (InMemoryS3Client)
+ * - S3Presigner : 서명은 로컬 계산이므로 더미 자격증명 + 로컬 endpoint 로 실제 구현 사용 (네트워크 호출 없음)
+ */
+@Configuration
+@Profile("load")
+public class LoadS3Config {
+    
+    @Value("${spring.cloud.aws.region.static}")
+    private String region;
+    
+    @Value("${load.s3.latency:20ms}")
+    private Duration latency;
+    
+    @Value("${load.s3.jitter:5ms}")
+    private Duration jitter;
+    
+    @Bean
+    @Primary
+    public InMemoryS3Client inMemoryS3Client() {
+        return new InMemoryS3Client(Region.of(region), latency, jitter);
+    }
+    
+    @Bean
+    @Primary
+    public S3Presigner loadS3Presigner() {
+        return S3Presigner.builder()
+                .region(Region.of(region))
+                .endpointOverride(URI.create("http://localhost:4566"))
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("load", "load")))
+                .build();
+    }
+}
@@ -0,0 +1,151 @@
+package io.awportfoiioapi.load;
+
+import io.awportfoiioapi.RepositoryAndServiceTestSupport;
+import io.awportfoiioapi.apiresponse.ApiResponse;
+import io.awportfoiioapi.options.entity.Options;
+import io.awportfoiioapi.options.enums.OptionsType;
+import io.awportfoiioapi.submission.dto.request.SubmissionPostDraftRequest;
+import io.awportfoiioapi.submission.dto.request.SubmissionPostRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 부하 테스트 (./gradlew loadTest, 일반 test 에서는 제외)
+ * - H2 + 메모리 S3 위에서 서비스 계층을 직접 호출 (HTTP / 인증 필터 제외)
+ * - 설정은 application-load.yml 의 load.* (-Dload.concurrency=32 처럼 덮어쓰기 가능)
+ */
+@Tag("load")
+@ActiveProfiles("load")
+class LoadTest extends RepositoryAndServiceTestSupport {
+    
+    @Autowired
+    private LoadDataSeeder loadDataSeeder;
+    
+    @Autowired
+    private InMemoryS3Client inMemoryS3Client;
+    
+    @Value("${load.concurrency:16}")
+    private int concurrency;
+    
+    @Value("${load.warmup:10s}")
+    private Duration warmup;
+    
+    @Value("${load.duration:30s}")
+    private Duration duration;
+    
+    @Value("${load.mix}")
+    private String mix;
+    
+    @Value("${load.files-per-draft:2}")
+    private int filesPerDraft;
+    
+    @Value("${load.file-size:256KB}")
+    private DataSize fileSize;
+    
+    private record Draft(Long submissionId, Long memberId, Long portfolioId) {
+    }
+    
+    @DisplayName("포트폴리오 목록 / 양식 조회 / 임시저장(파일) / 제출 / 엑셀 혼합 부하")
+    @Test
+    void test1() throws InterruptedException {
+        
+        LoadDataSeeder.Seed seed = loadDataSeeder.seed();
+        System.out.println("seed portfolios = " + seed.portfolioIds().size() + ", members = " + seed.memberIds().size());
+        
+        byte[] fileBytes = new byte[(int) fileSize.toBytes()];
+        ThreadLocalRandom.current().nextBytes(fileBytes);
+        
+        // 임시저장 -> 제출 대기열
+        Queue<Draft> drafts = new ConcurrentLinkedQueue<>();
+        
+        Map<String, Integer> weights = LoadDriver.parseMix(mix);
+        List<LoadDriver.Operation> operations = List.of(
+                new LoadDriver.Operation("list", weights.getOrDefault("list", 0), () ->
+                        portfolioService.getPortfolioList(Boolean.TRUE, null)),
+                
+                new LoadDriver.Operation("form", weights.getOrDefault("form", 0), () -> {
+                    Long portfolioId = random(seed.portfolioIds());
+                    portfolioService.getPortfolioOneDetail(portfolioId);
+                    portfolioService.getPortfolioDetailOptions(portfolioId);
+                }),
+                
+                new LoadDriver.Operation("draft", weights.getOrDefault("draft", 0), () -> {
+                    Long portfolioId = random(seed.portfolioIds());
+                    Long memberId = random(seed.memberIds());
+                    List<Options> options = seed.optionsByPortfolio().get(portfolioId);
+                    
+                    ApiResponse response = submissionService.temporaryStorage(new SubmissionPostDraftRequest(
+                            null, memberId, portfolioId, loadDataSeeder.submissionJson(options), draftFiles(options, fileBytes)));
+                    drafts.add(new Draft(response.getSubmissionId(), memberId, portfolioId));
+                }),
+                
+                new LoadDriver.Operation("submit", weights.getOrDefault("submit", 0), () -> {
+                    Draft draft = drafts.poll();
+                    if (draft == null) {
+                        Long portfolioId = random(seed.portfolioIds());
+                        draft = new Draft(null, random(seed.memberIds()), portfolioId);
+                    }
+                    submissionService.createSubmission(new SubmissionPostRequest(
+                            draft.submissionId(), draft.memberId(), draft.portfolioId(),
+                            loadDataSeeder.submissionJson(seed.optionsByPortfolio().get(draft.portfolioId())), null));
+                }),
+                
+                new LoadDriver.Operation("export", weights.getOrDefault("export", 0), () ->
+                        excelService.writeSubmissionsExcel(random(seed.portfolioIds()), OutputStream.nullOutputStream()))
+        );
+        
+        LoadReport report = new LoadDriver(operations).run(concurrency, warmup, duration);
+        
+        System.out.println(report.format());
+        System.out.println("s3 objects = " + inMemoryS3Client.objectCount()
+                + ", puts = " + inMemoryS3Client.putCount()
+                + ", multipart = " + inMemoryS3Client.multipartUploadCount()
+                + ", deletes = " + inMemoryS3Client.deleteCount()
+                + ", bytes = " + inMemoryS3Client.bytesStored());
+        
+        assertTrue(report.totalCount() > 0);
+        assertEquals(0, report.totalErrors());
+        // 멀티파트 업로드는 모두 완료 또는 abort
+        assertEquals(0, inMemoryS3Client.pendingUploadCount());
+    }
+    
+    private List<SubmissionPostDraftRequest.OptionFileRequest> draftFiles(List<Options> options, byte[] fileBytes) {
+        
+        List<SubmissionPostDraftRequest.OptionFileRequest> optionFiles = new ArrayList<>();
+        
+        options.stream()
+                .filter(option -> option.getType() == OptionsType.FILE)
+                .findFirst()
+                .ifPresent(option -> {
+                    List<MultipartFile> files = new ArrayList<>();
+                    for (int i = 0; i < filesPerDraft; i++) {
+                        files.add(new MockMultipartFile("files", "load-" + i + ".jpg", "image/jpeg", fileBytes));
+                    }
+                    optionFiles.add(new SubmissionPostDraftRequest.OptionFileRequest(option.getId(), 1, 1, null, files));
+                });
+        
+        return optionFiles;
+    }
+    
+    private static Long random(List<Long> ids) {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+}
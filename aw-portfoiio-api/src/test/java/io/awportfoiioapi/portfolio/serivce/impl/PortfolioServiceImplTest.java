@@ -11,8 +11,10 @@ import io.awportfoiioapi.portfolio.dto.response.PortfolioResponse;
 import io.awportfoiioapi.portfolio.dto.response.PortfoliosGetDetailResponse;
 import io.awportfoiioapi.portfolio.dto.response.PortfoliosOneGetResponse;
 import io.awportfoiioapi.portfolio.entity.Portfolio;
+import io.awportfoiioapi.utils.S3FileUtils;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.mock.web.MockMultipartFile;
@@ -23,10 +25,14 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 class PortfolioServiceImplTest extends RepositoryAndServiceTestSupport {
+    
+    @Autowired
+    private S3FileUtils s3FileUtils;
 
     @DisplayName("포트폴리오 업로드(파일포함 , 카테고리 포함)")
     @Test
@@ -230,6 +236,28 @@ class PortfolioServiceImplTest extends RepositoryAndServiceTestSupport {
         
     }
     
+    @DisplayName("썸네일 presigned 일괄 변환 (단건 변환과 동일 key)")
+    @Test
+    void test18(){
+        String url = "https://bucket.s3.ap-northeast-2.amazonaws.com/portfolio/a.png";
+        
+        Map<String, String> presignedMap = s3FileUtils.createPresignedUrlsFromUrls(List.of(url, url));
+        
+        assertEquals(1, presignedMap.size());
+        assertEquals("portfolio/a.png", s3FileUtils.getFileNameFromUrl(url + "?x=1"));
+        assertEquals(s3FileUtils.createPresignedUrl("portfolio/a.png"), presignedMap.get(url));
+    }
+    
+    @DisplayName("양식 캐시 - 반복 조회 시 캐시 원본이 presigned 로 바뀌지 않음")
+    @Test
+    void test19(){
+        List<PortfoliosGetDetailResponse> first = portfolioService.getPortfolioDetailOptions(7L);
+        List<PortfoliosGetDetailResponse> second = portfolioService.getPortfolioDetailOptions(7L);
+        
+        assertEquals(first.size(), second.size());
+        System.out.println("second = " + second);
+    }
+    
     private PortfolioPutRequest.ThumbnailRequest  thumbnailKeep() {
         // 썸네일 유지: thumbnail 객체 자체를 null로 보내도 되고,
         // 객체를 보내되 (file=null, remove=false)로 보내도 됨.
@@ -276,4 +304,14 @@ class PortfolioServiceImplTest extends RepositoryAndServiceTestSupport {
             return new MockMultipartFile("thumbnail", file.getName(), contentType, fis);
         }
     }
-}
\ No newline at end of file
+    
+    @DisplayName("포트폴리오 목록 조회 쿼리 한도 (N+1 없음)")
+    @Test
+    void test20() {
+        
+        assertQueryBudget(10, 1, () -> {
+            List<PortfolioResponse> portfolioList = portfolioService.getPortfolioList();
+            System.out.println("portfolioList = " + portfolioList.size());
+        });
+    }
+}
@@ -0,0 +1,236 @@
+package io.awportfoiioapi.submission.buffer;
+
+import io.awportfoiioapi.advice.exception.SubmissionVersionConflictException;
+import io.awportfoiioapi.submission.dto.request.SubmissionDraftUpdate;
+import io.awportfoiioapi.submission.dto.request.SubmissionPostDraftRequest;
+import io.awportfoiioapi.submission.progress.SubmissionProgress;
+import io.awportfoiioapi.submission.progress.SubmissionProgressCalculator;
+import io.awportfoiioapi.submission.repository.SubmissionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SubmissionDraftBufferTest {
+    
+    private static final long BASE_VERSION = 5L;
+    
+    private final SubmissionRepository submissionRepository = mock(SubmissionRepository.class);
+    private final SubmissionProgressCalculator submissionProgressCalculator = mock(SubmissionProgressCalculator.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    
+    // updateDraftJsonAll 이 0 건을 돌려줄 제출 id (버전 불일치)
+    private final Set<Long> staleIds = new HashSet<>();
+    
+    private SubmissionDraftBuffer buffer;
+    
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(submissionProgressCalculator.calculate(anyLong(), anyLong(), anyString())).thenReturn(new SubmissionProgress(1, 2));
+        when(submissionRepository.findByDraftVersion(anyLong(), anyLong(), anyLong())).thenReturn(BASE_VERSION);
+        when(submissionRepository.updateDraftJsonAll(anyList())).thenAnswer(invocation -> {
+            List<SubmissionDraftUpdate> updates = invocation.getArgument(0);
+            return updates.stream().mapToInt(update -> staleIds.contains(update.submissionId()) ? 0 : 1).toArray();
+        });
+        
+        buffer = new SubmissionDraftBuffer(submissionRepository, submissionProgressCalculator, transactionManager);
+        ReflectionTestUtils.setField(buffer, "enabled", true);
+        ReflectionTestUtils.setField(buffer, "maxEntries", 100);
+        ReflectionTestUtils.setField(buffer, "flushSize", 100);
+        ReflectionTestUtils.setField(buffer, "flushWaitTimeout", Duration.ofSeconds(1));
+        buffer.init();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        staleIds.clear();
+        buffer.shutdown();
+    }
+    
+    @DisplayName("연속 임시저장은 마지막 JSON 1건으로 합쳐지고 flush 때 기준 버전으로 저장")
+    @Test
+    void test1() {
+        assertThat(buffer.offer(draft(1L, "{\"a\":1}"))).isEqualTo(BASE_VERSION + 1);
+        assertThat(buffer.offer(draft(1L, "{\"a\":2}"))).isEqualTo(BASE_VERSION + 1);
+        assertThat(buffer.size()).isEqualTo(1);
+        verify(submissionRepository, times(1)).findByDraftVersion(1L, 10L, 20L);
+        
+        buffer.flush(1L);
+        
+        List<SubmissionDraftUpdate> updates = capturedUpdates().get(0);
+        assertThat(updates).hasSize(1);
+        assertThat(updates.get(0).submissionJson()).isEqualTo("{\"a\":2}");
+        assertThat(updates.get(0).baseVersion()).isEqualTo(BASE_VERSION);
+        assertThat(buffer.size()).isZero();
+    }
+    
+    @DisplayName("파일 변경 / 제출 완료(버전 없음) 임시저장은 버퍼에 넣지 않음")
+    @Test
+    void test2() {
+        SubmissionPostDraftRequest withFiles = draft(1L, "{}");
+        withFiles.getOptionFiles().add(new SubmissionPostDraftRequest.OptionFileRequest());
+        when(submissionRepository.findByDraftVersion(2L, 10L, 20L)).thenReturn(null);
+        
+        assertThat(buffer.offer(withFiles)).isNull();
+        assertThat(buffer.offer(draft(2L, "{}"))).isNull();
+        assertThat(buffer.size()).isZero();
+    }
+    
+    @DisplayName("호출한 트랜잭션이 롤백되면 버퍼에 다시 들어가고, 커밋되면 비워짐")
+    @Test
+    void test3() {
+        buffer.offer(draft(1L, "{\"a\":1}"));
+        
+        TransactionSynchronizationManager.initSynchronization();
+        buffer.flush(1L);
+        assertThat(buffer.size()).isZero();
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        
+        assertThat(buffer.size()).isEqualTo(1);
+        
+        TransactionSynchronizationManager.initSynchronization();
+        buffer.flush(1L);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        
+        assertThat(buffer.size()).isZero();
+        assertThat(capturedUpdates()).hasSize(2);
+    }
+    
+    @DisplayName("flushAll 은 flush-size 건씩 트랜잭션을 나눠서 저장")
+    @Test
+    void test4() {
+        for (long id = 1; id <= 5; id++) {
+            buffer.offer(draft(id, "{}"));
+        }
+        ReflectionTestUtils.setField(buffer, "flushSize", 2);
+        
+        buffer.flushAll();
+        
+        assertThat(capturedUpdates()).extracting(List::size).containsExactly(2, 2, 1);
+        verify(transactionManager, times(3)).commit(any());
+        assertThat(buffer.size()).isZero();
+    }
+    
+    @DisplayName("flushAll 저장이 실패하면 다시 버퍼에 넣음")
+    @Test
+    void test5() {
+        buffer.offer(draft(1L, "{}"));
+        when(submissionRepository.updateDraftJsonAll(anyList())).thenThrow(new IllegalStateException("db down"));
+        
+        buffer.flushAll();
+        
+        verify(transactionManager).rollback(any());
+        assertThat(buffer.size()).isEqualTo(1);
+    }
+    
+    @DisplayName("백그라운드 저장이 버전 불일치로 0 건이면 그 제출의 다음 요청 1번은 409")
+    @Test
+    void test6() {
+        buffer.offer(draft(1L, "{}"));
+        buffer.offer(draft(2L, "{}"));
+        buffer.offer(draft(3L, "{}"));
+        staleIds.addAll(List.of(1L, 2L));
+        
+        buffer.flushAll();
+        
+        assertThat(buffer.size()).isZero();
+        assertThatThrownBy(() -> buffer.flush(1L)).isInstanceOf(SubmissionVersionConflictException.class);
+        assertThatThrownBy(() -> buffer.offer(draft(2L, "{}"))).isInstanceOf(SubmissionVersionConflictException.class);
+        
+        // 한 번 알린 뒤에는 정상 처리, 충돌 없는 제출은 영향 없음
+        buffer.flush(1L);
+        buffer.flush(3L);
+        assertThat(buffer.offer(draft(2L, "{}"))).isEqualTo(BASE_VERSION + 1);
+    }
+    
+    @DisplayName("요청 안에서 flush 가 버전 불일치로 0 건이면 바로 409, 버퍼에 다시 넣지 않음")
+    @Test
+    void test7() {
+        buffer.offer(draft(1L, "{}"));
+        staleIds.add(1L);
+        
+        TransactionSynchronizationManager.initSynchronization();
+        assertThatThrownBy(() -> buffer.flush(1L)).isInstanceOf(SubmissionVersionConflictException.class);
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        
+        assertThat(buffer.size()).isZero();
+    }
+    
+    @DisplayName("flushMember 는 그 회원의 임시저장만 저장, 충돌은 목록에서 알리지 않고 다음 요청에서 409")
+    @Test
+    void test8() {
+        buffer.offer(draft(1L, 10L, "{}"));
+        buffer.offer(draft(2L, 10L, "{}"));
+        buffer.offer(draft(3L, 11L, "{}"));
+        staleIds.add(2L);
+        
+        buffer.flushMember(10L);
+        
+        assertThat(capturedUpdates()).flatExtracting(updates -> updates)
+                .extracting(SubmissionDraftUpdate::submissionId)
+                .containsExactlyInAnyOrder(1L, 2L);
+        assertThat(buffer.size()).isEqualTo(1);
+        assertThatThrownBy(() -> buffer.flush(2L)).isInstanceOf(SubmissionVersionConflictException.class);
+    }
+    
+    @DisplayName("꺼져 있으면 버퍼를 쓰지 않음")
+    @Test
+    void test9() {
+        ReflectionTestUtils.setField(buffer, "enabled", false);
+        
+        assertThat(buffer.offer(draft(1L, "{}"))).isNull();
+        buffer.flush(1L);
+        
+        verify(submissionRepository, never()).updateDraftJsonAll(anyList());
+    }
+    
+    private SubmissionPostDraftRequest draft(Long submissionId, String response) {
+        return draft(submissionId, 10L, response);
+    }
+    
+    private SubmissionPostDraftRequest draft(Long submissionId, Long memberId, String response) {
+        return new SubmissionPostDraftRequest(submissionId, memberId, 20L, response, new ArrayList<>());
+    }
+    
+    @SuppressWarnings("unchecked")
+    private List<List<SubmissionDraftUpdate>> capturedUpdates() {
+        ArgumentCaptor<List<SubmissionDraftUpdate>> captor = ArgumentCaptor.forClass(List.class);
+        verify(submissionRepository, atLeastOnce()).updateDraftJsonAll(captor.capture());
+        return captor.getAllValues();
+    }
+    
+    private void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+}
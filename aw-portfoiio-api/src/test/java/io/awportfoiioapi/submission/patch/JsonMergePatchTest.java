@@ -0,0 +1,68 @@
+package io.awportfoiioapi.submission.patch;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonMergePatchTest {
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    
+    @DisplayName("객체는 키 단위로 재귀 병합")
+    @Test
+    void test1() {
+        JsonNode result = apply("{\"a\":{\"b\":1,\"c\":2},\"d\":3}", "{\"a\":{\"b\":10,\"e\":4}}");
+        
+        assertThat(result).isEqualTo(json("{\"a\":{\"b\":10,\"c\":2,\"e\":4},\"d\":3}"));
+    }
+    
+    @DisplayName("null 값은 키 삭제 (없는 키면 무시)")
+    @Test
+    void test2() {
+        JsonNode result = apply("{\"a\":1,\"b\":{\"c\":2,\"d\":3}}", "{\"a\":null,\"b\":{\"c\":null},\"x\":null}");
+        
+        assertThat(result).isEqualTo(json("{\"b\":{\"d\":3}}"));
+    }
+    
+    @DisplayName("배열은 병합하지 않고 통째로 교체")
+    @Test
+    void test3() {
+        JsonNode result = apply("{\"list\":[1,2,3]}", "{\"list\":[{\"a\":null}]}");
+        
+        assertThat(result).isEqualTo(json("{\"list\":[{\"a\":null}]}"));
+    }
+    
+    @DisplayName("객체가 아닌 패치는 문서 전체 교체, 객체가 아닌 대상에 객체 패치는 새 객체")
+    @Test
+    void test4() {
+        assertThat(apply("{\"a\":1}", "[1,2]")).isEqualTo(json("[1,2]"));
+        assertThat(apply("{\"a\":1}", "\"text\"")).isEqualTo(json("\"text\""));
+        assertThat(apply("{\"a\":\"text\"}", "{\"a\":{\"b\":null,\"c\":1}}")).isEqualTo(json("{\"a\":{\"c\":1}}"));
+    }
+    
+    @DisplayName("원본은 변경하지 않음")
+    @Test
+    void test5() {
+        JsonNode target = json("{\"a\":{\"b\":1}}");
+        
+        JsonMergePatch.apply(target, json("{\"a\":{\"b\":2}}"));
+        
+        assertThat(target).isEqualTo(json("{\"a\":{\"b\":1}}"));
+    }
+    
+    private JsonNode apply(String target, String patch) {
+        return JsonMergePatch.apply(json(target), json(patch));
+    }
+    
+    private JsonNode json(String value) {
+        try {
+            return objectMapper.readTree(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package io.awportfoiioapi.submission.patch;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.awportfoiioapi.advice.exception.SubmissionPatchException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JsonPatchTest {
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    
+    @DisplayName("add : 객체 키 추가 / 기존 키 덮어쓰기")
+    @Test
+    void test1() {
+        JsonNode result = apply("{\"a\":1}", """
+                [{"op":"add","path":"/b","value":2},{"op":"add","path":"/a","value":3}]
+                """);
+        
+        assertThat(result).isEqualTo(json("{\"a\":3,\"b\":2}"));
+    }
+    
+    @DisplayName("add : 배열 인덱스 위치에 삽입 / - 는 맨 뒤에 추가")
+    @Test
+    void test2() {
+        JsonNode result = apply("{\"list\":[1,3]}", """
+                [{"op":"add","path":"/list/1","value":2},{"op":"add","path":"/list/-","value":4},{"op":"add","path":"/list/4","value":5}]
+                """);
+        
+        assertThat(result).isEqualTo(json("{\"list\":[1,2,3,4,5]}"));
+    }
+    
+    @DisplayName("add : 배열 범위를 벗어난 인덱스 / 0 으로 시작하는 인덱스는 실패")
+    @Test
+    void test3() {
+        assertThatThrownBy(() -> apply("{\"list\":[1]}", "[{\"op\":\"add\",\"path\":\"/list/2\",\"value\":2}]"))
+                .isInstanceOf(SubmissionPatchException.class)
+                .hasMessageContaining("잘못된 배열 인덱스");
+        assertThatThrownBy(() -> apply("{\"list\":[1,2]}", "[{\"op\":\"add\",\"path\":\"/list/01\",\"value\":2}]"))
+                .isInstanceOf(SubmissionPatchException.class);
+    }
+    
+    @DisplayName("remove : 객체 키 / 배열 요소 삭제, 없는 경로는 실패")
+    @Test
+    void test4() {
+        JsonNode result = apply("{\"a\":1,\"list\":[1,2,3]}", """
+                [{"op":"remove","path":"/a"},{"op":"remove","path":"/list/1"}]
+                """);
+        
+        assertThat(result).isEqualTo(json("{\"list\":[1,3]}"));
+        assertThatThrownBy(() -> apply("{\"a\":1}", "[{\"op\":\"remove\",\"path\":\"/b\"}]"))
+                .isInstanceOf(SubmissionPatchException.class)
+                .hasMessageContaining("존재하지 않는 경로");
+    }
+    
+    @DisplayName("replace : 기존 값 교체, 없는 경로는 실패")
+    @Test
+    void test5() {
+        JsonNode result = apply("{\"a\":1,\"list\":[1,2]}", """
+                [{"op":"replace","path":"/a","value":{"b":true}},{"op":"replace","path":"/list/0","value":9}]
+                """);
+        
+        assertThat(result).isEqualTo(json("{\"a\":{\"b\":true},\"list\":[9,2]}"));
+        assertThatThrownBy(() -> apply("{\"a\":1}", "[{\"op\":\"replace\",\"path\":\"/b\",\"value\":1}]"))
+                .isInstanceOf(SubmissionPatchException.class);
+    }
+    
+    @DisplayName("move : 값 이동, 자기 하위 경로로는 이동 불가")
+    @Test
+    void test6() {
+        JsonNode result = apply("{\"a\":{\"b\":1},\"list\":[1,2,3]}", """
+                [{"op":"move","from":"/a/b","path":"/c"},{"op":"move","from":"/list/0","path":"/list/-"}]
+                """);
+        
+        assertThat(result).isEqualTo(json("{\"a\":{},\"list\":[2,3,1],\"c\":1}"));
+        assertThatThrownBy(() -> apply("{\"a\":{\"b\":1}}", "[{\"op\":\"move\",\"from\":\"/a\",\"path\":\"/a/b\"}]"))
+                .isInstanceOf(SubmissionPatchException.class)
+                .hasMessageContaining("하위 경로");
+    }
+    
+    @DisplayName("copy : 깊은 복사 (복사본 변경이 원본에 반영되지 않음)")
+    @Test
+    void test7() {
+        JsonNode result = apply("{\"a\":{\"b\":1}}", """
+                [{"op":"copy","from":"/a","path":"/c"},{"op":"replace","path":"/c/b","value":2}]
+                """);
+        
+        assertThat(result).isEqualTo(json("{\"a\":{\"b\":1},\"c\":{\"b\":2}}"));
+    }
+    
+    @DisplayName("test : 값이 같으면 통과")
+    @Test
+    void test8() {
+        JsonNode result = apply("{\"a\":[1,{\"b\":\"x\"}]}", """
+                [{"op":"test","path":"/a/1/b","value":"x"},{"op":"add","path":"/ok","value":true}]
+                """);
+        
+        assertThat(result).isEqualTo(json("{\"a\":[1,{\"b\":\"x\"}],\"ok\":true}"));
+    }
+    
+    @DisplayName("test : 값이 다르면 400, 앞선 연산도 원본에 반영되지 않음")
+    @Test
+    void test9() {
+        JsonNode target = json("{\"a\":1}");
+        
+        assertThatThrownBy(() -> JsonPatch.apply(target, json("""
+                [{"op":"add","path":"/b","value":2},{"op":"test","path":"/a","value":2}]
+                """)))
+                .isInstanceOf(SubmissionPatchException.class)
+                .hasMessageContaining("test 연산")
+                .satisfies(e -> assertThat(((SubmissionPatchException) e).getStatus()).isEqualTo(HttpStatus.BAD_REQUEST));
+        assertThat(target).isEqualTo(json("{\"a\":1}"));
+    }
+    
+    @DisplayName("경로 이스케이프 : ~1 은 /, ~0 은 ~")
+    @Test
+    void test10() {
+        JsonNode result = apply("{\"a/b\":1,\"m~n\":2}", """
+                [{"op":"replace","path":"/a~1b","value":10},{"op":"move","from":"/m~0n","path":"/x~1~0"}]
+                """);
+        
+        assertThat(result).isEqualTo(json("{\"a/b\":10,\"x/~\":2}"));
+    }
+    
+    @DisplayName("빈 경로는 문서 전체 교체")
+    @Test
+    void test11() {
+        JsonNode result = apply("{\"a\":1}", "[{\"op\":\"replace\",\"path\":\"\",\"value\":{\"b\":2}}]");
+        
+        assertThat(result).isEqualTo(json("{\"b\":2}"));
+    }
+    
+    @DisplayName("잘못된 요청 : 배열 아님 / 지원하지 않는 연산 / value 없음")
+    @Test
+    void test12() {
+        assertThatThrownBy(() -> apply("{}", "{\"op\":\"add\",\"path\":\"/a\",\"value\":1}"))
+                .isInstanceOf(SubmissionPatchException.class);
+        assertThatThrownBy(() -> apply("{}", "[{\"op\":\"merge\",\"path\":\"/a\"}]"))
+                .isInstanceOf(SubmissionPatchException.class)
+                .hasMessageContaining("지원하지 않는 연산");
+        assertThatThrownBy(() -> apply("{}", "[{\"op\":\"add\",\"path\":\"/a\"}]"))
+                .isInstanceOf(SubmissionPatchException.class)
+                .hasMessageContaining("value");
+    }
+    
+    private JsonNode apply(String target, String operations) {
+        return JsonPatch.apply(json(target), json(operations));
+    }
+    
+    private JsonNode json(String value) {
+        try {
+            return objectMapper.readTree(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
@@ -2,12 +2,16 @@ package io.awportfoiioapi.submission.service.impl;
 
 import io.awportfoiioapi.RepositoryAndServiceTestSupport;
 import io.awportfoiioapi.apiresponse.ApiResponse;
+import io.awportfoiioapi.submission.document.CheckboxAnswer;
+import io.awportfoiioapi.submission.document.SubmissionDocument;
+import io.awportfoiioapi.submission.document.SubmissionDocumentReader;
 import io.awportfoiioapi.submission.dto.request.SubmissionPostDraftRequest;
 import io.awportfoiioapi.submission.dto.request.SubmissionPostRequest;
 import io.awportfoiioapi.submission.dto.response.SubmissionGetListRequest;
 import io.awportfoiioapi.submission.dto.response.SubmissionGetRequest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -17,8 +21,12 @@ import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.*;
+
 class SubmissionServiceImplTest extends RepositoryAndServiceTestSupport {
     
+    @Autowired
+    private SubmissionDocumentReader submissionDocumentReader;
     
     @DisplayName("작성폼 임시저장")
     @Test
@@ -152,4 +160,25 @@ class SubmissionServiceImplTest extends RepositoryAndServiceTestSupport {
         
         System.out.println("test = " + test);
     }
-}
\ No newline at end of file
+    
+    @DisplayName("제출 JSON 타입 모델 변환")
+    @Test
+    void test6() {
+        
+        String json = "{\"18\":\"111\"," +
+                "\"20\":{\"checked\":[\"기타\"],\"inputs\":{\"기타\":\"직접입력\"}}," +
+                "\"rooms\":[{\"id\":\"room-1\",\"name\":\"스탠다드\",\"capacity\":{\"standard\":2,\"max\":4}," +
+                "\"priceLow\":{\"weekday\":\"100000\",\"fri\":\"120000\",\"sat\":\"150000\",\"sun\":\"100000\"}}]," +
+                "\"refunds\":[{\"id\":\"refund-1\",\"day\":\"0\",\"percent\":\"0\"}]}";
+        
+        SubmissionDocument document = submissionDocumentReader.read(json);
+        
+        assertEquals("스탠다드", document.getRooms().get(0).getName());
+        assertEquals("2", document.getRooms().get(0).getCapacity().getStandard());
+        assertEquals("111", SubmissionDocument.text(document.getAnswer("18")));
+        
+        CheckboxAnswer checkbox = CheckboxAnswer.from(document.getAnswer("20"));
+        assertEquals("직접입력", checkbox.inputOf("기타"));
+        System.out.println("document = " + document);
+    }
+}
@@ -0,0 +1,4 @@
+-- load 프로파일 : Hibernate 스키마 생성 직후 실행 (한 줄에 한 문장)
+ALTER TABLE RSA ALTER COLUMN RSA_PRIVATE_KEY VARCHAR(4096);
+CREATE ALIAS LOAD_PRIVATE_KEY FOR 'io.awportfoiioapi.load.LoadKeys.privateKeyPem';
+INSERT INTO RSA (RSA_PRIVATE_KEY, REGIST_DATE, MODIFY_DATE) VALUES (LOAD_PRIVATE_KEY(), CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);